@@ -0,0 +1,162 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.Article;
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.BinaryRdfTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.BinaryRdfTripleSink.Encoding;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.NTriplesTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.TripleSink;
+
+/**
+ * Compares the binary output formats of {@link BinaryRdfTripleSink} with the text ones.
+ *
+ * 'write' maps the synthetic FOAF graph (see {@link FoafMapperFactory#createArticles(int, int)}) and serialises it
+ * in the format given by the 'format' parameter: TURTLE goes through a Jena model, as in
+ * {@link SerialisationBenchmark#modelTurtle()}, NTRIPLES uses {@link NTriplesTripleSink}, THRIFT and PROTOBUF use
+ * {@link BinaryRdfTripleSink}. 'read' parses the same output into a Jena model, ie, it measures what a
+ * downstream loader would do.
+ *
+ * The output size of each format is printed by the setup method, since JMH doesn't report it.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.MILLISECONDS )
+@Warmup ( iterations = 3, time = 2 )
+@Measurement ( iterations = 5, time = 2 )
+@Fork ( 1 )
+public class BinaryRdfBenchmark
+{
+	@Param ( { "1000" } )
+	private int size;
+
+	@Param ( { "5" } )
+	private int fanOut;
+
+	@Param ( { "TURTLE", "NTRIPLES", "THRIFT", "PROTOBUF" } )
+	private String format;
+
+	@Param ( { "false", "true" } )
+	private boolean isCompressed;
+
+	private List<Article> articles;
+
+	/** What {@link #write()} produces, used by {@link #read()} */
+	private byte[] output;
+
+	@Setup
+	public void setup ()
+	{
+		articles = FoafMapperFactory.createArticles ( size, fanOut );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream ();
+		writeTo ( out );
+		output = out.toByteArray ();
+
+		System.out.printf (
+			"%n%s%s output size: %,d bytes%n", format, isCompressed ? " (compressed)" : "", output.length
+		);
+	}
+
+	@Benchmark
+	public void write () {
+		writeTo ( OutputStream.nullOutputStream () );
+	}
+
+	@Benchmark
+	public Model read () throws IOException
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		InputStream in = new ByteArrayInputStream ( output );
+
+		if ( isBinary () ) {
+			BinaryRdfTripleSink.read (
+				StreamRDFLib.graph ( model.getGraph () ), in, getEncoding (), isCompressed
+			);
+			return model;
+		}
+
+		if ( isCompressed ) in = new GZIPInputStream ( in, 1 << 16 );
+		RDFDataMgr.read ( model, in, "TURTLE".equals ( format ) ? Lang.TURTLE : Lang.NTRIPLES );
+		return model;
+	}
+
+
+	private void writeTo ( OutputStream out )
+	{
+		if ( isBinary () )
+		{
+			try ( BinaryRdfTripleSink sink = new BinaryRdfTripleSink ( out, getEncoding (), isCompressed ) ) {
+				map ( new FoafMapperFactory ( null ), sink );
+			}
+			return;
+		}
+
+		try ( OutputStream tout = isCompressed ? new GZIPOutputStream ( out, 1 << 16 ) : out )
+		{
+			if ( "NTRIPLES".equals ( format ) )
+			{
+				try ( NTriplesTripleSink sink = new NTriplesTripleSink ( tout ) ) {
+					map ( new FoafMapperFactory ( null ), sink );
+				}
+				return;
+			}
+
+			// Turtle, via a model, which is needed to write it with prefixes and grouped statements
+			Model model = ModelFactory.createDefaultModel ();
+			FoafMapperFactory mapFactory = new FoafMapperFactory ( model );
+			for ( Article article: articles )
+				mapFactory.map ( article );
+			RDFDataMgr.write ( tout, model, Lang.TURTLE );
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while writing the benchmark output: " + ex.getMessage (), ex );
+		}
+	}
+
+	private void map ( FoafMapperFactory mapFactory, TripleSink sink )
+	{
+		mapFactory.setTripleSink ( sink );
+		for ( Article article: articles )
+			mapFactory.map ( article );
+	}
+
+	private boolean isBinary () {
+		return "THRIFT".equals ( format ) || "PROTOBUF".equals ( format );
+	}
+
+	private Encoding getEncoding () {
+		return Encoding.valueOf ( format );
+	}
+}
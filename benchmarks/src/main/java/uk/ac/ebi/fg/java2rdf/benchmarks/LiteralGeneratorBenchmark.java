@@ -0,0 +1,66 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.jena.rdf.model.Literal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfLiteralGenerator;
+
+/**
+ * Measures {@link RdfLiteralGenerator#getLiteral(Object)} for common Java types.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 3, time = 2 )
+@Measurement ( iterations = 5, time = 2 )
+@Fork ( 1 )
+public class LiteralGeneratorBenchmark
+{
+	@Param ( { "string", "int", "long", "double", "boolean", "date" } )
+	private String type;
+	
+	private Object value;
+	private RdfLiteralGenerator<Object> generator;
+	
+	@Setup
+	public void setup ()
+	{
+		switch ( type ) 
+		{
+			case "string": value = "A test string value"; break;
+			case "int": value = 123; break;
+			case "long": value = 1234567890123L; break;
+			case "double": value = 2.5d; break;
+			case "boolean": value = true; break;
+			case "date": value = new Date ( 1760000000000L ); break;
+			default: throw new IllegalArgumentException ( "Unsupported literal type '" + type + "'" );
+		}
+		
+		generator = new RdfLiteralGenerator<> ();
+		// Streaming-like setting, no graph model
+		generator.setMapperFactory ( new RdfMapperFactory () );
+	}
+	
+	@Benchmark
+	public Literal getLiteral () {
+		return generator.getLiteral ( value );
+	}
+}
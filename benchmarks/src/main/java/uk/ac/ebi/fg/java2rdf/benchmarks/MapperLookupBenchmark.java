@@ -0,0 +1,129 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.ObjRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+
+/**
+ * Measures the cost of {@link RdfMapperFactory#getMapper(Class)} for classes that are at different depths from the
+ * class/interface the mapper is registered for.
+ * 
+ * The 'legacy' benchmarks use the un-cached hierarchy walk that the factory used before caching the lookups, 
+ * so that the two can be compared.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 3, time = 2 )
+@Measurement ( iterations = 5, time = 2 )
+@Fork ( 1 )
+@SuppressWarnings ( { "rawtypes", "unchecked" } )
+public class MapperLookupBenchmark
+{
+	/** The mapped type, all the classes below reach it at the top of their hierarchy */ 
+	public interface Mapped {}
+	
+	public interface Ifc1 {}
+	public interface Ifc2 extends Ifc1 {}
+	public interface Ifc3 extends Ifc2 {}
+	
+	public static class Level0 implements Mapped {}
+	public static class Level1 extends Level0 implements Ifc1 {}
+	public static class Level2 extends Level1 implements Ifc2 {}
+	public static class Level3 extends Level2 implements Ifc3 {}
+	public static class Level4 extends Level3 implements Ifc1 {}
+	public static class Level5 extends Level4 implements Ifc2 {}
+	public static class Level6 extends Level5 implements Ifc3 {}
+	public static class Level7 extends Level6 implements Ifc1 {}
+	public static class Level8 extends Level7 implements Ifc2 {}
+	public static class Level9 extends Level8 implements Ifc3 {}
+	public static class Level10 extends Level9 implements Ifc1 {}
+	public static class Level11 extends Level10 implements Ifc2 {}
+	public static class Level12 extends Level11 implements Ifc3 {}
+	
+	private static final Class[] LEVELS = new Class[] { 
+		Level0.class, Level1.class, Level2.class, Level3.class, Level4.class, Level5.class, Level6.class, 
+		Level7.class, Level8.class, Level9.class, Level10.class, Level11.class, Level12.class 
+	};
+	
+	@Param ( { "0", "4", "8", "12" } )
+	private int depth;
+	
+	private RdfMapperFactory mapFactory;
+	private Class targetClass;
+	private Object targetObject;
+	
+	@Setup
+	public void setup () throws Exception
+	{
+		mapFactory = new RdfMapperFactory ();
+		mapFactory.setMapper ( Mapped.class, new BeanRdfMapper<Mapped> ( 
+			"http://www.example.com/Mapped", 
+			new RdfUriGenerator<Mapped> () {
+				@Override
+				public String getUri ( Mapped source, Map<String, Object> params ) {
+					return "http://www.example.com/mapped";
+				}
+			}
+		));
+		targetClass = LEVELS [ depth ];
+		targetObject = targetClass.getDeclaredConstructor ().newInstance ();
+	}
+	
+	@Benchmark
+	public ObjRdfMapper getMapper () {
+		return mapFactory.getMapper ( targetClass );
+	}
+
+	@Benchmark
+	public ObjRdfMapper getMapperLegacy () {
+		return legacyGetMapper ( mapFactory.getMappers (), targetClass );
+	}
+	
+	@Benchmark
+	public RdfUriGenerator getRdfUriGenerator () {
+		return mapFactory.getRdfUriGenerator ( targetClass );
+	}
+
+	@Benchmark
+	public RdfUriGenerator getRdfUriGeneratorLegacy () {
+		return ( (BeanRdfMapper) legacyGetMapper ( mapFactory.getMappers (), targetObject.getClass () ) ).getRdfUriGenerator ();
+	}
+	
+	/**
+	 * The mapper lookup, as it was implemented before caching.
+	 */
+	private static ObjRdfMapper legacyGetMapper ( Map<Class, ObjRdfMapper> mappers, Class clazz )
+	{
+		ObjRdfMapper result = mappers.get ( clazz );
+		if ( result != null ) return result;
+		
+		Class sup = clazz.getSuperclass ();
+		if ( sup != null && ( result = legacyGetMapper ( mappers, sup ) ) != null ) return result;
+		
+		for ( Class<?> ifc: clazz.getInterfaces () ) 
+			if ( ( result = legacyGetMapper ( mappers, ifc ) ) != null ) return result;
+
+		return null;
+	}
+}
@@ -0,0 +1,81 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.Article;
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.TraversalMode;
+
+/**
+ * Measures {@link RdfMapperFactory#map(Object)} over synthetic object graphs (see 
+ * {@link FoafMapperFactory#createArticles(int, int)}) of different sizes and fan-outs. 
+ * 
+ * The triples go to a sink that sends them to the JMH black hole, so that this measures the mapping only, not the 
+ * storage or serialisation of the output (see {@link SerialisationBenchmark} for that). 
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.Throughput )
+@OutputTimeUnit ( TimeUnit.SECONDS )
+@Warmup ( iterations = 3, time = 2 )
+@Measurement ( iterations = 5, time = 2 )
+@Fork ( 1 )
+public class MappingBenchmark
+{
+	/** The no. of root objects (articles) */
+	@Param ( { "100", "10000" } )
+	private int size;
+
+	/** The no. of links (authors) per article */
+	@Param ( { "3", "30" } )
+	private int fanOut;
+	
+	@Param ( { "RECURSIVE", "DEPTH_FIRST" } )
+	private TraversalMode traversalMode;
+	
+	/** Interpreted mappers vs {@link uk.ac.ebi.fg.java2rdf.mapping.MappingPlan mapping plans} */
+	@Param ( { "false", "true" } )
+	private boolean isPlanCompilationEnabled;
+	
+	private List<Article> articles;
+	private FoafMapperFactory mapFactory;
+	
+	@Setup
+	public void setup ()
+	{
+		articles = FoafMapperFactory.createArticles ( size, fanOut );
+		mapFactory = new FoafMapperFactory ( null );
+		mapFactory.setTraversalMode ( traversalMode );
+		mapFactory.setPlanCompilationEnabled ( isPlanCompilationEnabled );
+	}
+	
+	/**
+	 * Maps all the articles, each operation is one full graph. 
+	 */
+	@Benchmark
+	public void map ( Blackhole blackhole )
+	{
+		// This also resets the visited objects 
+		mapFactory.setTripleSink ( ( s, p, o ) -> blackhole.consume ( o ) );
+		for ( Article article: articles )
+			mapFactory.map ( article );
+	}
+}
@@ -0,0 +1,87 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.commons.beanutils.PropertyUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.Article;
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.Person;
+import uk.ac.ebi.fg.java2rdf.utils.PropertyAccessors;
+
+/**
+ * Compares the per-property read cost of commons-beanutils, which the property mappers used to use, with the 
+ * compiled accessors in {@link PropertyAccessors}, on the FOAF example model.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 3, time = 2 )
+@Measurement ( iterations = 5, time = 2 )
+@Fork ( 1 )
+public class PropertyAccessBenchmark
+{
+	/** Properties of different types (object, primitive, collection), in the form 'Class.property' */
+	@Param ( { "Person.name", "Article.id", "Article.authors" } )
+	private String property;
+	
+	private Object bean;
+	private String propertyName;
+	private final PropertyAccessors accessors = new PropertyAccessors ();
+	private Function<Object, Object> accessor;
+	
+	@Setup
+	public void setup ()
+	{
+		Person person = new Person ( "jdoe@somewhere.net", "John", "Doe" );
+		Article article = new Article ( 123, "The Semantic Web", "A new form of Web content" );
+		article.setEditor ( person );
+		article.getAuthors ().add ( person );
+		
+		String[] chunks = property.split ( "\\." );
+		bean = "Person".equals ( chunks [ 0 ] ) ? person : article;
+		propertyName = chunks [ 1 ];
+		accessor = accessors.getAccessor ( bean.getClass (), propertyName );
+	}
+	
+	@Benchmark
+	public Object beanUtils () throws Exception {
+		return PropertyUtils.getSimpleProperty ( bean, propertyName );
+	}
+
+	/** The accessor lookup plus its invocation */
+	@Benchmark
+	public Object propertyAccessors () {
+		return accessors.getProperty ( bean, propertyName );
+	}
+
+	/** The accessor invocation only, as it happens in the property mappers, which cache the accessor */
+	@Benchmark
+	public Object cachedAccessor () {
+		return accessor.apply ( bean );
+	}
+
+	/** The baseline, a direct getter call */
+	@Benchmark
+	public Object directGetter () 
+	{
+		return bean instanceof Person 
+			? ( (Person) bean ).getName () 
+			: "id".equals ( propertyName ) ? (Object) ( (Article) bean ).getId () : ( (Article) bean ).getAuthors ();
+	}
+}
@@ -0,0 +1,92 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.Article;
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.NTriplesTripleSink;
+
+/**
+ * End-to-end benchmarks: from the Java objects to serialised RDF. The output is written to a null stream, so that 
+ * disk I/O doesn't affect the results.
+ * 
+ * 'modelTurtle' is the traditional usage: mapping into a Jena model, then writing it. 'streamNTriples' uses 
+ * {@link NTriplesTripleSink}, which doesn't keep the triples in memory.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.Throughput )
+@OutputTimeUnit ( TimeUnit.SECONDS )
+@Warmup ( iterations = 3, time = 2 )
+@Measurement ( iterations = 5, time = 2 )
+@Fork ( 1 )
+public class SerialisationBenchmark
+{
+	@Param ( { "1000" } )
+	private int size;
+
+	@Param ( { "5" } )
+	private int fanOut;
+
+	private List<Article> articles;
+	
+	@Setup
+	public void setup () {
+		articles = FoafMapperFactory.createArticles ( size, fanOut );
+	}
+	
+	@Benchmark
+	public void modelTurtle ()
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mapFactory = new FoafMapperFactory ( model );
+		for ( Article article: articles )
+			mapFactory.map ( article );
+		
+		RDFDataMgr.write ( OutputStream.nullOutputStream (), model, Lang.TURTLE );
+	}
+	
+	@Benchmark
+	public void modelNTriples ()
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mapFactory = new FoafMapperFactory ( model );
+		for ( Article article: articles )
+			mapFactory.map ( article );
+		
+		RDFDataMgr.write ( OutputStream.nullOutputStream (), model, Lang.NTRIPLES );
+	}
+
+	@Benchmark
+	public void streamNTriples ()
+	{
+		try ( NTriplesTripleSink sink = new NTriplesTripleSink ( OutputStream.nullOutputStream () ) )
+		{
+			FoafMapperFactory mapFactory = new FoafMapperFactory ( null );
+			mapFactory.setTripleSink ( sink );
+			for ( Article article: articles )
+				mapFactory.map ( article );
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.Article;
+import uk.ac.ebi.fg.java2rdf.benchmarks.foaf.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.UriTemplateGenerator;
+
+/**
+ * Compares {@link UriTemplateGenerator} with the ad-hoc generators of {@link FoafMapperFactory}, which concatenate
+ * strings and resolve a namespace prefix per URI.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 3, time = 2 )
+@Measurement ( iterations = 5, time = 2 )
+@Fork ( 1 )
+public class UriGeneratorBenchmark
+{
+	@Param ( { "adhoc", "template" } )
+	private String generatorType;
+
+	/** article uses a plain id, person a hashed email */
+	@Param ( { "article", "person" } )
+	private String entity;
+
+	private Object source;
+	private RdfUriGenerator<Object> generator;
+
+	@Setup
+	@SuppressWarnings ( "unchecked" )
+	public void setup ()
+	{
+		// Registers the namespaces
+		new FoafMapperFactory ( null );
+
+		Article article = FoafMapperFactory.createArticles ( 1, 1 ).get ( 0 );
+		boolean isArticle = "article".equals ( entity );
+		source = isArticle ? article : article.getEditor ();
+
+		if ( "template".equals ( generatorType ) )
+			generator = new UriTemplateGenerator<> ( isArticle ? "ex:article/{id}" : "ex:person/{email:hash}" );
+		else
+			generator = (RdfUriGenerator<Object>) ( isArticle 
+				? new FoafMapperFactory.ArticleMapper ().getRdfUriGenerator ()
+				: new FoafMapperFactory.PersonMapper ().getRdfUriGenerator () 
+			);
+	}
+
+	@Benchmark
+	public String getUri () {
+		return generator.getUri ( source );
+	}
+}
@@ -0,0 +1,82 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks.foaf;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A copy of the FOAF example model used in the java2rdf tests. 
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class Article
+{
+	private int id;
+	private String title, abstractText;
+	private Person editor;
+	private Set<Person> authors = new HashSet<> ();
+
+	public Article ()
+	{
+		super ();
+	}
+
+	public Article ( int id, String title, String abstractText )
+	{
+		super ();
+		this.id = id;
+		this.title = title;
+		this.abstractText = abstractText;
+	}
+
+	public int getId ()
+	{
+		return id;
+	}
+
+	public void setId ( int id )
+	{
+		this.id = id;
+	}
+
+	public String getTitle ()
+	{
+		return title;
+	}
+
+	public void setTitle ( String title )
+	{
+		this.title = title;
+	}
+
+	public String getAbstractText ()
+	{
+		return abstractText;
+	}
+
+	public void setAbstractText ( String abstractText )
+	{
+		this.abstractText = abstractText;
+	}
+
+	public Person getEditor ()
+	{
+		return editor;
+	}
+
+	public void setEditor ( Person editor )
+	{
+		this.editor = editor;
+	}
+
+	public Set<Person> getAuthors ()
+	{
+		return authors;
+	}
+
+	public void setAuthors ( Set<Person> authors )
+	{
+		this.authors = authors;
+	}
+}
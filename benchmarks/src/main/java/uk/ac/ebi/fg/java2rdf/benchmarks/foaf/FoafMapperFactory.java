@@ -0,0 +1,105 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks.foaf;
+
+import static info.marcobrandizi.rdfutils.namespaces.NamespaceUtils.iri;
+import static uk.ac.ebi.utils.ids.IdUtils.hashUriSignature;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.rdf.model.Model;
+
+import info.marcobrandizi.rdfutils.namespaces.NamespaceUtils;
+import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.CollectionPropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.CompositePropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.LiteralPropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.ResourcePropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+
+/**
+ * A copy of the FOAF example mappers used in the java2rdf tests, plus a generator of synthetic object graphs. 
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class FoafMapperFactory extends RdfMapperFactory
+{
+	public static final String EXNS = "http://www.example.com/ex/";
+
+	public static class ArticleMapper extends BeanRdfMapper<Article>
+	{
+		{
+			this.setRdfUriGenerator ( new RdfUriGenerator<Article> () {
+				@Override
+				public String getUri ( Article source, Map<String, Object> params ) {
+					return iri ( "ex:article/" + source.getId () );
+				}
+			});
+			this.setRdfClassUri ( iri ( "foaf", "Document" ) );
+			this.addPropertyMapper ( "title", new LiteralPropRdfMapper<Article, String> ( iri ( "dcterms", "title" ) ) );
+			this.addPropertyMapper ( "editor", new ResourcePropRdfMapper<Article, Person> ( iri ( "dcterms", "publisher" )) );
+			this.addPropertyMapper ( "authors", new CollectionPropRdfMapper<Article, Person, String> ( 
+				new ResourcePropRdfMapper<Article, Person> ( iri ( "dcterms", "creator" ) ) 
+			));
+			this.addPropertyMapper ( "abstractText", new CompositePropRdfMapper<> (
+				new LiteralPropRdfMapper<Article, String> ( iri ( "dcterms:abstract" ) ),
+				new LiteralPropRdfMapper<Article, String> ( iri ( "rdfs:comment" ) ) 
+			));
+		}
+	}
+
+	public static class PersonMapper extends BeanRdfMapper<Person>
+	{
+		{
+			this.setRdfUriGenerator ( new RdfUriGenerator<Person> () {
+				@Override
+				public String getUri ( Person source, Map<String, Object> params ) {
+					return iri ( "ex:person/" + hashUriSignature ( source.getEmail () ) );
+				}
+			});
+			this.setRdfClassUri ( iri ( "foaf", "Person" ) );
+			this.addPropertyMapper ( "name", new LiteralPropRdfMapper<Person, String> ( iri ( "foaf:givenName" ) ) );
+			this.addPropertyMapper ( "surname", new LiteralPropRdfMapper<Person, String> ( iri ( "foaf:familyName" ) ) );
+		}	
+	}
+	
+	static 
+	{
+		NamespaceUtils.registerNs ( "ex", EXNS );
+		NamespaceUtils.registerNs ( "foaf",	"http://xmlns.com/foaf/0.1/" );
+	}
+	
+	public FoafMapperFactory ( Model graphModel )
+	{
+		super ( graphModel );
+		this.setMapper ( Article.class, new ArticleMapper () );
+		this.setMapper ( Person.class, new PersonMapper () );
+	}
+	
+	/**
+	 * A synthetic object graph, made of nArticles articles, each having fanOut authors and an editor. Persons are
+	 * taken from a pool of nArticles * fanOut / 4 people (at least fanOut + 1), so they're shared between articles, 
+	 * like in real data.  
+	 */
+	public static List<Article> createArticles ( int nArticles, int fanOut )
+	{
+		int nPersons = Math.max ( fanOut + 1, nArticles * fanOut / 4 );
+		List<Person> persons = new ArrayList<> ( nPersons );
+		for ( int i = 0; i < nPersons; i++ )
+			persons.add ( new Person ( "person" + i + "@somewhere.net", "Name " + i, "Surname " + i ) );
+		
+		List<Article> articles = new ArrayList<> ( nArticles );
+		for ( int i = 0; i < nArticles; i++ )
+		{
+			Article article = new Article ( i, "Article " + i, "Abstract for the article " + i );
+			article.setEditor ( persons.get ( i % nPersons ) );
+			for ( int j = 1; j <= fanOut; j++ )
+				article.getAuthors ().add ( persons.get ( ( i * fanOut + j ) % nPersons ) );
+			articles.add ( article );
+		}
+		return articles;
+	}
+}
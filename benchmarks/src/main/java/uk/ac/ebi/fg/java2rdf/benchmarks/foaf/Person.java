@@ -0,0 +1,56 @@
+package uk.ac.ebi.fg.java2rdf.benchmarks.foaf;
+
+/**
+ * A copy of the FOAF example model used in the java2rdf tests. 
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class Person
+{
+	private String email, name, surname;
+
+	public Person ()
+	{
+		super ();
+	}
+
+	public Person ( String email, String name, String surname )
+	{
+		super ();
+		this.email = email;
+		this.name = name;
+		this.surname = surname;
+	}
+
+	public String getEmail ()
+	{
+		return email;
+	}
+
+	public void setEmail ( String email )
+	{
+		this.email = email;
+	}
+
+	public String getName ()
+	{
+		return name;
+	}
+
+	public void setName ( String name )
+	{
+		this.name = name;
+	}
+
+	public String getSurname ()
+	{
+		return surname;
+	}
+
+	public void setSurname ( String surname )
+	{
+		this.surname = surname;
+	}
+}
@@ -0,0 +1,31 @@
+package uk.ac.ebi.fg.java2rdf.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import uk.ac.ebi.fg.java2rdf.annotations.processor.RdfMapperProcessor;
+
+/**
+ * Marks a JavaBean class to be mapped to RDF. {@link RdfMapperProcessor} generates a 
+ * {@link uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper} for it, named &lt;Bean&gt;RdfMapper, based on this annotation 
+ * and the {@link RdfUri}, {@link RdfLiteral}, {@link RdfLink} annotations on the class getters.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@Documented
+@Retention ( RetentionPolicy.SOURCE )
+@Target ( ElementType.TYPE )
+public @interface RdfClass
+{
+	/**
+	 * The URI of the RDF class the bean instances are mapped to (rdf:type). This can be a prefixed URI (eg, 
+	 * 'foaf:Person'), which is expanded via {@link info.marcobrandizi.rdfutils.namespaces.NamespaceUtils#iri(String)}. 
+	 * If it's empty, no rdf:type statement is generated.
+	 */
+	String value () default "";
+}
@@ -0,0 +1,30 @@
+package uk.ac.ebi.fg.java2rdf.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the getter of an {@link RdfClass} bean that links another object, via the RDF properties in this 
+ * annotation (a statement per property). If the getter returns a collection, each object is linked. The linked
+ * objects are mapped too, via the factory, so they need a mapper.
+ * 
+ * This is the same as {@link uk.ac.ebi.fg.java2rdf.mapping.properties.ResourcePropRdfMapper}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@Documented
+@Retention ( RetentionPolicy.SOURCE )
+@Target ( ElementType.METHOD )
+public @interface RdfLink
+{
+	/**
+	 * The RDF property URIs, prefixed URIs are expanded via 
+	 * {@link info.marcobrandizi.rdfutils.namespaces.NamespaceUtils#iri(String)}.
+	 */
+	String[] value ();
+}
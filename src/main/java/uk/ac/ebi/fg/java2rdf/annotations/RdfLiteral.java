@@ -0,0 +1,29 @@
+package uk.ac.ebi.fg.java2rdf.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the getter of an {@link RdfClass} bean that is mapped to literal values, via the RDF properties in 
+ * this annotation (a statement per property). If the getter returns a collection, each value is mapped.
+ * 
+ * This is the same as {@link uk.ac.ebi.fg.java2rdf.mapping.properties.LiteralPropRdfMapper}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@Documented
+@Retention ( RetentionPolicy.SOURCE )
+@Target ( ElementType.METHOD )
+public @interface RdfLiteral
+{
+	/**
+	 * The RDF property URIs, prefixed URIs are expanded via 
+	 * {@link info.marcobrandizi.rdfutils.namespaces.NamespaceUtils#iri(String)}.
+	 */
+	String[] value ();
+}
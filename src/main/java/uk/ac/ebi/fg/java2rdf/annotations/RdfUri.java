@@ -0,0 +1,30 @@
+package uk.ac.ebi.fg.java2rdf.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the getter of an {@link RdfClass} bean that returns its identifier. The bean URI is this annotation value
+ * followed by the identifier, which is percent-encoded (so, eg, 'a b/c' becomes 'a%20b%2Fc'). A bean with a null 
+ * identifier isn't mapped.
+ * 
+ * There must be exactly one getter with this annotation in an {@link RdfClass} bean.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@Documented
+@Retention ( RetentionPolicy.SOURCE )
+@Target ( ElementType.METHOD )
+public @interface RdfUri
+{
+	/**
+	 * The URI prefix, eg, 'ex:article/'. Prefixed URIs are expanded via 
+	 * {@link info.marcobrandizi.rdfutils.namespaces.NamespaceUtils#iri(String)}.
+	 */
+	String value ();
+}
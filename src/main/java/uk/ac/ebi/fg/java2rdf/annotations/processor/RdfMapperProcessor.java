@@ -0,0 +1,389 @@
+package uk.ac.ebi.fg.java2rdf.annotations.processor;
+
+import java.beans.Introspector;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+import uk.ac.ebi.fg.java2rdf.annotations.RdfClass;
+import uk.ac.ebi.fg.java2rdf.annotations.RdfLink;
+import uk.ac.ebi.fg.java2rdf.annotations.RdfLiteral;
+import uk.ac.ebi.fg.java2rdf.annotations.RdfUri;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.UriTemplateGenerator;
+
+/**
+ * An annotation processor that generates RDF mappers from JavaBeans annotated with {@link RdfClass}.
+ *
+ * For each such bean, it generates a {@link uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper} named &lt;Bean&gt;RdfMapper,
+ * in the same package, which maps the bean getters annotated with {@link RdfUri}, {@link RdfLiteral}, {@link RdfLink}.
+ * The generated mappers read the properties via method references, so no reflection is needed at runtime and
+ * misplaced annotations or type mismatches are reported at compile time.
+ *
+ * The bean URIs are the {@link RdfUri} prefix, expanded once per mapper, followed by the percent-encoded
+ * identifier (see {@link UriTemplateGenerator#percentEncode(String)}).
+ *
+ * For each package having annotated beans, it also generates a GeneratedRdfMapperFactory, which has all the
+ * mappers in the package, and a static registerMappers() method to add them to another factory. Normally, the beans
+ * are all found in the first processing round. If a later round brings new beans for a package (eg, because another
+ * processor generates them), the factory for the package was already generated, so their mappers go into a
+ * new factory, named GeneratedRdfMapperFactory2, GeneratedRdfMapperFactory3, etc. A note is issued when this happens.
+ *
+ * The processor is registered via META-INF/services, so it's used automatically by javac when java2rdf is in
+ * the compilation classpath.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class RdfMapperProcessor extends AbstractProcessor
+{
+	public static final String FACTORY_NAME = "GeneratedRdfMapperFactory";
+	private static final String MAPPING_PKG = "uk.ac.ebi.fg.java2rdf.mapping";
+
+	/** package -> [ bean type reference, mapper class name ] */
+	private final Map<String, List<String[]>> mappersByPackage = new LinkedHashMap<> ();
+
+	/** package -> bean types, used as originating elements for the factory */
+	private final Map<String, List<Element>> beansByPackage = new LinkedHashMap<> ();
+	
+	/** package -> the no. of factories generated so far for it */
+	private final Map<String, Integer> factoryCounts = new HashMap<> ();
+
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes ()
+	{
+		return Set.of (
+			RdfClass.class.getName (), RdfUri.class.getName (), RdfLiteral.class.getName (), RdfLink.class.getName ()
+		);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion () {
+		return SourceVersion.latestSupported ();
+	}
+
+	@Override
+	public boolean process ( Set<? extends TypeElement> annotations, RoundEnvironment roundEnv )
+	{
+		for ( Element elem: roundEnv.getElementsAnnotatedWith ( RdfClass.class ) )
+		{
+			if ( elem.getKind () != ElementKind.CLASS ) {
+				error ( elem, "@RdfClass can only be used with classes" );
+				continue;
+			}
+			generateMapper ( (TypeElement) elem );
+		}
+
+		// Property annotations must be within a mapped class
+		for ( Class<? extends java.lang.annotation.Annotation> propAnn: List.of ( RdfUri.class, RdfLiteral.class, RdfLink.class ) )
+			for ( Element elem: roundEnv.getElementsAnnotatedWith ( propAnn ) )
+				if ( elem.getEnclosingElement ().getAnnotation ( RdfClass.class ) == null
+						 && !isInheritedByRdfClass ( elem, roundEnv ) )
+					warning ( elem, "@" + propAnn.getSimpleName () + " is ignored outside of @RdfClass classes and their superclasses" );
+
+		// Sources generated in the last round aren't compiled, so the factories are generated with the beans they 
+		// refer to. Beans are usually found in the first round only.
+		generateFactories ();
+		return true;
+	}
+
+
+	private void generateMapper ( TypeElement beanType )
+	{
+		Elements elements = processingEnv.getElementUtils ();
+
+		String pkg = elements.getPackageOf ( beanType ).getQualifiedName ().toString ();
+		String beanRef = beanType.getQualifiedName ().toString ();
+		if ( !pkg.isEmpty () ) beanRef = beanRef.substring ( pkg.length () + 1 );
+		String mapperName = beanRef.replace ( '.', '_' ) + "RdfMapper";
+
+		StringBuilder props = new StringBuilder ();
+		String uriGetter = null, uriPrefix = null;
+		boolean isOk = true;
+
+		for ( ExecutableElement getter: ElementFilter.methodsIn ( elements.getAllMembers ( beanType ) ) )
+		{
+			RdfUri uriAnn = getter.getAnnotation ( RdfUri.class );
+			RdfLiteral litAnn = getter.getAnnotation ( RdfLiteral.class );
+			RdfLink linkAnn = getter.getAnnotation ( RdfLink.class );
+			if ( uriAnn == null && litAnn == null && linkAnn == null ) continue;
+
+			String propName = getPropertyName ( getter );
+			if ( propName == null ) { isOk = false; continue; }
+			String getterName = getter.getSimpleName ().toString ();
+
+			if ( uriAnn != null )
+			{
+				if ( uriGetter != null ) {
+					error ( getter, "%s has more than one @RdfUri getter", beanType.getQualifiedName () );
+					isOk = false;
+				}
+				uriGetter = getterName;
+				uriPrefix = uriAnn.value ();
+			}
+
+			if ( litAnn == null && linkAnn == null ) continue;
+
+			TypeMirror propType = getter.getReturnType ();
+			String propTypeRef = typeRef ( propType );
+			TypeMirror elemType = getCollectionElementType ( propType );
+			String elemTypeRef = elemType == null ? null : typeRef ( elemType );
+
+			List<String> mappers = new ArrayList<> ();
+			if ( litAnn != null ) for ( String propUri: litAnn.value () )
+			{
+				if ( elemType == null )
+					mappers.add ( String.format ( "new LiteralPropRdfMapper<%s, %s> ( %s )", beanRef, propTypeRef, uriExpr ( propUri ) ) );
+				else
+					mappers.add ( String.format (
+						"new CollectionPropRdfMapper<%1$s, %2$s, Literal> ( new LiteralPropRdfMapper<%1$s, %2$s> ( %3$s ) )",
+						beanRef, elemTypeRef, uriExpr ( propUri )
+					));
+			}
+			if ( linkAnn != null ) for ( String propUri: linkAnn.value () )
+			{
+				if ( elemType == null )
+					mappers.add ( String.format ( "new ResourcePropRdfMapper<%s, %s> ( %s )", beanRef, propTypeRef, uriExpr ( propUri ) ) );
+				else
+					mappers.add ( String.format (
+						"new CollectionPropRdfMapper<%1$s, %2$s, String> ( new ResourcePropRdfMapper<%1$s, %2$s> ( %3$s ) )",
+						beanRef, elemTypeRef, uriExpr ( propUri )
+					));
+			}
+
+			String mapperExpr = mappers.size () == 1
+				? mappers.get ( 0 )
+				: String.format (
+						"new CompositePropRdfMapper<%s, %s> (\n\t\t\t\t%s\n\t\t\t)",
+						beanRef, elemType == null ? propTypeRef : "java.util.Collection<" + elemTypeRef + ">",
+						String.join ( ",\n\t\t\t\t", mappers )
+					);
+
+			props.append ( String.format (
+				"\t\tthis.addPropertyMapper ( \"%s\", %s::%s, %s );\n", propName, beanRef, getterName, mapperExpr
+			));
+		}
+
+		if ( uriGetter == null ) {
+			error ( beanType, "%s needs a getter annotated with @RdfUri", beanType.getQualifiedName () );
+			isOk = false;
+		}
+		if ( !isOk ) return;
+
+		RdfClass classAnn = beanType.getAnnotation ( RdfClass.class );
+
+		StringBuilder src = new StringBuilder ();
+		if ( !pkg.isEmpty () ) src.append ( "package " ).append ( pkg ).append ( ";\n\n" );
+		src.append ( "import static info.marcobrandizi.rdfutils.namespaces.NamespaceUtils.iri;\n\n" )
+			.append ( "import java.util.Map;\n\n" )
+			.append ( "import org.apache.jena.rdf.model.Literal;\n\n" )
+			.append ( "import " + MAPPING_PKG + ".BeanRdfMapper;\n" )
+			.append ( "import " + MAPPING_PKG + ".properties.CollectionPropRdfMapper;\n" )
+			.append ( "import " + MAPPING_PKG + ".properties.CompositePropRdfMapper;\n" )
+			.append ( "import " + MAPPING_PKG + ".properties.LiteralPropRdfMapper;\n" )
+			.append ( "import " + MAPPING_PKG + ".properties.ResourcePropRdfMapper;\n" )
+			.append ( "import " + MAPPING_PKG + ".rdfgen.RdfUriGenerator;\n" )
+			.append ( "import " + MAPPING_PKG + ".rdfgen.UriTemplateGenerator;\n\n" )
+			.append ( "/**\n * The RDF mapper for {@link " ).append ( beanRef ).append ( "}.\n" )
+			.append ( " * Generated by " ).append ( RdfMapperProcessor.class.getName () ).append ( ", don't edit.\n */\n" )
+			.append ( "@javax.annotation.processing.Generated ( \"" ).append ( RdfMapperProcessor.class.getName () ).append ( "\" )\n" )
+			.append ( "@SuppressWarnings ( { \"unchecked\", \"unused\" } )\n" )
+			.append ( "public class " ).append ( mapperName ).append ( " extends BeanRdfMapper<" ).append ( beanRef ).append ( ">\n{\n" )
+			.append ( "\tpublic " ).append ( mapperName ).append ( " ()\n\t{\n" );
+
+		if ( !classAnn.value ().isEmpty () )
+			src.append ( "\t\tthis.setRdfClassUri ( " ).append ( uriExpr ( classAnn.value () ) ).append ( " );\n\n" );
+
+		// The prefix is expanded once, when the mapper is created
+		src.append ( "\t\tfinal String uriPrefix = " ).append ( uriPrefixExpr ( uriPrefix ) ).append ( ";\n" )
+			.append ( "\t\tthis.setRdfUriGenerator ( new RdfUriGenerator<" ).append ( beanRef ).append ( "> () {\n" )
+			.append ( "\t\t\t@Override\n" )
+			.append ( "\t\t\tpublic String getUri ( " ).append ( beanRef ).append ( " source, Map<String, Object> params )\n\t\t\t{\n" )
+			.append ( "\t\t\t\tObject id = source." ).append ( uriGetter ).append ( " ();\n" )
+			.append ( "\t\t\t\tif ( id == null ) return null;\n" )
+			.append ( "\t\t\t\treturn uriPrefix + UriTemplateGenerator.percentEncode ( id.toString () );\n" )
+			.append ( "\t\t\t}\n\t\t});\n\n" )
+			.append ( props )
+			.append ( "\t}\n}\n" );
+
+		writeSource ( pkg, mapperName, src, beanType );
+
+		mappersByPackage.computeIfAbsent ( pkg, p -> new ArrayList<> () ).add ( new String[] { beanRef, mapperName } );
+		beansByPackage.computeIfAbsent ( pkg, p -> new ArrayList<> () ).add ( beanType );
+	}
+
+
+	private void generateFactories ()
+	{
+		for ( Map.Entry<String, List<String[]>> pkgEntry: mappersByPackage.entrySet () )
+		{
+			String pkg = pkgEntry.getKey ();
+			
+			// Beans coming from later rounds can't be added to a factory that was already generated
+			int factoryNo = factoryCounts.merge ( pkg, 1, Integer::sum );
+			String factoryName = factoryNo == 1 ? FACTORY_NAME : FACTORY_NAME + factoryNo;
+			if ( factoryNo > 1 ) note ( beansByPackage.get ( pkg ).get ( 0 ),
+				"%s was already generated for the package '%s', the mappers for the new @RdfClass beans go into %s",
+				FACTORY_NAME, pkg, factoryName
+			);
+
+			StringBuilder src = new StringBuilder ();
+			if ( !pkg.isEmpty () ) src.append ( "package " ).append ( pkg ).append ( ";\n\n" );
+			src.append ( "import org.apache.jena.rdf.model.Model;\n\n" )
+				.append ( "import " + MAPPING_PKG + ".RdfMapperFactory;\n" )
+				.append ( "import " + MAPPING_PKG + ".sink.TripleSink;\n\n" )
+				.append ( "/**\n * A mapper factory with the mappers generated for this package.\n" )
+				.append ( " * Generated by " ).append ( RdfMapperProcessor.class.getName () ).append ( ", don't edit.\n */\n" )
+				.append ( "@javax.annotation.processing.Generated ( \"" ).append ( RdfMapperProcessor.class.getName () ).append ( "\" )\n" )
+				.append ( "public class " + factoryName + " extends RdfMapperFactory\n{\n" )
+				.append ( "\tpublic " + factoryName + " () {\n\t\tregisterMappers ( this );\n\t}\n\n" )
+				.append ( "\tpublic " + factoryName + " ( Model graphModel )\n\t{\n\t\tsuper ( graphModel );\n\t\tregisterMappers ( this );\n\t}\n\n" )
+				.append ( "\tpublic " + factoryName + " ( TripleSink tripleSink )\n\t{\n\t\tsuper ( tripleSink );\n\t\tregisterMappers ( this );\n\t}\n\n" )
+				.append ( "\t/**\n\t * Adds the mappers for this package to a factory.\n\t */\n" )
+				.append ( "\tpublic static void registerMappers ( RdfMapperFactory factory )\n\t{\n" );
+			for ( String[] mapper: pkgEntry.getValue () )
+				src.append ( "\t\tfactory.setMapper ( " ).append ( mapper [ 0 ] ).append ( ".class, new " )
+					.append ( mapper [ 1 ] ).append ( " () );\n" );
+			src.append ( "\t}\n}\n" );
+
+			writeSource ( pkg, factoryName, src, beansByPackage.get ( pkg ).toArray ( new Element [ 0 ] ) );
+		}
+		mappersByPackage.clear ();
+		beansByPackage.clear ();
+	}
+
+
+	private void writeSource ( String pkg, String className, CharSequence src, Element... originatingElements )
+	{
+		String fqn = pkg.isEmpty () ? className : pkg + "." + className;
+		try ( Writer out = processingEnv.getFiler ().createSourceFile ( fqn, originatingElements ).openWriter () ) {
+			out.write ( src.toString () );
+		}
+		catch ( IOException ex ) {
+			error ( originatingElements [ 0 ], "Error while generating %s: %s", fqn, ex.getMessage () );
+		}
+	}
+
+	/**
+	 * Checks the getter and returns the property name, or null if it's not a valid getter.
+	 */
+	private String getPropertyName ( ExecutableElement getter )
+	{
+		String name = getter.getSimpleName ().toString ();
+
+		if ( !getter.getModifiers ().contains ( Modifier.PUBLIC ) || getter.getModifiers ().contains ( Modifier.STATIC )
+				 || !getter.getParameters ().isEmpty () || getter.getReturnType ().getKind () == TypeKind.VOID )
+		{
+			error ( getter, "java2rdf annotations can only be used with public, non-static getters, '%s' isn't one", name );
+			return null;
+		}
+
+		if ( name.startsWith ( "get" ) && name.length () > 3 ) return Introspector.decapitalize ( name.substring ( 3 ) );
+		if ( name.startsWith ( "is" ) && name.length () > 2 ) return Introspector.decapitalize ( name.substring ( 2 ) );
+
+		error ( getter, "'%s' isn't a getter, java2rdf annotations can only be used with getXXX/isXXX methods", name );
+		return null;
+	}
+
+	/**
+	 * A type reference usable as a generic argument, ie, primitives are boxed.
+	 */
+	private String typeRef ( TypeMirror type )
+	{
+		Types types = processingEnv.getTypeUtils ();
+		if ( type.getKind ().isPrimitive () )
+			return types.boxedClass ( (PrimitiveType) type ).getQualifiedName ().toString ();
+		if ( type.getKind () == TypeKind.WILDCARD )
+		{
+			TypeMirror bound = ( (WildcardType) type ).getExtendsBound ();
+			return bound == null ? "Object" : typeRef ( bound );
+		}
+		return type.toString ();
+	}
+
+	/**
+	 * If the type is a {@link java.util.Collection}, returns the type of its elements, else returns null.
+	 */
+	private TypeMirror getCollectionElementType ( TypeMirror type )
+	{
+		if ( type.getKind () != TypeKind.DECLARED ) return null;
+
+		Types types = processingEnv.getTypeUtils ();
+		TypeElement collectionElem = processingEnv.getElementUtils ().getTypeElement ( "java.util.Collection" );
+		if ( types.isSameType ( types.erasure ( type ), types.erasure ( collectionElem.asType () ) ) )
+		{
+			List<? extends TypeMirror> args = ( (DeclaredType) type ).getTypeArguments ();
+			return args.isEmpty ()
+				? processingEnv.getElementUtils ().getTypeElement ( "java.lang.Object" ).asType ()
+				: args.get ( 0 );
+		}
+
+		for ( TypeMirror superType: types.directSupertypes ( type ) )
+		{
+			TypeMirror result = getCollectionElementType ( superType );
+			if ( result != null ) return result;
+		}
+		return null;
+	}
+
+	/**
+	 * Full URIs are used as they are, the others are expanded by the generated code, via namespace prefixes.
+	 */
+	private String uriExpr ( String uri )
+	{
+		String literal = processingEnv.getElementUtils ().getConstantExpression ( uri );
+		return uri.contains ( "://" ) ? literal : "iri ( " + literal + " )";
+	}
+
+	private String uriPrefixExpr ( String uriPrefix ) {
+		return uriPrefix.isEmpty () ? "\"\"" : uriExpr ( uriPrefix );
+	}
+
+	/**
+	 * True if the element is in a superclass of some {@link RdfClass} bean in this round.
+	 */
+	private boolean isInheritedByRdfClass ( Element elem, RoundEnvironment roundEnv )
+	{
+		Types types = processingEnv.getTypeUtils ();
+		TypeMirror owner = types.erasure ( elem.getEnclosingElement ().asType () );
+		for ( Element bean: roundEnv.getElementsAnnotatedWith ( RdfClass.class ) )
+			if ( types.isSubtype ( types.erasure ( bean.asType () ), owner ) ) return true;
+		return false;
+	}
+
+	private void error ( Element elem, String msg, Object... args ) {
+		processingEnv.getMessager ().printMessage ( Kind.ERROR, String.format ( msg, args ), elem );
+	}
+
+	private void warning ( Element elem, String msg, Object... args ) {
+		processingEnv.getMessager ().printMessage ( Kind.WARNING, String.format ( msg, args ), elem );
+	}
+
+	private void note ( Element elem, String msg, Object... args ) {
+		processingEnv.getMessager ().printMessage ( Kind.NOTE, String.format ( msg, args ), elem );
+	}
+}
@@ -0,0 +1,68 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import java.util.Map;
+
+import uk.ac.ebi.fg.java2rdf.mapping.sink.TripleSink;
+
+/**
+ * Information about the bean that a {@link BeanRdfMapper} is currently mapping, which is made available to 
+ * the mappers it uses (typically, property mappers) via {@link RdfMapperFactory#getCurrentBeanContext()}.
+ * 
+ * At the moment, this is used to compute the URI of the bean once and to share it with all the property mappers, 
+ * via {@link RdfMapperFactory#getUri(Object, Map)}.
+ * 
+ * Contexts are per-thread and nested (see {@link #getParent()}), following the nesting of the bean mappers.  
+ * 
+ * This is the only per-bean object: when the mapping params are a {@link MappingContext}, the scope that is passed 
+ * down to the property mappers refers to this (see {@link MappingContext#getBeanContext()}), rather than keeping 
+ * its own copy of the bean, the URI and the sink.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class BeanMappingContext
+{
+	private final Object source;
+	private final String subjectUri;
+	private final TripleSink tripleSink;
+	private final BeanMappingContext parent;
+	
+	BeanMappingContext ( Object source, String subjectUri, TripleSink tripleSink, BeanMappingContext parent )
+	{
+		this.source = source;
+		this.subjectUri = subjectUri;
+		this.tripleSink = tripleSink;
+		this.parent = parent;
+	}
+
+	/**
+	 * The bean that is being mapped. 
+	 */
+	public Object getSource () {
+		return source;
+	}
+
+	/**
+	 * The URI that the bean mapper computed for {@link #getSource()}, ie, the subject of the statements about it. 
+	 * This might be null, meaning the bean has no URI and it can't be mapped. 
+	 */
+	public String getSubjectUri () {
+		return subjectUri;
+	}
+
+	/**
+	 * The sink the triples about {@link #getSource()} are sent to.
+	 */
+	public TripleSink getTripleSink () {
+		return tripleSink;
+	}
+
+	/**
+	 * The context of the bean that was being mapped when this one was reached, null if this is the context of the 
+	 * bean the mapping started from. 
+	 */
+	public BeanMappingContext getParent () {
+		return parent;
+	}
+}
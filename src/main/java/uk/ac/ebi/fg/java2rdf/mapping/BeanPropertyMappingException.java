@@ -0,0 +1,50 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import org.apache.commons.lang3.StringUtils;
+
+import uk.ac.ebi.fg.java2rdf.mapping.properties.BeanPropRdfMapper;
+
+/**
+ * Reports the failure to map a JavaBean property, telling which bean class and property it was about. This is
+ * thrown by {@link BeanPropRdfMapper} and {@link MappingPlan}, and it's used by the
+ * {@link RdfMapperFactory#getErrorSink() fail-soft mode} to report the failed property.
+ *
+ * As for the other mapping errors, the message is built only when it's requested.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class BeanPropertyMappingException extends RdfMappingException
+{
+	private static final long serialVersionUID = -2398214309622957314L;
+
+	private final Class<?> beanClass;
+	private final String propertyName;
+
+	/**
+	 * @param propertyValue used for the message only, it can be null if it's unknown.
+	 */
+	public BeanPropertyMappingException ( Object source, String propertyName, Object propertyValue, Throwable cause )
+	{
+		super ( () -> String.format (
+			"Error while mapping %s[%s].'%s'%s to RDF: %s",
+			source.getClass ().getSimpleName (),
+			StringUtils.abbreviate ( source.toString (), 50 ),
+			propertyName,
+			propertyValue == null ? "" : "='" + StringUtils.abbreviate ( propertyValue.toString (), 50 ) + "'",
+			cause == null ? null : cause.getMessage ()
+		), cause );
+
+		this.beanClass = source.getClass ();
+		this.propertyName = propertyName;
+	}
+
+	public Class<?> getBeanClass () {
+		return beanClass;
+	}
+
+	public String getPropertyName () {
+		return propertyName;
+	}
+}
@@ -2,18 +2,23 @@ package uk.ac.ebi.fg.java2rdf.mapping;
 
 
 import static info.marcobrandizi.rdfutils.namespaces.NamespaceUtils.iri;
-import static uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils.RDF_GRAPH_UTILS;
 
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics.CallType;
 import uk.ac.ebi.fg.java2rdf.mapping.properties.BeanPropRdfMapper;
 import uk.ac.ebi.fg.java2rdf.mapping.properties.PropertyRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.AsyncRdfUriGenerator;
 import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
 
 /**
@@ -27,7 +32,11 @@ import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
 public class BeanRdfMapper<T> extends CompositeObjRdfMapper<T>
 {
 	private String targetRdfClassUri;
+	private Node targetRdfClassNode;
 	private RdfUriGenerator<T> rdfUriGenerator;
+	private boolean isUriCacheable = true;
+
+	static final Node RDF_TYPE_NODE = NodeFactory.createURI ( iri ( "rdf:type" ) );
 
 	protected Logger log = LoggerFactory.getLogger ( this.getClass () );
 	
@@ -58,41 +67,95 @@ public class BeanRdfMapper<T> extends CompositeObjRdfMapper<T>
 	 * getXXX()-reachable properties. Uses {@link #getRdfUriGenerator()} to get the URI of the 'source' parameter, 
 	 * i.e., the bean to be mapped. Uses {@link #getTargetRdfClassUri()} to make a rdf:type statement about 'source'.
 	 * 
+	 * The URI is computed once and shared with the mappers above by means of a {@link BeanMappingContext}, so that 
+	 * their calls to {@link RdfMapperFactory#getUri(Object, Map)} don't recompute it.
+	 * 
 	 * If either the super implementation, the URI generator, or its getUri() method returns false, doesn't generate any
 	 * mapping and returns false too. 
+	 * 
+	 * If the generator is an {@link AsyncRdfUriGenerator} and its URI isn't ready, the whole mapping of the source is 
+	 * deferred to when it is, via {@link RdfMapperFactory#whenResolved(CompletableFuture, java.util.function.Consumer)},
+	 * and this method returns true.
 	 */
 	@Override
 	public boolean map ( T source, Map<String, Object> params )
 	{
 		try
 		{
-			if ( !super.map ( source, params ) ) return false;
+			if ( source == null ) return false;
 			
 			RdfUriGenerator<T> uriGen = getRdfUriGenerator ();
 			Validate.notNull ( uriGen, "Internal error: cannot map [%s] to RDF without an URI generator", source.toString () );
 			
-			String uri = uriGen.getUri ( source, params );
-			if ( uri == null ) return false;
-			
 			RdfMapperFactory mapFactory = this.getMapperFactory ();
+
+			if ( uriGen instanceof AsyncRdfUriGenerator )
+			{
+				CompletableFuture<String> uriFuture = mapFactory.getUriAsync ( (AsyncRdfUriGenerator<T>) uriGen, source, params );
+				if ( !uriFuture.isDone () ) 
+				{
+					mapFactory.whenResolved ( uriFuture, uri -> 
+					{
+						try {
+							mapWithUri ( source, uri, params );
+						}
+						catch ( RuntimeException ex ) {
+							throw mappingError ( source, ex );
+						}
+					});
+					return true;
+				}
+				return mapWithUri ( source, AsyncRdfUriGenerator.await ( uriFuture ), params );
+			}
 			
-			// Generates and rdf:type statement
-			String targetRdfClassUri = getTargetRdfClassUri ();
-			if ( targetRdfClassUri != null ) RDF_GRAPH_UTILS.assertResource ( 
-				mapFactory.getGraphModel (), uri, iri ( "rdf:type" ), targetRdfClassUri 
-			);
-			// TODO: else WARN
-			return true;
+			String uri = mapFactory.generateUri ( uriGen, source, params, isUriCacheable );
+			return mapWithUri ( source, uri, params );
 		} 
-		catch ( Exception ex )
+		catch ( Exception ex ) {
+			throw mappingError ( source, ex );
+		}
+	}
+
+	/**
+	 * Does the job of {@link #map(Object, Map)}, once the URI of the source is known.
+	 */
+	private boolean mapWithUri ( T source, String uri, Map<String, Object> params )
+	{
+		RdfMapperFactory mapFactory = this.getMapperFactory ();
+		
+		BeanMappingContext beanCtx = mapFactory.enterBeanContext ( source, uri, mapFactory.getTripleSink () );
+
+		// Typed contexts get a scope per bean, which refers to the bean context, plain params are passed as they are
+		Map<String, Object> beanParams = params instanceof MappingContext 
+			? ( (MappingContext) params ).forSubject ( beanCtx ) 
+			: params;
+		
+		try {
+			if ( !super.map ( source, beanParams ) ) return false;
+		}
+		finally {
+			mapFactory.exitBeanContext ( beanCtx );
+		}
+		
+		if ( uri == null ) return false;
+		
+		// Generates and rdf:type statement
+		Node targetRdfClassNode = getTargetRdfClassNode ();
+		if ( targetRdfClassNode != null ) 
 		{
-			throw new RdfMappingException ( String.format ( 
-				"Error while mapping %s[%s]='%s' to RDF: %s", 
-				source.getClass ().getSimpleName (), 
-				StringUtils.abbreviate ( source.toString (), 50 ), StringUtils.abbreviate ( source.toString (), 50 ),
-				ex.getMessage ()
-			), ex );
+			mapFactory.getTripleSink ().add ( mapFactory.getUriNode ( uri ), RDF_TYPE_NODE, targetRdfClassNode );
+			mapFactory.getMetrics ().recordTriples ( CallType.OBJECT_MAPPER, this, 1 );
 		}
+		// TODO: else WARN
+		return true;
+	}
+	
+	private RdfMappingException mappingError ( T source, Exception ex )
+	{
+		return new RdfMappingException ( () -> String.format ( 
+			"Error while mapping %s[%s] to RDF: %s", 
+			source.getClass ().getSimpleName (), StringUtils.abbreviate ( source.toString (), 50 ), ex.getMessage ()
+		), ex );
 	}
 
 	
@@ -107,6 +170,20 @@ public class BeanRdfMapper<T> extends CompositeObjRdfMapper<T>
 		this.targetRdfClassUri = targetRdfClassUri;
 	}
 	
+	/**
+	 * The Jena node for {@link #getTargetRdfClassUri()}, which is created the first time it's needed and then 
+	 * reused for all the rdf:type statements, as long as the getter returns the same URI.
+	 */
+	public Node getTargetRdfClassNode ()
+	{
+		String uri = getTargetRdfClassUri ();
+		if ( uri == null ) return null;
+		
+		Node result = targetRdfClassNode;
+		if ( result == null || !uri.equals ( result.getURI () ) ) targetRdfClassNode = result = NodeFactory.createURI ( uri );
+		return result;
+	}
+	
 	/** The generator used in {@link #map(Object, Map)} to make the URI of the source bean that is mapped to RDF. */
 	public RdfUriGenerator<T> getRdfUriGenerator () {
 		return rdfUriGenerator;
@@ -115,6 +192,19 @@ public class BeanRdfMapper<T> extends CompositeObjRdfMapper<T>
 	public void setRdfUriGenerator ( RdfUriGenerator<T> rdfUriGenerator ) {
 		this.rdfUriGenerator = rdfUriGenerator;
 	}
+
+	/**
+	 * If false, the URIs of the objects mapped by this mapper are never taken from 
+	 * {@link RdfMapperFactory#getUriCache() the factory URI cache}. Use it when the identity of such objects doesn't 
+	 * imply a stable URI, eg, when they're mutable, pooled or reused. Default is true.
+	 */
+	public boolean isUriCacheable () {
+		return isUriCacheable;
+	}
+
+	public void setUriCacheable ( boolean isUriCacheable ) {
+		this.isUriCacheable = isUriCacheable;
+	}
 	
 	/**
 	 * Usually you will want that {@link #getMappers()} contains {@link BeanPropRdfMapper} only. This method wraps
@@ -127,6 +217,18 @@ public class BeanRdfMapper<T> extends CompositeObjRdfMapper<T>
 		this.addMapper ( new BeanPropRdfMapper<T, PT, RV> ( sourcePropertyName, propRdfMapper ) );
 	}
 
+	/**
+	 * Like {@link #addPropertyMapper(String, PropertyRdfMapper)}, but the property value is fetched with a getter 
+	 * function, typically a method reference like Article::getTitle, which doesn't need any reflection.
+	 */
+	public <PT, RV> void addPropertyMapper ( 
+		String sourcePropertyName, Function<? super T, ? extends PT> getter, PropertyRdfMapper<T, PT, RV> propRdfMapper 
+	)
+	{
+		if ( this.getMappers () == null ) this.setMappers ( new LinkedList<> () );
+		this.addMapper ( new BeanPropRdfMapper<T, PT, RV> ( sourcePropertyName, getter, propRdfMapper ) );
+	}
+
 	@Override
 	public void setMapperFactory ( RdfMapperFactory mapperFactory )
 	{
@@ -0,0 +1,244 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.ac.ebi.fg.java2rdf.mapping.sink.CheckpointableTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.NTriplesFileTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.visited.CheckpointableVisitedTracker;
+import uk.ac.ebi.fg.java2rdf.mapping.visited.FingerprintVisitedTracker;
+
+/**
+ * Saves the progress of a long {@link RdfMapperFactory#mapAll(Iterable, int, Map) mapping job} to a local file, so
+ * that, if the process dies, a new one can resume the job from the last checkpoint, producing the same output of an
+ * uninterrupted run, without duplicated or missing triples.
+ *
+ * A checkpoint is made of the no. of roots mapped so far, the state of the factory's
+ * {@link CheckpointableVisitedTracker visited tracker} and the output position of its
+ * {@link CheckpointableTripleSink triple sink}. It's taken every {@link #getInterval()} roots, when the mapping
+ * of the previous ones (including the pending {@link RdfMapperFactory#whenResolved(java.util.concurrent.CompletableFuture,
+ * java.util.function.Consumer) asynchronous URIs}) is complete: first, the sink is synced, then the checkpoint
+ * file is written to a temporary file and atomically moved onto the previous checkpoint, so that the latter is
+ * always consistent with the output. When resuming, the output is truncated at the checkpoint position, the tracker
+ * is restored and the roots already mapped are skipped.
+ *
+ * Use it this way:
+ *
+ * <pre>
+ *   mapFactory.setTripleSink ( new NTriplesFileTripleSink ( outPath, null, true ) );
+ *   mapFactory.setVisitedTracker ( FingerprintVisitedTracker.forUris ( mapFactory ) );
+ *   mapFactory.setCheckpointer ( new MappingCheckpointer ( checkpointPath ) );
+ *   mapFactory.mapAll ( roots, 1 ); // resumes from checkpointPath, if it exists
+ * </pre>
+ *
+ * This requires that:
+ *
+ * <ul>
+ *   <li>the roots come in the same order at every run</li>
+ *   <li>the sink is checkpointable, eg, {@link NTriplesFileTripleSink}, and it's opened in append mode, so that
+ *   the previous output isn't lost</li>
+ *   <li>the visited tracker is checkpointable, eg, {@link FingerprintVisitedTracker} with URI-based fingerprints. 
+ *   The objects without a URI aren't saved with the checkpoints, so, rather than possibly mapping them twice 
+ *   across a resume, the job fails with an {@link RdfMappingException} when one of them produces triples, see 
+ *   {@link FingerprintVisitedTracker}</li>
+ *   <li>the roots are mapped sequentially, ie, {@code mapAll()} with a parallelism of 1, since the parallel
+ *   workers don't have a consistent cut where they could be stopped</li>
+ * </ul>
+ *
+ * The checkpoint file is kept at the end of the job, so that a new run of a finished job does nothing. Delete it
+ * to start a new job.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class MappingCheckpointer
+{
+	/** "J2RC" */
+	private static final int MAGIC = 0x4A325243;
+	private static final int VERSION = 1;
+
+	/**
+	 * The progress of the mapping job, as saved by a checkpoint.
+	 */
+	public static final class Checkpoint
+	{
+		private final long roots;
+		private final long mappedRoots;
+		private final long sinkPosition;
+
+		private Checkpoint ( long roots, long mappedRoots, long sinkPosition )
+		{
+			this.roots = roots;
+			this.mappedRoots = mappedRoots;
+			this.sinkPosition = sinkPosition;
+		}
+
+		/**
+		 * The no. of roots taken from the input.
+		 */
+		public long getRoots () {
+			return roots;
+		}
+
+		/**
+		 * The no. of roots for which {@link RdfMapperFactory#map(Object, Map)} returned true.
+		 */
+		public long getMappedRoots () {
+			return mappedRoots;
+		}
+
+		/**
+		 * The {@link CheckpointableTripleSink#checkpoint() output position} of the triple sink.
+		 */
+		public long getSinkPosition () {
+			return sinkPosition;
+		}
+
+		@Override
+		public String toString () {
+			return String.format ( "Checkpoint{ roots: %d, mapped roots: %d, sink position: %d }", roots, mappedRoots, sinkPosition );
+		}
+	}
+
+	private final Path file;
+	private final long interval;
+
+	private final Logger log = LoggerFactory.getLogger ( this.getClass () );
+
+
+	/**
+	 * @param interval a checkpoint is taken every interval roots. Since every checkpoint saves the whole visited
+	 *        tracker, don't make it too small for large jobs.
+	 */
+	public MappingCheckpointer ( Path file, long interval )
+	{
+		Validate.notNull ( file, "Can't create a %s with a null file", this.getClass ().getSimpleName () );
+		Validate.isTrue ( interval > 0, "The checkpoint interval must be positive" );
+		this.file = file;
+		this.interval = interval;
+	}
+
+	/**
+	 * Default interval is 100k roots.
+	 */
+	public MappingCheckpointer ( Path file ) {
+		this ( file, 100000 );
+	}
+
+
+	/**
+	 * Saves a checkpoint, see above. This is invoked by {@link RdfMapperFactory}, you don't need it unless you're
+	 * writing your own loop over the roots.
+	 */
+	public Checkpoint save (
+		long roots, long mappedRoots, CheckpointableTripleSink sink, CheckpointableVisitedTracker visitedTracker
+	)
+	{
+		Checkpoint result = new Checkpoint ( roots, mappedRoots, sink.checkpoint () );
+
+		Path tmpFile = file.resolveSibling ( file.getFileName () + ".tmp" );
+		try
+		{
+			try ( FileChannel channel = FileChannel.open (
+				tmpFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+			))
+			{
+				DataOutputStream out = new DataOutputStream ( new BufferedOutputStream ( Channels.newOutputStream ( channel ), 1 << 16 ) );
+				out.writeInt ( MAGIC );
+				out.writeInt ( VERSION );
+				out.writeLong ( result.roots );
+				out.writeLong ( result.mappedRoots );
+				out.writeLong ( result.sinkPosition );
+				out.writeUTF ( visitedTracker.getClass ().getName () );
+				visitedTracker.saveState ( out );
+				out.flush ();
+				channel.force ( true );
+			}
+			Files.move ( tmpFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
+		}
+		catch ( IOException ex ) {
+			throw new RdfMappingException ( "Error while saving the mapping checkpoint '" + file + "': " + ex.getMessage (), ex );
+		}
+
+		log.debug ( "Mapping checkpoint saved: {}", result );
+		return result;
+	}
+
+	/**
+	 * Restores the last checkpoint into the sink and the visited tracker, returns null if there isn't any
+	 * checkpoint yet. This is invoked by {@link RdfMapperFactory}, you don't need it unless you're
+	 * writing your own loop over the roots.
+	 */
+	public Checkpoint restore ( CheckpointableTripleSink sink, CheckpointableVisitedTracker visitedTracker )
+	{
+		if ( !Files.exists ( file ) ) return null;
+
+		Checkpoint result;
+		try ( DataInputStream in = new DataInputStream ( new BufferedInputStream ( Files.newInputStream ( file ), 1 << 16 ) ) )
+		{
+			if ( in.readInt () != MAGIC ) throw new RdfMappingException (
+				"The file '" + file + "' isn't a java2rdf mapping checkpoint"
+			);
+			int version = in.readInt ();
+			if ( version != VERSION ) throw new RdfMappingException ( String.format (
+				"The mapping checkpoint '%s' has the unsupported version %d", file, version
+			));
+
+			result = new Checkpoint ( in.readLong (), in.readLong (), in.readLong () );
+
+			String trackerClass = in.readUTF ();
+			if ( !trackerClass.equals ( visitedTracker.getClass ().getName () ) ) throw new RdfMappingException ( String.format (
+				"The mapping checkpoint '%s' was saved by the visited tracker %s, can't restore it into %s",
+				file, trackerClass, visitedTracker.getClass ().getName ()
+			));
+			visitedTracker.loadState ( in );
+		}
+		catch ( IOException ex ) {
+			throw new RdfMappingException ( "Error while loading the mapping checkpoint '" + file + "': " + ex.getMessage (), ex );
+		}
+
+		sink.rollbackTo ( result.sinkPosition );
+
+		log.info ( "Resuming the RDF mapping from the checkpoint '{}': {}", file, result );
+		return result;
+	}
+
+	/**
+	 * Skips the roots already mapped according to the checkpoint, throws an error if there are fewer roots than that.
+	 */
+	void skipRoots ( Iterator<?> roots, Checkpoint checkpoint )
+	{
+		for ( long i = 0; i < checkpoint.roots; i++ )
+		{
+			if ( !roots.hasNext () ) throw new RdfMappingException ( String.format (
+				"Can't resume the RDF mapping from '%s', the checkpoint has %d roots, but the input has %d only",
+				file, checkpoint.roots, i
+			));
+			roots.next ();
+		}
+	}
+
+	public Path getFile () {
+		return file;
+	}
+
+	public long getInterval () {
+		return interval;
+	}
+}
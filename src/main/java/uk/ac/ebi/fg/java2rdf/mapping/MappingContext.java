@@ -0,0 +1,301 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.Validate;
+
+import uk.ac.ebi.fg.java2rdf.mapping.sink.TripleSink;
+import uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils;
+
+/**
+ * A typed and immutable version of the mapping params that are passed to methods like
+ * {@link RdfMapperFactory#map(Object, Map)}.
+ *
+ * The parameters are identified by {@link Key keys}, which are created once (typically, as constants) and have an
+ * index in an array of values, so getting a parameter via {@link #get(Key)} costs an array access, and it's type-safe.
+ * New contexts are derived via {@link #with(Key, Object)}, which doesn't change the original context, so a context
+ * can be shared by multiple threads, eg, the workers of {@link RdfMapperFactory#mapAll(Iterable, int, Map)}.
+ *
+ * This implements the {@code Map<String, Object>} interface (read-only, keys are the key names), so that it can be
+ * passed wherever the old params are expected, and the mappers receive it unchanged. Code that doesn't know about
+ * this class can still use {@link Java2RdfUtils#getParam(Map, String)}. Old-style params that have no key are
+ * kept by the context they're converted into (see {@link #of(Map)}), without creating keys for them.
+ *
+ * When a context is passed to the mapping, {@link BeanRdfMapper} passes down a per-bean child scope (see
+ * {@link #forSubject(BeanMappingContext)}), which refers to the {@link BeanMappingContext} of the bean being mapped,
+ * ie, the bean, its URI, the triple sink in use and the bean it was reached from. The parameters of a scope are the 
+ * ones of the context it derives from.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public final class MappingContext extends AbstractMap<String, Object>
+{
+	/**
+	 * A typed key for a {@link MappingContext} parameter. Keys are global and identified by name, ie,
+	 * {@link #of(String, Class)} returns the same key for the same name.
+	 */
+	public static final class Key<V>
+	{
+		private static final Map<String, Key<?>> KEYS = new ConcurrentHashMap<> ();
+		private static final AtomicInteger KEYS_COUNT = new AtomicInteger ( 0 );
+
+		private final String name;
+		private final Class<V> type;
+		private final int index;
+
+		private Key ( String name, Class<V> type, int index )
+		{
+			this.name = name;
+			this.type = type;
+			this.index = index;
+		}
+
+		@SuppressWarnings ( "unchecked" )
+		public static <V> Key<V> of ( String name, Class<V> type )
+		{
+			Validate.notEmpty ( name, "Can't create a mapping context key with an empty name" );
+			Validate.notNull ( type, "Can't create the mapping context key '%s' with a null type", name );
+
+			Key<?> result = KEYS.computeIfAbsent ( name, n -> new Key<> ( n, type, KEYS_COUNT.getAndIncrement () ) );
+			Validate.isTrue ( result.type == type,
+				"The mapping context key '%s' already exists with the type %s", name, result.type.getName ()
+			);
+			return (Key<V>) result;
+		}
+
+		/**
+		 * The existing key having this name, null if there isn't any.
+		 */
+		public static Key<?> forName ( String name ) {
+			return name == null ? null : KEYS.get ( name );
+		}
+
+		public String getName () {
+			return name;
+		}
+
+		public Class<V> getType () {
+			return type;
+		}
+
+		@Override
+		public String toString () {
+			return "Key{ " + name + ": " + type.getSimpleName () + " }";
+		}
+	}
+
+	/** A context without parameters */
+	public static final MappingContext EMPTY = new MappingContext ( new Object [ 0 ], null, null );
+
+	/** 
+	 * Indexed by {@link Key#index}, never modified after creation. Contexts with different params never share this
+	 * array, so that its identity identifies the params (see {@link #getParamsIdentity()}). 
+	 */
+	private final Object[] values;
+
+	/** The params from {@link #of(Map)} that have no key, null if there isn't any, never modified after creation */
+	private final Map<String, Object> adHocParams;
+
+	/** The bean this is a subject scope for, null if this isn't a subject scope */
+	private final BeanMappingContext beanContext;
+
+	private MappingContext ( Object[] values, Map<String, Object> adHocParams, BeanMappingContext beanContext )
+	{
+		this.values = values;
+		this.adHocParams = adHocParams;
+		this.beanContext = beanContext;
+	}
+
+	/**
+	 * The value of the parameter, null if it isn't set.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	public <V> V get ( Key<V> key )
+	{
+		int idx = key.index;
+		Object result = idx < values.length ? values [ idx ] : null;
+		if ( result != null || adHocParams == null ) return (V) result;
+
+		// The key might have been created after an old-style param with the same name was converted
+		result = adHocParams.get ( key.name );
+		return key.type.isInstance ( result ) ? (V) result : null;
+	}
+
+	/**
+	 * A new context with the same parameters as this and the new value for the key. A null value removes the
+	 * parameter. This keeps the subject scope of this context, if any.
+	 */
+	public <V> MappingContext with ( Key<V> key, V value )
+	{
+		Validate.notNull ( key, "Can't set a mapping context parameter with a null key" );
+		Validate.isTrue ( value == null || key.type.isInstance ( value ),
+			"Can't set the mapping context parameter '%s' with a value of type %s",
+			key.name, value == null ? null : value.getClass ().getName ()
+		);
+
+		Object[] newValues = Arrays.copyOf ( values, Math.max ( values.length, key.index + 1 ) );
+		newValues [ key.index ] = value;
+
+		Map<String, Object> newAdHocParams = adHocParams;
+		if ( newAdHocParams != null && newAdHocParams.containsKey ( key.name ) )
+		{
+			// The keyed value replaces the ad-hoc one
+			newAdHocParams = new HashMap<> ( newAdHocParams );
+			newAdHocParams.remove ( key.name );
+			newAdHocParams = newAdHocParams.isEmpty () ? null : Collections.unmodifiableMap ( newAdHocParams );
+		}
+		return new MappingContext ( newValues, newAdHocParams, beanContext );
+	}
+
+	/**
+	 * A child scope for a bean that is being mapped, with the same parameters as this context. This is used by the
+	 * bean mappers, with the context they get from {@link RdfMapperFactory#getCurrentBeanContext()}.
+	 */
+	public MappingContext forSubject ( BeanMappingContext beanContext ) 
+	{
+		Validate.notNull ( beanContext, "Can't create a mapping context scope for a null bean context" );
+		return new MappingContext ( values, adHocParams, beanContext );
+	}
+
+	/**
+	 * An object that is the same for all the contexts having the same params, ie, a context, the ones derived from
+	 * it via {@link #forSubject(BeanMappingContext)} and the scopes of these ones. This is used to cache
+	 * what depends on the params only, eg, the URIs in {@link RdfMapperFactory#getUriCache()}, or to group objects
+	 * by params, as {@link uk.ac.ebi.fg.java2rdf.mapping.rdfgen.BatchingRdfUriGenerator} does.
+	 * 
+	 * This is null for {@link #EMPTY} and its scopes, as for params = null.
+	 */
+	public Object getParamsIdentity () {
+		return values == EMPTY.values ? null : values;
+	}
+
+	/**
+	 * Like {@link #getParamsIdentity()}, but works with any params: it's null for null params and the map itself
+	 * for params that aren't a context.
+	 */
+	public static Object getParamsIdentity ( Map<String, Object> params )
+	{
+		if ( params == null ) return null;
+		return params instanceof MappingContext ? ( (MappingContext) params ).getParamsIdentity () : params;
+	}
+
+	/**
+	 * Converts old-style params into a context. The params that have a {@link Key} are set via it, the others are
+	 * kept by the new context only, since creating global keys for them would make the keys grow indefinitely when 
+	 * the param names are generated on the fly. The latter are still available via {@link #get(Object)}.
+	 * If params is already a context, returns it.
+	 */
+	public static MappingContext of ( Map<String, Object> params )
+	{
+		if ( params == null ) return EMPTY;
+		if ( params instanceof MappingContext ) return (MappingContext) params;
+
+		// Always a new array, see values
+		Object[] values = new Object [ 0 ];
+		Map<String, Object> adHocParams = null;
+		for ( Map.Entry<String, Object> param: params.entrySet () )
+		{
+			String name = param.getKey ();
+			Object value = param.getValue ();
+			if ( value == null ) continue;
+
+			Key<?> key = Key.forName ( name );
+			if ( key == null ) 
+			{
+				if ( adHocParams == null ) adHocParams = new HashMap<> ();
+				adHocParams.put ( name, value );
+				continue;
+			}
+
+			Validate.isTrue ( key.type.isInstance ( value ),
+				"Can't set the mapping context parameter '%s' with a value of type %s", name, value.getClass ().getName ()
+			);
+			if ( key.index >= values.length ) values = Arrays.copyOf ( values, key.index + 1 );
+			values [ key.index ] = value;
+		}
+		if ( values.length == 0 && adHocParams == null ) return EMPTY;
+		if ( adHocParams != null ) adHocParams = Collections.unmodifiableMap ( adHocParams );
+
+		return new MappingContext ( values, adHocParams, null );
+	}
+
+	/**
+	 * Like {@link #get(Key)}, but works with any params, for the mappers that can receive either a context or a
+	 * plain map.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	public static <V> V get ( Map<String, Object> params, Key<V> key )
+	{
+		if ( params == null ) return null;
+		if ( params instanceof MappingContext ) return ( (MappingContext) params ).get ( key );
+		return (V) params.get ( key.name );
+	}
+
+	/**
+	 * The bean this is a subject scope for, with its URI, sink and parent bean, null if this isn't a subject scope.
+	 */
+	public BeanMappingContext getBeanContext () {
+		return beanContext;
+	}
+
+	/**
+	 * The bean of this subject scope, null if this isn't a subject scope. A shortcut to {@link #getBeanContext()}.
+	 */
+	public Object getSource () {
+		return beanContext == null ? null : beanContext.getSource ();
+	}
+
+	/**
+	 * The URI of {@link #getSource()}, null if this isn't a subject scope, or the bean has no URI.
+	 */
+	public String getSubjectUri () {
+		return beanContext == null ? null : beanContext.getSubjectUri ();
+	}
+
+	/**
+	 * The sink the triples about {@link #getSource()} are sent to, null if this isn't a subject scope.
+	 */
+	public TripleSink getTripleSink () {
+		return beanContext == null ? null : beanContext.getTripleSink ();
+	}
+
+
+	@Override
+	public Object get ( Object name )
+	{
+		Key<?> key = name instanceof String ? Key.forName ( (String) name ) : null;
+		if ( key != null ) return get ( key );
+		return adHocParams == null ? null : adHocParams.get ( name );
+	}
+
+	@Override
+	public boolean containsKey ( Object name ) {
+		return get ( name ) != null;
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet ()
+	{
+		// Not for the hot path, it's here for the Map interface
+		Set<Map.Entry<String, Object>> result = new LinkedHashSet<> ();
+		for ( Key<?> key: Key.KEYS.values () )
+		{
+			Object value = get ( key );
+			if ( value != null ) result.add ( new SimpleImmutableEntry<> ( key.name, value ) );
+		}
+		if ( adHocParams != null )
+			for ( Map.Entry<String, Object> param: adHocParams.entrySet () )
+				if ( Key.forName ( param.getKey () ) == null ) result.add ( new SimpleImmutableEntry<> ( param ) );
+		return result;
+	}
+}
@@ -0,0 +1,436 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Literal;
+
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics.CallType;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.BeanPropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.CollectionPropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.CompositePropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.LiteralPropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.PropertyRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.ResourcePropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfLiteralGenerator;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.AsyncRdfUriGenerator;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.TripleSink;
+
+/**
+ * A {@link BeanRdfMapper} compiled into a flat list of steps, which are run by a single loop in
+ * {@link #map(Object, Map)}.
+ *
+ * The interpreted mapper dispatches every bean through several layers
+ * ({@link CompositeObjRdfMapper} -&gt; {@link BeanPropRdfMapper} -&gt; {@link CompositePropRdfMapper}/{@link CollectionPropRdfMapper}
+ * -&gt; {@link LiteralPropRdfMapper}), each doing its own checks. A plan does the same work with these layers unfolded:
+ * the property getters are resolved for the concrete bean class, the composite and collection mappers
+ * are flattened into the steps of their components, and the checks that depend on the configuration only (eg,
+ * a missing literal generator) are done once, when the plan is compiled.
+ *
+ * The output is the same that the original mapper produces, in the same order. Mappers that the compiler doesn't
+ * know (eg, {@link uk.ac.ebi.fg.java2rdf.mapping.properties.InversePropRdfMapper}, or extensions that override
+ * a map() method) become steps that just invoke them, so a plan can always replace its bean mapper.
+ *
+ * Plans are built and used by {@link RdfMapperFactory}, see {@link RdfMapperFactory#setPlanCompilationEnabled(boolean)}.
+ * A plan is a snapshot of its bean mapper configuration, if the latter changes, you need to call
+ * {@link RdfMapperFactory#clearMapperCache()}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@SuppressWarnings ( { "rawtypes", "unchecked" } )
+public class MappingPlan<T> extends ObjRdfMapper<T>
+{
+	/** Gets the property value, which is used by the following steps, up to the next GET */
+	private static final int GET = 0;
+	/** Emits a literal triple for the property value */
+	private static final int LITERAL = 1;
+	/** Emits a resource triple for the property value and maps the latter */
+	private static final int RESOURCE = 2;
+	/** Passes the property value to a property mapper that wasn't compiled */
+	private static final int DELEGATE_PROPERTY = 3;
+	/** Passes the bean to an object mapper that wasn't compiled */
+	private static final int DELEGATE_OBJECT = 4;
+
+	private static final class Step
+	{
+		final int kind;
+
+		/** For the steps after GET, tells if the property value is a collection, to be mapped value by value */
+		final boolean isCollection;
+
+		final String propertyName;
+		final Function<Object, Object> getter;
+
+		/** 
+		 * The original mapper, used for delegation and reporting. For GET, this is the property mapper of the 
+		 * bean property, which the call metrics are recorded for, as {@link BeanPropRdfMapper} does.
+		 */
+		final RdfMapper mapper;
+		final Node predicate;
+
+		Step (
+			int kind, boolean isCollection, String propertyName, Function<Object, Object> getter, RdfMapper mapper, Node predicate
+		)
+		{
+			this.kind = kind;
+			this.isCollection = isCollection;
+			this.propertyName = propertyName;
+			this.getter = getter;
+			this.mapper = mapper;
+			this.predicate = predicate;
+		}
+	}
+
+	private final BeanRdfMapper<T> beanMapper;
+	private final RdfUriGenerator<T> uriGenerator;
+	private final Node rdfClassNode;
+	private final Step[] steps;
+
+	private MappingPlan ( BeanRdfMapper<T> beanMapper, Step[] steps )
+	{
+		this.beanMapper = beanMapper;
+		this.uriGenerator = beanMapper.getRdfUriGenerator ();
+		this.rdfClassNode = beanMapper.getTargetRdfClassNode ();
+		this.steps = steps;
+		this.setMapperFactory ( beanMapper.getMapperFactory () );
+	}
+
+
+	/**
+	 * Compiles a plan for the bean mapper, to be used with instances of beanClass (the bean mapper could be used
+	 * with subclasses of the class it was defined for, which might have different getters).
+	 *
+	 * Returns null if the bean mapper can't be compiled, ie, if it overrides {@link BeanRdfMapper#map(Object, Map)},
+	 * or it hasn't a URI generator, or the generator is {@link AsyncRdfUriGenerator asynchronous}. In this case, the
+	 * original mapper should be used.
+	 */
+	public static <T> MappingPlan<T> compile ( BeanRdfMapper<T> beanMapper, Class<?> beanClass )
+	{
+		if ( beanMapper == null || beanMapper.getRdfUriGenerator () == null ) return null;
+		if ( beanMapper.getRdfUriGenerator () instanceof AsyncRdfUriGenerator ) return null;
+		if ( isOverridden ( beanMapper, BeanRdfMapper.class, Object.class, Map.class ) ) return null;
+
+		List<Step> steps = new ArrayList<> ();
+		List<ObjRdfMapper<T>> mappers = beanMapper.getMappers ();
+		if ( mappers != null ) for ( ObjRdfMapper<T> mapper: mappers )
+		{
+			if ( ! ( mapper instanceof BeanPropRdfMapper ) ) {
+				steps.add ( new Step ( DELEGATE_OBJECT, false, null, null, mapper, null ) );
+				continue;
+			}
+
+			BeanPropRdfMapper propMapper = (BeanPropRdfMapper) mapper;
+			String propName = propMapper.getSourcePropertyName ();
+			Function<Object, Object> getter = getGetter ( propMapper, beanClass );
+
+			// Unless we can unfold it, leave it all to the bean property mapper, which also deals with the null values
+			// and reports the errors
+			PropertyRdfMapper targetMapper = propMapper.getPropertyMapper ();
+			if ( getter == null || !isUnfoldable ( targetMapper ) ) {
+				steps.add ( new Step ( DELEGATE_OBJECT, false, propName, null, mapper, null ) );
+				continue;
+			}
+
+			steps.add ( new Step ( GET, false, propName, getter, targetMapper, null ) );
+			compileProperty ( targetMapper, propName, false, steps );
+		}
+
+		return new MappingPlan<> ( beanMapper, steps.toArray ( new Step [ 0 ] ) );
+	}
+
+
+	/**
+	 * Adds the steps for a property mapper, after a GET step.
+	 *
+	 * @param isCollection true if we're unfolding the property mapper of a {@link CollectionPropRdfMapper}.
+	 */
+	private static void compileProperty (
+		PropertyRdfMapper propMapper, String propName, boolean isCollection, List<Step> steps
+	)
+	{
+		if ( isLiteralMapper ( propMapper ) ) {
+			LiteralPropRdfMapper litMapper = (LiteralPropRdfMapper) propMapper;
+			steps.add ( new Step ( LITERAL, isCollection, propName, null, litMapper, litMapper.getTargetPropertyNode () ) );
+			return;
+		}
+		if ( isResourceMapper ( propMapper ) ) {
+			ResourcePropRdfMapper resMapper = (ResourcePropRdfMapper) propMapper;
+			steps.add ( new Step ( RESOURCE, isCollection, propName, null, resMapper, resMapper.getTargetPropertyNode () ) );
+			return;
+		}
+
+		// A collection of collections or of composites are left to their mappers, since unfolding them would change
+		// the order of the output
+		if ( !isCollection )
+		{
+			if ( isCollectionMapper ( propMapper ) ) {
+				compileProperty ( ( (CollectionPropRdfMapper) propMapper ).getPropertyMapper (), propName, true, steps );
+				return;
+			}
+			if ( isCompositeMapper ( propMapper ) ) {
+				for ( PropertyRdfMapper component: (List<PropertyRdfMapper>) ( (CompositePropRdfMapper) propMapper ).getPropertyMappers () )
+					compileProperty ( component, propName, false, steps );
+				return;
+			}
+		}
+
+		steps.add ( new Step ( DELEGATE_PROPERTY, isCollection, propName, null, propMapper, null ) );
+	}
+
+
+	/**
+	 * Does the same as {@link BeanRdfMapper#map(Object, Map)} does with the mapper this plan was compiled from.
+	 */
+	@Override
+	public boolean map ( T source, Map<String, Object> params )
+	{
+		if ( source == null ) return false;
+
+		String propName = null;
+		try
+		{
+			RdfMapperFactory mapFactory = this.getMapperFactory ();
+			MappingMetrics metrics = mapFactory.getMetrics ();
+			TripleSink sink = mapFactory.getTripleSink ();
+
+			String uri = mapFactory.generateUri ( uriGenerator, source, params, beanMapper.isUriCacheable () );
+			Node subject = uri == null ? null : mapFactory.getUriNode ( uri );
+
+			// As in BeanRdfMapper, typed contexts get a scope per bean, which refers to the bean context
+			BeanMappingContext beanCtx = mapFactory.enterBeanContext ( source, uri, sink );
+			Map<String, Object> beanParams = params instanceof MappingContext
+				? ( (MappingContext) params ).forSubject ( beanCtx )
+				: params;
+
+			try
+			{
+				Object value = null;
+				
+				// The property mapper of the current property and when its work started, as BeanPropRdfMapper records them
+				RdfMapper timedMapper = null;
+				long start = 0;
+				
+				for ( Step step: steps )
+				{
+					if ( step.kind == GET || step.kind == DELEGATE_OBJECT ) 
+					{
+						// A new property begins
+						if ( timedMapper != null ) metrics.recordCall ( CallType.PROPERTY_MAPPER, timedMapper, start );
+						timedMapper = null;
+					}
+					
+					// Delegated bean property mappers report their errors with the property
+					propName = step.kind == DELEGATE_OBJECT ? null : step.propertyName;
+
+					if ( step.kind == GET ) 
+					{
+						value = step.getter.apply ( source );
+						timedMapper = step.mapper;
+						start = metrics.startTiming ();
+						continue;
+					}
+					if ( step.kind == DELEGATE_OBJECT ) {
+						( (ObjRdfMapper<T>) step.mapper ).map ( source, beanParams );
+						continue;
+					}
+
+					if ( value == null ) continue;
+
+					if ( !step.isCollection ) {
+						runStep ( step, source, subject, value, beanParams, mapFactory, sink, metrics );
+						continue;
+					}
+					for ( Object v: (Collection<?>) value )
+						runStep ( step, source, subject, v, beanParams, mapFactory, sink, metrics );
+				}
+				if ( timedMapper != null ) metrics.recordCall ( CallType.PROPERTY_MAPPER, timedMapper, start );
+			}
+			finally {
+				mapFactory.exitBeanContext ( beanCtx );
+			}
+			propName = null;
+
+			if ( uri == null ) return false;
+
+			if ( rdfClassNode != null )
+			{
+				sink.add ( subject, BeanRdfMapper.RDF_TYPE_NODE, rdfClassNode );
+				metrics.recordTriples ( CallType.OBJECT_MAPPER, beanMapper, 1 );
+			}
+			return true;
+		}
+		catch ( Exception ex )
+		{
+			// As in BeanPropRdfMapper, property failures report the property 
+			if ( propName != null ) throw new BeanPropertyMappingException ( source, propName, null, ex );
+			throw new RdfMappingException ( () -> String.format (
+				"Error while mapping %s[%s] to RDF: %s",
+				source.getClass ().getSimpleName (), StringUtils.abbreviate ( source.toString (), 50 ), ex.getMessage ()
+			), ex );
+		}
+	}
+
+	/**
+	 * Runs a step on a single property value.
+	 */
+	private void runStep (
+		Step step, T source, Node subject, Object value, Map<String, Object> params,
+		RdfMapperFactory mapFactory, TripleSink sink, MappingMetrics metrics
+	)
+	{
+		switch ( step.kind )
+		{
+			case LITERAL:
+			{
+				if ( subject == null || value == null ) return;
+
+				RdfLiteralGenerator litGen = ( (LiteralPropRdfMapper) step.mapper ).getLiteralGenerator ();
+				long start = metrics.startTiming ();
+				Literal literal = litGen.getValue ( value, params );
+				metrics.recordCall ( CallType.VALUE_GENERATOR, litGen, start );
+				if ( literal == null ) return;
+
+				sink.add ( subject, step.predicate, literal.asNode () );
+				metrics.recordTriples ( CallType.PROPERTY_MAPPER, step.mapper, 1 );
+				return;
+			}
+			case RESOURCE:
+			{
+				if ( subject == null || value == null ) return;
+
+				RdfUriGenerator uriGen = ( (ResourcePropRdfMapper) step.mapper ).getUriGenerator ();
+				String objUri;
+				if ( uriGen != null )
+				{
+					long start = metrics.startTiming ();
+					objUri = uriGen.getUri ( value, params );
+					metrics.recordCall ( CallType.VALUE_GENERATOR, uriGen, start );
+				}
+				else
+				{
+					if ( mapFactory.getRdfUriGenerator ( value ) instanceof AsyncRdfUriGenerator ) {
+						( (ResourcePropRdfMapper) step.mapper ).map ( source, value, params );
+						return;
+					}
+					objUri = mapFactory.getUri ( value, params );
+				}
+				if ( objUri == null ) return;
+
+				sink.add ( subject, step.predicate, mapFactory.getUriNode ( objUri ) );
+				metrics.recordTriples ( CallType.PROPERTY_MAPPER, step.mapper, 1 );
+
+				mapFactory.map ( value, params );
+				return;
+			}
+			case DELEGATE_PROPERTY:
+				( (PropertyRdfMapper) step.mapper ).map ( source, value, params );
+				return;
+		}
+	}
+
+	/**
+	 * The mapper this plan was compiled from.
+	 */
+	public BeanRdfMapper<T> getBeanMapper () {
+		return beanMapper;
+	}
+
+	/**
+	 * The number of steps in the plan, mainly for testing and reporting.
+	 */
+	public int getStepsCount () {
+		return steps.length;
+	}
+
+	/**
+	 * The number of steps in the plan that invoke the original mappers.
+	 */
+	public int getDelegateStepsCount ()
+	{
+		int result = 0;
+		for ( Step step: steps )
+			if ( step.kind == DELEGATE_OBJECT || step.kind == DELEGATE_PROPERTY ) result++;
+		return result;
+	}
+
+
+	private static Function<Object, Object> getGetter ( BeanPropRdfMapper propMapper, Class<?> beanClass )
+	{
+		Function<Object, Object> result = (Function<Object, Object>) propMapper.getGetter ();
+		if ( result != null ) return result;
+
+		RdfMapperFactory mapFactory = propMapper.getMapperFactory ();
+		if ( mapFactory == null ) return null;
+
+		try {
+			return mapFactory.getPropertyAccessors ().getAccessor ( beanClass, propMapper.getSourcePropertyName () );
+		}
+		catch ( RuntimeException ex ) {
+			// Let the bean property mapper report it, when it's used
+			return null;
+		}
+	}
+
+	private static boolean isUnfoldable ( PropertyRdfMapper propMapper )
+	{
+		return isLiteralMapper ( propMapper ) || isResourceMapper ( propMapper )
+			|| isCollectionMapper ( propMapper ) || isCompositeMapper ( propMapper );
+	}
+
+	private static boolean isLiteralMapper ( PropertyRdfMapper propMapper )
+	{
+		if ( ! ( propMapper instanceof LiteralPropRdfMapper ) ) return false;
+		LiteralPropRdfMapper litMapper = (LiteralPropRdfMapper) propMapper;
+		return litMapper.getTargetPropertyNode () != null && litMapper.getLiteralGenerator () != null
+			&& litMapper.getMapperFactory () != null
+			&& !isOverridden ( propMapper, LiteralPropRdfMapper.class, Object.class, Object.class, Map.class );
+	}
+
+	private static boolean isResourceMapper ( PropertyRdfMapper propMapper )
+	{
+		if ( ! ( propMapper instanceof ResourcePropRdfMapper ) ) return false;
+		ResourcePropRdfMapper resMapper = (ResourcePropRdfMapper) propMapper;
+		return resMapper.getTargetPropertyNode () != null && resMapper.getMapperFactory () != null
+			// Asynchronous URIs are left to the mapper, which doesn't block on them
+			&& ! ( resMapper.getUriGenerator () instanceof AsyncRdfUriGenerator )
+			&& !isOverridden ( propMapper, ResourcePropRdfMapper.class, Object.class, Object.class, Map.class );
+	}
+
+	private static boolean isCollectionMapper ( PropertyRdfMapper propMapper )
+	{
+		if ( ! ( propMapper instanceof CollectionPropRdfMapper ) ) return false;
+		return ( (CollectionPropRdfMapper) propMapper ).getPropertyMapper () != null
+			&& !isOverridden ( propMapper, CollectionPropRdfMapper.class, Object.class, Collection.class, Map.class );
+	}
+
+	private static boolean isCompositeMapper ( PropertyRdfMapper propMapper )
+	{
+		if ( ! ( propMapper instanceof CompositePropRdfMapper ) ) return false;
+		List<?> components = ( (CompositePropRdfMapper) propMapper ).getPropertyMappers ();
+		return components != null && !components.isEmpty ()
+			&& !isOverridden ( propMapper, CompositePropRdfMapper.class, Object.class, Object.class, Map.class );
+	}
+
+	/**
+	 * Tells if the mapper redefines the map() method that has the given (erased) parameters and that its base class
+	 * defines. If it does, we can't replace its behaviour with plan steps.
+	 */
+	private static boolean isOverridden ( RdfMapper<?> mapper, Class<?> baseClass, Class<?>... mapParamTypes )
+	{
+		try {
+			return mapper.getClass ().getMethod ( "map", mapParamTypes ).getDeclaringClass () != baseClass;
+		}
+		catch ( NoSuchMethodException ex ) {
+			return true;
+		}
+	}
+}
@@ -1,16 +1,61 @@
 package uk.ac.ebi.fg.java2rdf.mapping;
 
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.rdf.model.Model;
 
+import uk.ac.ebi.fg.java2rdf.mapping.MappingCheckpointer.Checkpoint;
+import uk.ac.ebi.fg.java2rdf.mapping.errors.ErrorBudgetExceededException;
+import uk.ac.ebi.fg.java2rdf.mapping.errors.MappingError;
+import uk.ac.ebi.fg.java2rdf.mapping.errors.MappingErrorSink;
+import uk.ac.ebi.fg.java2rdf.mapping.errors.PartialOutputPolicy;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.InMemoryMappingMetrics;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.JmxMappingMetrics;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics.CallType;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.BeanPropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.ResourcePropRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.AsyncRdfUriGenerator;
 import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.BufferedTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.CheckpointableTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.ModelTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.RollbackTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.TripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.visited.CheckpointableVisitedTracker;
+import uk.ac.ebi.fg.java2rdf.mapping.visited.EqualsVisitedTracker;
+import uk.ac.ebi.fg.java2rdf.mapping.visited.VisitedTracker;
+import uk.ac.ebi.fg.java2rdf.utils.IdentityUriCache;
+import uk.ac.ebi.fg.java2rdf.utils.PropertyAccessors;
+import uk.ac.ebi.fg.java2rdf.utils.UriNodeCache;
 
 /**
  * <p>This is to be used to configure the mappers needed for mapping a specific Java object model to RDF. You're expected to
@@ -33,14 +78,199 @@ import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
 public class RdfMapperFactory
 {
 	private Model graphModel;
+	private TripleSink tripleSink;
 	private Map<Class, ObjRdfMapper> mappers;
-	private Set visitedObjects = Collections.synchronizedSet ( new HashSet<> () );
+	private VisitedTracker visitedTracker = new EqualsVisitedTracker ();
+	
+	/** 
+	 * Caches the {@link MapperResolution mapper resolutions} per class. This is lock-free for the readers and it's 
+	 * replaced with a new instance when the mappers change. It's a plain map rather than a {@link ClassValue}, since 
+	 * the latter would keep the factory reachable from the bean classes, via the cached mappers.
+	 */
+	private volatile Map<Class<?>, MapperResolution> mapperResolutions = new ConcurrentHashMap<> ();
+	
+	/** The getters compiled for the mappers of this factory, for the same reason, they aren't cached globally */
+	private final PropertyAccessors propertyAccessors = new PropertyAccessors ();
+	private final ThreadLocal<BeanMappingContext> currentBeanContext = new ThreadLocal<> ();
+	
+	/** Used by {@link #mapAll(Iterator, int, Map)} to give each worker its own buffer */
+	private final ThreadLocal<TripleSink> threadTripleSink = new ThreadLocal<> ();
+	private int workerBufferSize = 10000;
+	private boolean isVirtualThreadsEnabled = false;
+
+	private TraversalMode traversalMode = TraversalMode.RECURSIVE;
+	
+	private MappingMetrics metrics = MappingMetrics.NO_OP;
+	
+	private UriNodeCache uriNodeCache = null;
+	private volatile IdentityUriCache uriCache = null;
+	
+	private volatile boolean isPlanCompilationEnabled = false;
+	
+	/** null means fail-fast, see {@link #setErrorSink(MappingErrorSink)} */
+	private MappingErrorSink errorSink = null;
+	private long errorBudget = Long.MAX_VALUE;
+	private PartialOutputPolicy partialOutputPolicy = PartialOutputPolicy.KEEP;
+	private final AtomicLong errorCount = new AtomicLong ( 0 );
+	
+	private MappingCheckpointer checkpointer = null;
+	
+	/** 
+	 * The objects waiting to be mapped, when {@link #traversalMode} isn't recursive. This is non-null only while 
+	 * the current thread is draining it. 
+	 */
+	private final ThreadLocal<Deque<PendingMapping>> workQueue = new ThreadLocal<> ();
+	
+	/**
+	 * The results of {@link AsyncRdfUriGenerator asynchronous generators} that the current thread is waiting for, see 
+	 * {@link #whenResolved(CompletableFuture, Consumer)}. This is non-null only within a top-level {@link #map(Object, Map)}
+	 * call or a {@link #mapAll(Iterable, int, Map)} worker. 
+	 */
+	private final ThreadLocal<AsyncResolutions> asyncResolutions = new ThreadLocal<> ();
+	private int asyncWindowSize = 1000;
+
+	/**
+	 * Keeps the actions registered via {@link RdfMapperFactory#whenResolved(CompletableFuture, Consumer)}, together 
+	 * with the generators to be flushed before waiting for them. 
+	 */
+	private static final class AsyncResolutions
+	{
+		private List<CompletableFuture> futures = new ArrayList<> ();
+		private List<Consumer> actions = new ArrayList<> ();
+		private Set<AsyncRdfUriGenerator> generators = Collections.newSetFromMap ( new IdentityHashMap<> () );
+		
+		void add ( CompletableFuture future, Consumer action ) 
+		{
+			futures.add ( future );
+			actions.add ( action );
+		}
+		
+		int size () {
+			return futures.size ();
+		}
+		
+		/**
+		 * Runs all the pending actions, in the order they were registered. The actions can register new actions, 
+		 * which are run after the current round. 
+		 */
+		void drain ()
+		{
+			while ( !futures.isEmpty () )
+			{
+				List<CompletableFuture> roundFutures = futures;
+				List<Consumer> roundActions = actions;
+				Set<AsyncRdfUriGenerator> roundGenerators = generators;
+				futures = new ArrayList<> ();
+				actions = new ArrayList<> ();
+				generators = Collections.newSetFromMap ( new IdentityHashMap<> () );
+				
+				for ( AsyncRdfUriGenerator generator: roundGenerators )
+					generator.flush ();
+				for ( int i = 0; i < roundFutures.size (); i++ )
+					roundActions.get ( i ).accept ( AsyncRdfUriGenerator.await ( roundFutures.get ( i ) ) );
+			}
+		}
+	}
+	
+	/**
+	 * An element in the {@link RdfMapperFactory#workQueue}.
+	 */
+	private static final class PendingMapping
+	{
+		final Object source;
+		final ObjRdfMapper<Object> mapper;
+		final Map<String, Object> params;
+		
+		@SuppressWarnings ( "unchecked" )
+		PendingMapping ( Object source, ObjRdfMapper<?> mapper, Map<String, Object> params ) 
+		{
+			this.source = source;
+			this.mapper = (ObjRdfMapper<Object>) mapper;
+			this.params = params;
+		}
+	}
+	
+	/**
+	 * What {@link RdfMapperFactory#getMapper(Class)} and {@link RdfMapperFactory#getRdfUriGenerator(Class)} return for 
+	 * a class, cached by {@link RdfMapperFactory#mapperResolutions}.  
+	 */
+	private static final class MapperResolution
+	{
+		final ObjRdfMapper mapper;
+		private volatile RdfUriGenerator uriGenerator;
+		
+		/** Compiled on demand, see {@link RdfMapperFactory#setPlanCompilationEnabled(boolean)} */ 
+		private volatile MappingPlan plan;
+		private volatile boolean isPlanCompiled = false;
+		
+		MapperResolution ( ObjRdfMapper mapper ) {
+			this.mapper = mapper;
+		}
+		
+		/**
+		 * The {@link MappingPlan} for {@link #mapper}, null if it can't be compiled. Two threads might compile it at the
+		 * same time, which is harmless, since the plans would be equivalent.
+		 */
+		MappingPlan getPlan ( Class<?> clazz )
+		{
+			if ( isPlanCompiled ) return plan;
+			if ( mapper instanceof BeanRdfMapper ) plan = MappingPlan.compile ( (BeanRdfMapper) mapper, clazz );
+			isPlanCompiled = true;
+			return plan;
+		}
+		
+		RdfUriGenerator getRdfUriGenerator ( RdfMapperFactory mapFactory, Class<?> clazz )
+		{
+			if ( ! ( mapper instanceof BeanRdfMapper) ) throw new RdfMappingException ( 
+				"Internal error: the mapper '" + ( mapper == null ? null : mapper.getClass ().getSimpleName () )
+				+ "' for '" + clazz.getSimpleName () + "' is not a BeanRdfMapper and I cannot get a URI generator from it" 
+			);
+			
+			// The mapper might have changed its generator in the meantime, so let's check it, it costs a field read.
+			RdfUriGenerator result = ((BeanRdfMapper) mapper).getRdfUriGenerator ();
+			if ( result == uriGenerator ) return result;
+			
+			if ( result != null && result.getMapperFactory () == null ) result.setMapperFactory ( mapFactory );
+			return uriGenerator = result;
+		}
+	}
+	
+	/**
+	 * Probes the JDK for virtual threads the first time they're needed, rather than when the factory class is 
+	 * loaded, since the probe creates an executor and most of the factories never use it. The JVM initialises 
+	 * this class once, at its first access, so no further synchronisation is needed.
+	 */
+	private static final class VirtualThreadsProbe
+	{
+		/** Executors.newVirtualThreadPerTaskExecutor(), null if the JDK doesn't have it (it's available since Java 21) */
+		static final Method NEW_VIRTUAL_EXECUTOR_METHOD = probe ();
+		
+		private static Method probe ()
+		{
+			try
+			{
+				Method result = Executors.class.getMethod ( "newVirtualThreadPerTaskExecutor" );
+				// In Java 19/20, this is a preview feature and it fails if previews aren't enabled
+				( (ExecutorService) result.invoke ( null ) ).shutdown ();
+				return result;
+			}
+			catch ( ReflectiveOperationException | RuntimeException ex ) {
+				return null;
+			}
+		}
+	}
 	
 	public RdfMapperFactory () {
 	}
 	
-	public RdfMapperFactory ( Model graphModel ) {
+	public RdfMapperFactory ( Model graphModel ) 
+	{
 		this.graphModel = graphModel;
+		if ( graphModel != null ) this.tripleSink = new ModelTripleSink ( graphModel );
+	}
+
+	public RdfMapperFactory ( TripleSink tripleSink ) {
+		this.setTripleSink ( tripleSink );
 	}
 	
 
@@ -57,10 +287,38 @@ public class RdfMapperFactory
 	 * Tells which mapper is used for instances of this class. This has to be defined in advance, via 
 	 * {@link #setMapper(Class, ObjRdfMapper)} or {@link #setMappers(Map)}. 
 	 * 
+	 * If there isn't a mapper for the class, its superclasses and interfaces are searched, so that one can map an 
+	 * higher level to a more specific implementation. The results of this search (including the lack of a mapper) 
+	 * are cached and the cache is cleared when the mappers are changed via the setters above (see 
+	 * {@link #clearMapperCache()}). 
 	 */
 	public <T> ObjRdfMapper<T> getMapper ( Class<T> clazz ) 
 	{
 		Validate.notNull ( clazz, "Internal error: cannot map a null class" );
+		return this.getMapperResolution ( clazz ).mapper;
+	}
+	
+	/**
+	 * Gets the resolution for the class from {@link #mapperResolutions}, computing it if it's not there yet.
+	 */
+	private MapperResolution getMapperResolution ( Class<?> clazz )
+	{
+		Map<Class<?>, MapperResolution> cache = this.mapperResolutions;
+		MapperResolution result = cache.get ( clazz );
+		if ( result != null ) return result;
+		
+		// Not computeIfAbsent(), since resolveMapper() recurses on the superclasses. If this throws an exception, 
+		// because the mappers aren't set yet, nothing is cached
+		result = new MapperResolution ( resolveMapper ( clazz ) );
+		MapperResolution prevResult = cache.putIfAbsent ( clazz, result );
+		return prevResult == null ? result : prevResult;
+	}
+
+	/**
+	 * The un-cached version of {@link #getMapper(Class)}, used to populate {@link #mapperResolutions}.
+	 */
+	private <T> ObjRdfMapper<T> resolveMapper ( Class<T> clazz ) 
+	{
 		Validate.notNull ( mappers, "Internal error: Please initialise the Java2RDF framework with a set of mappers, "
 			+ "before requesting a mapper for '%s'", clazz.getSimpleName () );
 				
@@ -76,6 +334,15 @@ public class RdfMapperFactory
 
 		return null;
 	}
+	
+	/**
+	 * Clears the cache used by {@link #getMapper(Class)}. This is done automatically by 
+	 * {@link #setMapper(Class, ObjRdfMapper)} and {@link #setMappers(Map)}, you need to call it only if you 
+	 * change the map returned by {@link #getMappers()} directly. 
+	 */
+	public void clearMapperCache () {
+		this.mapperResolutions = new ConcurrentHashMap<> ();
+	}
 
 	/**
 	 * This is used by {@link #map(Object, Map)} to map a JavaBean to RDF statements. This method invokes 
@@ -89,7 +356,9 @@ public class RdfMapperFactory
 		
 		if ( mappers == null ) mappers = new HashMap<> ();
 		mapper.setMapperFactory ( this );
-		return mappers.put ( clazz, mapper );
+		ObjRdfMapper result = mappers.put ( clazz, mapper );
+		this.clearMapperCache ();
+		return result;
 	}
 	
 	/**
@@ -102,22 +371,55 @@ public class RdfMapperFactory
 	/**
 	 * See {@link #setMapper(Class, ObjRdfMapper)}.
 	 */
-	public void setMappers ( Map<Class, ObjRdfMapper> mappers ) {
+	public void setMappers ( Map<Class, ObjRdfMapper> mappers ) 
+	{
 		this.mappers = mappers;
+		this.clearMapperCache ();
 	}
 	
-	/** This is where the mapping output goes */
+	/** 
+	 * This is where the mapping output goes, when the factory uses a {@link ModelTripleSink}. If a different 
+	 * {@link #getTripleSink() triple sink} is used, this is null.
+	 */
 	public Model getGraphModel () {
 		return graphModel;
 	}
 
 	/**
-	 * In case it is really new, {@link #reset()} is invoked. 
+	 * Sets up a {@link ModelTripleSink} that stores the output into this model. In case it is really new, 
+	 * {@link #reset()} is invoked. 
 	 */
 	public void setGraphModel ( Model graphModel ) 
 	{
 		if ( this.graphModel == graphModel ) return;
 		this.graphModel = graphModel;
+		this.tripleSink = graphModel == null ? null : new ModelTripleSink ( graphModel );
+		this.reset ();
+	}
+	
+	/**
+	 * The destination of the triples produced by the mappers. If you set up this factory with a Jena model, this is a 
+	 * {@link ModelTripleSink}, other implementations of {@link TripleSink} allow for streaming the output without
+	 * keeping it in memory.
+	 * 
+	 * When this is called by a worker thread of {@link #mapAll(Iterable, int)}, it returns the worker's buffer, 
+	 * which eventually sends the triples to the sink set via {@link #setTripleSink(TripleSink)}. 
+	 */
+	public TripleSink getTripleSink () 
+	{
+		TripleSink result = threadTripleSink.get ();
+		return result == null ? tripleSink : result;
+	}
+
+	/**
+	 * In case it is really new, {@link #reset()} is invoked. This updates {@link #getGraphModel()} according to the 
+	 * sink type.
+	 */
+	public void setTripleSink ( TripleSink tripleSink ) 
+	{
+		if ( this.tripleSink == tripleSink ) return;
+		this.tripleSink = tripleSink;
+		this.graphModel = tripleSink instanceof ModelTripleSink ? ( (ModelTripleSink) tripleSink ).getModel () : null;
 		this.reset ();
 	}
 
@@ -125,19 +427,178 @@ public class RdfMapperFactory
 	 * <p>This invokes {@link #getMapper(Object)} and then its {@link ObjRdfMapper#map(Object, Map) map method}. It does this
 	 * only if the object has not been already mapped. Always call this, which trace already-mapped beans. 
 	 * Never call {@link BeanRdfMapper#map(Object, Map)} directly.</p>
+	 * 
+	 * <p>If the {@link #getTraversalMode() traversal mode} isn't recursive and this is invoked by a mapper while another 
+	 * object is being mapped, the source is just put in a work queue and this method returns true if it 
+	 * wasn't visited yet. The top-level invocation maps the root object and then drains the queue. Hence, in this 
+	 * mode, the result of nested invocations doesn't tell if the source will actually yield RDF (it tells it will be 
+	 * considered for the mapping).</p>
 	 *  
+	 * <p>The same is true when the URIs come from {@link AsyncRdfUriGenerator asynchronous generators}, 
+	 * see {@link #whenResolved(CompletableFuture, Consumer)}.</p>
+	 * 
 	 * <p>TODO: AOP around the source mapper.</p>
 	 */
 	public <T> boolean map ( T source, Map<String, Object> params )
 	{
 		if ( source == null ) return false;
-		if ( this.visitedObjects.contains ( source ) ) return false;
-			
+		if ( asyncResolutions.get () != null ) return mapInAsyncScope ( source, params );
+		
+		// Top-level call, the results of asynchronous generators must be waited for before returning.
+		AsyncResolutions resolutions = new AsyncResolutions ();
+		asyncResolutions.set ( resolutions );
+		try 
+		{
+			boolean result = mapInAsyncScope ( source, params );
+			resolutions.drain ();
+			return result;
+		}
+		finally {
+			asyncResolutions.remove ();
+		}
+	}
+	
+	/**
+	 * The actual implementation of {@link #map(Object, Map)}, which has already set up {@link #asyncResolutions}.
+	 */
+	private <T> boolean mapInAsyncScope ( T source, Map<String, Object> params )
+	{
+		// As in the original map(), objects without a mapper are reported before being marked as visited, so that 
+		// they're never counted as visits and, in the work queue modes, the error comes up immediately 
 		ObjRdfMapper<T> mapper = getMapper ( source );
 		Validate.notNull ( mapper, "Cannot find a mapper for '%s'", source.getClass ().getSimpleName () );
+
+		if ( traversalMode == TraversalMode.RECURSIVE ) 
+		{
+			if ( !this.visit ( source, params ) ) return false;
+			return mapVisited ( source, mapper, params );
+		}
+		
+		Deque<PendingMapping> queue = this.workQueue.get ();
+		if ( queue != null )
+		{
+			// We're already draining the queue, defer the mapping  
+			if ( !this.visit ( source, params ) ) return false;
+			queue.addLast ( new PendingMapping ( source, mapper, params ) );
+			return true;
+		}
+		
+		// Else, this is a top-level call
+		if ( !this.visit ( source, params ) ) return false;
+
+		queue = new ArrayDeque<> ();
+		this.workQueue.set ( queue );
+		try 
+		{
+			boolean result = mapVisited ( source, mapper, params );
+			
+			boolean isBreadthFirst = traversalMode == TraversalMode.BREADTH_FIRST;
+			for ( PendingMapping next; ( next = isBreadthFirst ? queue.pollFirst () : queue.pollLast () ) != null; )
+				mapVisited ( next.source, next.mapper, next.params );
+			
+			return result;
+		}
+		finally {
+			this.workQueue.remove ();
+		}
+	}
+	
+	/**
+	 * Marks the source as visited, returns false if it was already visited.
+	 */
+	private boolean visit ( Object source, Map<String, Object> params )
+	{
+		boolean result = this.visitedTracker.visit ( source, params );
+		this.metrics.recordVisit ( result );
+		return result;
+	}
+	
+	/**
+	 * Maps an object already marked as visited, using its mapper.
+	 */
+	private <T> boolean mapVisited ( T source, ObjRdfMapper<T> mapper, Map<String, Object> params )
+	{
+		ObjRdfMapper<T> runner = mapper;
+		if ( isPlanCompilationEnabled ) 
+		{
+			MappingPlan<T> plan = getMappingPlan ( (Class<T>) source.getClass () );
+			// getMapper() might be overridden, in which case we can't rely on the plan 
+			if ( plan != null && plan.getBeanMapper () == mapper ) runner = plan;
+		}
+		
+		long start = metrics.startTiming ();
+		boolean result = errorSink == null ? runner.map ( source, params ) : mapFailSoft ( runner, source, params );
+		metrics.recordCall ( CallType.OBJECT_MAPPER, mapper, start );
+		
+		if ( result && checkpointer != null && !( mapper instanceof BeanRdfMapper ) ) checkCheckpointed ( source );
+		return result;
+	}
+	
+	/**
+	 * During a {@link #setCheckpointer(MappingCheckpointer) checkpointed} job, fails if the tracker doesn't save 
+	 * an object that was mapped, since it would be mapped again after a resume, duplicating its triples. Bean
+	 * mappers don't need this check, since their objects aren't saved only when they have no URI, in which case 
+	 * they don't produce any triple.
+	 */
+	private void checkCheckpointed ( Object source )
+	{
+		if ( !( visitedTracker instanceof CheckpointableVisitedTracker ) ) return;
+		if ( ( (CheckpointableVisitedTracker) visitedTracker ).isCheckpointed ( source ) ) return;
+		
+		throw new RdfMappingException ( String.format ( 
+			"The object %s[%s] was mapped during a checkpointed job, but the visited tracker doesn't save it with the "
+			+ "checkpoints (eg, it has no URI), so it might be mapped twice after a resume. Give it a key in the visited "
+			+ "tracker, or map it without checkpoints",
+			source.getClass ().getSimpleName (), StringUtils.abbreviate ( source.toString (), 50 )
+		));
+	}
+	
+	/**
+	 * Runs the mapper for a single bean in the fail-soft mode, see {@link #setErrorSink(MappingErrorSink)}.
+	 */
+	private <T> boolean mapFailSoft ( ObjRdfMapper<T> runner, T source, Map<String, Object> params )
+	{
+		RollbackTripleSink beanSink = null;
+		TripleSink prevThreadSink = null;
+		if ( partialOutputPolicy == PartialOutputPolicy.ROLLBACK )
+		{
+			// Nested beans commit to the same target as their parent, so that they're kept or discarded independently 
+			prevThreadSink = threadTripleSink.get ();
+			TripleSink target = prevThreadSink instanceof RollbackTripleSink
+				? ( (RollbackTripleSink) prevThreadSink ).getTarget () 
+				: getTripleSink ();
+			beanSink = new RollbackTripleSink ( target );
+			threadTripleSink.set ( beanSink );
+		}
 		
-		this.visitedObjects.add ( source );
-		return mapper.map ( source, params ); 
+		try 
+		{
+			boolean result = runner.map ( source, params );
+			if ( beanSink != null ) beanSink.commit ();
+			return result;
+		}
+		catch ( RuntimeException ex )
+		{
+			// The budget might have been exceeded by a nested bean, whose error was wrapped by the mappers in between
+			int budgetErrorIdx = ExceptionUtils.indexOfType ( ex, ErrorBudgetExceededException.class );
+			if ( budgetErrorIdx != -1 ) 
+				throw (ErrorBudgetExceededException) ExceptionUtils.getThrowableList ( ex ).get ( budgetErrorIdx );
+			
+			if ( beanSink != null ) beanSink.rollback ();
+			
+			long nerrors = errorCount.incrementAndGet ();
+			errorSink.error ( new MappingError ( source, ex ) );
+			if ( nerrors > errorBudget ) throw new ErrorBudgetExceededException ( errorBudget, ex );
+			return false;
+		}
+		finally 
+		{
+			if ( beanSink != null ) 
+			{
+				if ( prevThreadSink == null ) threadTripleSink.remove ();
+				else threadTripleSink.set ( prevThreadSink );
+			}
+		}
 	}
 	
 	public final <T> boolean map ( T source ) {
@@ -145,20 +606,577 @@ public class RdfMapperFactory
 	}
 
 	/**
-	 * See {@link #getRdfUriGenerator(Object)} and {@link #getMapper(Class)}.
+	 * Maps multiple root objects in parallel, using {@link #map(Object, Map)} for each of them.
+	 * 
+	 * The roots are distributed across a pool of parallelism worker threads. The objects reachable from the roots
+	 * are still mapped only once, since the {@link #getVisitedTracker() visited tracker} is shared by the workers 
+	 * (all the trackers in this package are thread-safe). Each worker has its own 
+	 * {@link BufferedTripleSink triple buffer}, which is regularly merged into the {@link #getTripleSink() factory's sink}
+	 * (see {@link #getWorkerBufferSize()}). 
+	 * 
+	 * The mappers must not be changed while this method runs, and they must be thread-safe. All the mappers in this 
+	 * library are, as long as they aren't re-configured during the mapping, so you have to care only about your 
+	 * own extensions (eg, URI generators).
+	 * 
+	 * If any root fails, the workers stop picking new roots and the first error is re-thrown, after the workers
+	 * have finished. The triples still buffered by the worker where the error occurred are discarded, while the 
+	 * other buffers are sent to the sink before re-throwing.
+	 * 
+	 * If {@link #isVirtualThreadsEnabled()} is set, each root is mapped by its own task, see there.
+	 * 
+	 * If {@link #getCheckpointer()} is set, the progress is saved regularly and a job that was interrupted is resumed
+	 * from its last checkpoint, see {@link MappingCheckpointer}. 
+	 * 
+	 * The URIs from {@link AsyncRdfUriGenerator asynchronous generators} are waited for every 
+	 * {@link #getAsyncWindowSize()} pending results, so that multiple roots contribute to the generator batches.
+	 * 
+	 * @param parallelism the number of worker threads, or the maximum number of roots mapped at the same time in 
+	 *        the virtual thread mode. If &lt;= 1, the roots are mapped in the current thread.
+	 * @return the number of roots for which {@link #map(Object, Map)} returned true.
 	 */
-	public <T> RdfUriGenerator<T> getRdfUriGenerator ( Class<T> clazz ) 
+	public long mapAll ( Iterable<?> roots, int parallelism, Map<String, Object> params ) 
 	{
-		Validate.notNull ( clazz, "Internal error: I cannot have a URI generator for a null class" );
-		ObjRdfMapper<T> mapper = getMapper ( clazz );
-		if ( ! ( mapper instanceof BeanRdfMapper) ) throw new RdfMappingException ( 
-			"Internal error: the mapper '" + mapper.getClass ().getSimpleName () + "' is not a BeanRdfMapper and I cannot get "
-			+ "a URI generator from it" 
+		Validate.notNull ( roots, "Can't map a null set of root objects" );
+		return mapAll ( roots.iterator (), parallelism, params );
+	}
+
+	/**
+	 * Wrapper with params = null.
+	 */
+	public long mapAll ( Iterable<?> roots, int parallelism ) {
+		return mapAll ( roots, parallelism, null );
+	}
+
+	/**
+	 * Like {@link #mapAll(Iterable, int, Map)}, the stream is closed at the end.
+	 */
+	public long mapAll ( Stream<?> roots, int parallelism, Map<String, Object> params ) 
+	{
+		Validate.notNull ( roots, "Can't map a null stream of root objects" );
+		try ( roots ) {
+			return mapAll ( roots.iterator (), parallelism, params );
+		}
+	}
+
+	/**
+	 * Wrapper with params = null.
+	 */
+	public long mapAll ( Stream<?> roots, int parallelism ) {
+		return mapAll ( roots, parallelism, null );
+	}
+	
+	private long mapAll ( Iterator<?> roots, int parallelism, Map<String, Object> params )
+	{
+		Validate.notNull ( tripleSink, "Can't map to RDF without a triple sink" );
+		
+		MappingCheckpointer checkpointer = this.checkpointer;
+		if ( checkpointer != null )
+		{
+			Validate.isTrue ( parallelism <= 1, "Mapping checkpoints are supported with sequential mapAll() only" );
+			Validate.isTrue ( tripleSink instanceof CheckpointableTripleSink, 
+				"Mapping checkpoints require a checkpointable triple sink, %s isn't", tripleSink.getClass ().getName ()
+			);
+			Validate.isTrue ( visitedTracker instanceof CheckpointableVisitedTracker, 
+				"Mapping checkpoints require a checkpointable visited tracker, %s isn't", visitedTracker.getClass ().getName () 
+			);
+		}
+
+		if ( parallelism <= 1 ) 
+		{
+			AsyncResolutions resolutions = new AsyncResolutions ();
+			asyncResolutions.set ( resolutions );
+			try
+			{
+				long result = 0, nroots = 0;
+				if ( checkpointer != null )
+				{
+					Checkpoint checkpoint = checkpointer.restore ( 
+						(CheckpointableTripleSink) tripleSink, (CheckpointableVisitedTracker) visitedTracker 
+					);
+					if ( checkpoint != null ) 
+					{
+						checkpointer.skipRoots ( roots, checkpoint );
+						nroots = checkpoint.getRoots ();
+						result = checkpoint.getMappedRoots ();
+					}
+				}
+				
+				while ( roots.hasNext () )
+				{
+					if ( this.map ( roots.next (), params ) ) result++;
+					nroots++;
+					if ( resolutions.size () >= asyncWindowSize ) resolutions.drain ();
+					
+					if ( checkpointer != null && nroots % checkpointer.getInterval () == 0 ) {
+						resolutions.drain ();
+						checkpointer.save ( nroots, result, (CheckpointableTripleSink) tripleSink, (CheckpointableVisitedTracker) visitedTracker );
+					}
+				}
+				resolutions.drain ();
+				
+				if ( checkpointer != null )
+					checkpointer.save ( nroots, result, (CheckpointableTripleSink) tripleSink, (CheckpointableVisitedTracker) visitedTracker );
+				return result;
+			}
+			finally {
+				asyncResolutions.remove ();
+			}
+		}
+		
+		if ( isVirtualThreadsEnabled ) return mapAllPerRoot ( roots, parallelism, params );
+		
+		AtomicLong result = new AtomicLong ( 0 );
+		AtomicReference<Throwable> error = new AtomicReference<> ();
+		
+		AtomicInteger threadCounter = new AtomicInteger ( 0 );
+		ExecutorService executor = Executors.newFixedThreadPool ( 
+			parallelism, 
+			task -> new Thread ( task, "java2rdf-mapper-" + threadCounter.incrementAndGet () ) 
 		);
-		RdfUriGenerator<T> result = ((BeanRdfMapper) mapper).getRdfUriGenerator ();
-		if ( result.getMapperFactory () == null ) result.setMapperFactory ( this );
 		
+		Runnable worker = () -> 
+		{
+			BufferedTripleSink buffer = new BufferedTripleSink ( tripleSink, workerBufferSize );
+			threadTripleSink.set ( buffer );
+			AsyncResolutions resolutions = new AsyncResolutions ();
+			asyncResolutions.set ( resolutions );
+			try 
+			{
+				while ( error.get () == null )
+				{
+					Object root;
+					synchronized ( roots ) {
+						if ( !roots.hasNext () ) break;
+						root = roots.next ();
+					}
+					if ( this.map ( root, params ) ) result.incrementAndGet ();
+					if ( resolutions.size () >= asyncWindowSize ) resolutions.drain ();
+				}
+				resolutions.drain ();
+				buffer.flush ();
+			}
+			catch ( RuntimeException | Error ex ) {
+				error.compareAndSet ( null, ex );
+			}
+			finally 
+			{
+				threadTripleSink.remove ();
+				asyncResolutions.remove ();
+			}
+		};
+		
+		for ( int i = 0; i < parallelism; i++ )
+			executor.submit ( worker );
+		executor.shutdown ();
+		
+		try {
+			while ( !executor.awaitTermination ( 1, TimeUnit.MINUTES ) );
+		}
+		catch ( InterruptedException ex ) 
+		{
+			executor.shutdownNow ();
+			Thread.currentThread ().interrupt ();
+			throw new RdfMappingException ( "Parallel RDF mapping interrupted", ex );
+		}
+		
+		Throwable ex = error.get ();
+		if ( ex instanceof RuntimeException ) throw (RuntimeException) ex;
+		if ( ex instanceof Error ) throw (Error) ex;
+		
+		return result.get ();
+	}
+
+	/**
+	 * The {@link #isVirtualThreadsEnabled() virtual thread mode} of {@link #mapAll(Iterator, int, Map)}: a task per 
+	 * root, at most maxConcurrency of them running at the same time. 
+	 */
+	private long mapAllPerRoot ( Iterator<?> roots, int maxConcurrency, Map<String, Object> params )
+	{
+		AtomicLong result = new AtomicLong ( 0 );
+		AtomicReference<Throwable> error = new AtomicReference<> ();
+		
+		Semaphore permits = new Semaphore ( maxConcurrency );
+		
+		// The tasks reuse a pool of buffers, so there are at most maxConcurrency of them, rather than one per root  
+		Queue<BufferedTripleSink> buffers = new ConcurrentLinkedQueue<> ();
+
+		ExecutorService executor = newPerTaskExecutor ();
+		try 
+		{
+			try
+			{
+				while ( error.get () == null && roots.hasNext () )
+				{
+					Object root = roots.next ();
+					
+					// Blocks until a running task finishes, so that the roots are fetched only when they can be mapped
+					permits.acquire ();
+					try
+					{
+						executor.execute ( () -> 
+						{
+							BufferedTripleSink buffer = buffers.poll ();
+							if ( buffer == null ) buffer = new BufferedTripleSink ( tripleSink, workerBufferSize );
+							threadTripleSink.set ( buffer );
+							try 
+							{
+								if ( this.map ( root, params ) ) result.incrementAndGet ();
+								// The task sends its own output, so that it isn't affected by the failures of other tasks
+								buffer.flush ();
+								buffers.add ( buffer );
+							}
+							catch ( RuntimeException | Error ex ) {
+								// As in the fixed pool, what the failed task has buffered is discarded, with the buffer 
+								error.compareAndSet ( null, ex );
+							}
+							finally 
+							{
+								threadTripleSink.remove ();
+								permits.release ();
+							}
+						});
+					}
+					catch ( RuntimeException ex ) {
+						// Eg, RejectedExecutionException, the task won't run and release its permit
+						permits.release ();
+						throw ex;
+					}
+				}
+			}
+			catch ( RuntimeException | Error ex ) {
+				// Fetching or submitting a root failed, it's reported after the running tasks 
+				error.compareAndSet ( null, ex );
+			}
+			
+			// Waits for the tasks still running
+			permits.acquire ( maxConcurrency );
+		}
+		catch ( InterruptedException ex ) 
+		{
+			executor.shutdownNow ();
+			Thread.currentThread ().interrupt ();
+			throw new RdfMappingException ( "Parallel RDF mapping interrupted", ex );
+		}
+		finally {
+			executor.shutdown ();
+		}
+		
+		Throwable ex = error.get ();
+		if ( ex instanceof RuntimeException ) throw (RuntimeException) ex;
+		if ( ex instanceof Error ) throw (Error) ex;
+		
+		return result.get ();
+	}
+	
+	/**
+	 * A virtual thread per task if they're {@link #isVirtualThreadsSupported() supported}, else a pool of platform 
+	 * threads, which is unbounded, since {@link #mapAllPerRoot(Iterator, int, Map)} bounds the tasks.
+	 */
+	private static ExecutorService newPerTaskExecutor ()
+	{
+		Method newVirtualExecutorMethod = VirtualThreadsProbe.NEW_VIRTUAL_EXECUTOR_METHOD;
+		if ( newVirtualExecutorMethod != null ) 
+		{
+			try {
+				return (ExecutorService) newVirtualExecutorMethod.invoke ( null );
+			}
+			catch ( ReflectiveOperationException ex ) {
+				throw new RdfMappingException ( "Internal error while creating virtual threads: " + ex.getMessage (), ex );
+			}
+		}
+		
+		AtomicInteger threadCounter = new AtomicInteger ( 0 );
+		return Executors.newCachedThreadPool ( task -> {
+			Thread thread = new Thread ( task, "java2rdf-root-mapper-" + threadCounter.incrementAndGet () );
+			thread.setDaemon ( true );
+			return thread;
+		});
+	}
+
+	/**
+	 * If true, {@link #mapAll(Iterable, int, Map)} maps each root in its own task, running at most parallelism 
+	 * tasks at the same time, on virtual threads, when the JDK supports them (see 
+	 * {@link #isVirtualThreadsSupported()}), on platform threads otherwise.
+	 * 
+	 * This is useful when the mapping is I/O-bound, eg, when {@link RdfUriGenerator URI generators} 
+	 * resolve accessions against a remote service or a database: a thread blocked on I/O costs little, so you can use 
+	 * a parallelism of hundreds and have the same number of calls in flight. Since the generators are invoked by the 
+	 * task mapping a root, each of their calls runs on a virtual thread too. As in the default mode, the visited 
+	 * tracker is shared and each running task writes into a {@link BufferedTripleSink buffer} of its own, which is
+	 * sent to the factory's sink when the task has mapped its root. If the root fails, the triples still buffered for 
+	 * it are discarded.
+	 * 
+	 * With CPU-bound mappings, stick to the default (false), which uses a fixed pool of parallelism threads. 
+	 */
+	public boolean isVirtualThreadsEnabled () {
+		return isVirtualThreadsEnabled;
+	}
+
+	public void setVirtualThreadsEnabled ( boolean isVirtualThreadsEnabled ) {
+		this.isVirtualThreadsEnabled = isVirtualThreadsEnabled;
+	}
+
+	/**
+	 * True if the current JDK has virtual threads (Java 21 or later), which are used with 
+	 * {@link #setVirtualThreadsEnabled(boolean)}.
+	 */
+	public static boolean isVirtualThreadsSupported () {
+		return VirtualThreadsProbe.NEW_VIRTUAL_EXECUTOR_METHOD != null;
+	}
+	
+	/**
+	 * The size (in number of triples) of the buffers used by {@link #mapAll(Iterable, int)}. Higher values reduce 
+	 * the contention between workers on the target sink, at the cost of more memory. 
+	 */
+	public int getWorkerBufferSize () {
+		return workerBufferSize;
+	}
+
+	public void setWorkerBufferSize ( int workerBufferSize ) 
+	{
+		Validate.isTrue ( workerBufferSize > 0, "The worker buffer size must be positive" );
+		this.workerBufferSize = workerBufferSize;
+	}
+
+	/**
+	 * How many results of {@link AsyncRdfUriGenerator asynchronous generators} a thread of 
+	 * {@link #mapAll(Iterable, int, Map)} waits for together, see {@link #whenResolved(CompletableFuture, Consumer)}. 
+	 * Higher values allow for bigger generator batches, at the cost of more memory. 
+	 */
+	public int getAsyncWindowSize () {
+		return asyncWindowSize;
+	}
+
+	public void setAsyncWindowSize ( int asyncWindowSize ) 
+	{
+		Validate.isTrue ( asyncWindowSize > 0, "The async window size must be positive" );
+		this.asyncWindowSize = asyncWindowSize;
+	}
+	
+	/**
+	 * If not null, the mapping is in fail-soft mode: when a bean fails to be mapped, the error is reported to this 
+	 * sink, the bean is skipped (ie, {@link #map(Object, Map)} returns false for it) and the mapping goes on with the 
+	 * other beans, including the ones that link the failed bean, so that a few bad objects don't abort a long export. 
+	 * The bean's triples emitted before the failure are kept or discarded depending on 
+	 * {@link #getPartialOutputPolicy()}, and if the failures exceed {@link #getErrorBudget()}, the mapping is aborted
+	 * with an {@link ErrorBudgetExceededException}.
+	 * 
+	 * The default is null, ie, fail-fast: the first error is propagated to the caller. Use 
+	 * {@link MappingErrorSink#LOGGING} to just log the failures.
+	 * 
+	 * Errors raised while completing the mappings deferred by 
+	 * {@link #whenResolved(CompletableFuture, Consumer) asynchronous URI generators} aren't covered by this mode, and 
+	 * they're always propagated.
+	 */
+	public MappingErrorSink getErrorSink () {
+		return errorSink;
+	}
+
+	/**
+	 * Don't change this in the middle of a mapping job.
+	 */
+	public void setErrorSink ( MappingErrorSink errorSink ) {
+		this.errorSink = errorSink;
+	}
+
+	/**
+	 * The max no. of failed beans that the {@link #getErrorSink() fail-soft mode} tolerates. Default is 
+	 * {@link Long#MAX_VALUE}, ie, no limit. The count is zeroed by {@link #reset()}.
+	 */
+	public long getErrorBudget () {
+		return errorBudget;
+	}
+
+	public void setErrorBudget ( long errorBudget ) 
+	{
+		Validate.isTrue ( errorBudget >= 0, "The mapping error budget can't be negative" );
+		this.errorBudget = errorBudget;
+	}
+
+	/**
+	 * What to do with the triples of the beans that fail in the {@link #getErrorSink() fail-soft mode}. Default is 
+	 * {@link PartialOutputPolicy#KEEP}.
+	 */
+	public PartialOutputPolicy getPartialOutputPolicy () {
+		return partialOutputPolicy;
+	}
+
+	/**
+	 * Don't change this in the middle of a mapping job.
+	 */
+	public void setPartialOutputPolicy ( PartialOutputPolicy partialOutputPolicy ) 
+	{
+		Validate.notNull ( partialOutputPolicy, "Can't use a null partial output policy" );
+		this.partialOutputPolicy = partialOutputPolicy;
+	}
+
+	/**
+	 * The no. of beans that failed in the {@link #getErrorSink() fail-soft mode} since the last {@link #reset()}.
+	 */
+	public long getErrorCount () {
+		return errorCount.get ();
+	}
+	
+	/**
+	 * If not null, {@link #mapAll(Iterable, int, Map)} saves checkpoints and resumes from them, see 
+	 * {@link MappingCheckpointer} for details and requirements. Default is null. 
+	 */
+	public MappingCheckpointer getCheckpointer () {
+		return checkpointer;
+	}
+
+	public void setCheckpointer ( MappingCheckpointer checkpointer ) {
+		this.checkpointer = checkpointer;
+	}
+	
+	/**
+	 * How the objects reachable from the one passed to {@link #map(Object, Map)} are traversed. The default is 
+	 * {@link TraversalMode#RECURSIVE}, use the other modes for object graphs with long chains of links, which could 
+	 * make the recursion too deep.
+	 * 
+	 * Note that, when used with {@link #mapAll(Iterable, int)}, each worker thread has its own work queue.
+	 */
+	public TraversalMode getTraversalMode () {
+		return traversalMode;
+	}
+
+	/**
+	 * Don't change this in the middle of a mapping job.
+	 */
+	public void setTraversalMode ( TraversalMode traversalMode ) 
+	{
+		Validate.notNull ( traversalMode, "Can't use a null traversal mode" );
+		this.traversalMode = traversalMode;
+	}
+	
+	/**
+	 * Collects figures about the mapping, like per-mapper call counts and timing, emitted triples, visited object hits.
+	 * The default is {@link MappingMetrics#NO_OP}, which costs nothing, use {@link InMemoryMappingMetrics} or 
+	 * {@link JmxMappingMetrics} to see them.
+	 */
+	public MappingMetrics getMetrics () {
+		return metrics;
+	}
+
+	/**
+	 * null means {@link MappingMetrics#NO_OP}.
+	 */
+	public void setMetrics ( MappingMetrics metrics ) {
+		this.metrics = metrics == null ? MappingMetrics.NO_OP : metrics;
+	}
+
+	/**
+	 * If true, {@link #map(Object, Map)} doesn't use the {@link BeanRdfMapper bean mappers} directly, but it
+	 * compiles them into {@link MappingPlan mapping plans}, which yield the same output with fewer calls and checks.
+	 * 
+	 * A plan is compiled the first time a class is mapped and it's a snapshot of its mapper, so, if you change the 
+	 * mappers after that, you need to call {@link #clearMapperCache()} (the setters in this class do it). Default is 
+	 * false.
+	 */
+	public boolean isPlanCompilationEnabled () {
+		return isPlanCompilationEnabled;
+	}
+
+	public void setPlanCompilationEnabled ( boolean isPlanCompilationEnabled ) 
+	{
+		this.isPlanCompilationEnabled = isPlanCompilationEnabled;
+		this.clearMapperCache ();
+	}
+	
+	/**
+	 * The {@link MappingPlan} for the mapper of a class, which is compiled and cached the first time this is
+	 * invoked for the class. It's null if the class has no mapper, or its mapper can't be compiled (see 
+	 * {@link MappingPlan#compile(BeanRdfMapper, Class)}).
+	 * 
+	 * This doesn't depend on {@link #isPlanCompilationEnabled()}.
+	 */
+	public <T> MappingPlan<T> getMappingPlan ( Class<T> clazz ) 
+	{
+		Validate.notNull ( clazz, "Internal error: cannot have a mapping plan for a null class" );
+		return this.getMapperResolution ( clazz ).getPlan ( clazz );
+	}
+
+	/**
+	 * Used by {@link #getUriNode(String)}. This is null by default, ie, no caching. Setting a cache is useful
+	 * when many objects link the same resources (eg, a few editors for many articles, ontology terms).
+	 */
+	public UriNodeCache getUriNodeCache () {
+		return uriNodeCache;
+	}
+
+	public void setUriNodeCache ( UriNodeCache uriNodeCache ) {
+		this.uriNodeCache = uriNodeCache;
+	}
+
+	/**
+	 * The Jena node for a URI, which mappers use to emit triples. If there is a {@link #getUriNodeCache()}, takes the
+	 * node from it, else creates a new node.  
+	 */
+	public Node getUriNode ( String uri ) 
+	{
+		UriNodeCache cache = this.uriNodeCache;
+		return cache == null ? NodeFactory.createURI ( uri ) : cache.getNode ( uri );
+	}
+
+	/**
+	 * If set, the URIs that the {@link BeanRdfMapper bean mappers} generate for their objects are cached, by object
+	 * identity, so that the URI generators are invoked once per object, rather than every time an object is 
+	 * linked by another one. This is null by default, ie, no caching.
+	 * 
+	 * Since the URIs might depend on the mapping params, they're cached per params set: the cache is used when 
+	 * there are no params (params = null) or when they're a {@link MappingContext}, which is immutable, and all the 
+	 * scopes derived from the same context share the same cached URIs. This means the URI generators should depend on
+	 * the context parameters only, not on its scope data, such as {@link MappingContext#getBeanContext()}. Other params 
+	 * maps might change during the mapping, so the cache isn't used with them.
+	 * 
+	 * The cache isn't used for {@link AsyncRdfUriGenerator asynchronous generators}, nor for generators set at the 
+	 * property level (eg, {@link ResourcePropRdfMapper#setUriGenerator(RdfUriGenerator)}). It can be disabled for 
+	 * the objects whose URI can change during the mapping, via {@link BeanRdfMapper#setUriCacheable(boolean)}.
+	 * 
+	 * The cache is cleared by {@link #reset()}. 
+	 */
+	public IdentityUriCache getUriCache () {
+		return uriCache;
+	}
+
+	/**
+	 * The property accessors used by the mappers of this factory, eg, {@link BeanPropRdfMapper}. These are cached
+	 * here, so that they go away with the factory, rather than staying in a global cache.
+	 */
+	public PropertyAccessors getPropertyAccessors () {
+		return propertyAccessors;
+	}
+
+	public void setUriCache ( IdentityUriCache uriCache ) {
+		this.uriCache = uriCache;
+	}
+
+	/**
+	 * Invokes the URI generator, using the {@link #getUriCache() URI cache} if it's set and isCacheable is true.
+	 */
+	<T> String generateUri ( RdfUriGenerator<T> uriGen, T source, Map<String, Object> params, boolean isCacheable )
+	{
+		IdentityUriCache cache = this.uriCache;
+		if ( cache != null && isCacheable && ( params == null || params instanceof MappingContext ) )
+		{
+			return cache.getUri ( 
+				source, MappingContext.getParamsIdentity ( params ), s -> generateUri ( uriGen, s, params, false ) 
+			);
+		}
+		
+		long start = metrics.startTiming ();
+		String result = uriGen.getUri ( source, params );
+		metrics.recordCall ( CallType.VALUE_GENERATOR, uriGen, start );
 		return result;
+	}
+	
+	/**
+	 * See {@link #getRdfUriGenerator(Object)} and {@link #getMapper(Class)}.
+	 */
+	public <T> RdfUriGenerator<T> getRdfUriGenerator ( Class<T> clazz ) 
+	{
+		Validate.notNull ( clazz, "Internal error: I cannot have a URI generator for a null class" );
+		return this.getMapperResolution ( clazz ).getRdfUriGenerator ( this, clazz );
 	} 
 	
 	/**
@@ -174,16 +1192,25 @@ public class RdfMapperFactory
 
 	/**
 	 * A convenience wrapper of {@link #getRdfUriGenerator(Object)}.{@link RdfUriGenerator#getUri(Object)}.
+	 * 
+	 * If source is the bean that is being currently mapped (see {@link #getCurrentBeanContext()}), returns the URI
+	 * that its mapper has already computed. Else, uses the {@link #getUriCache() URI cache}, if any.
 	 */
 	public <T> String getUri ( T source, Map<String, Object> params ) 
 	{
 		Validate.notNull ( source, "Internal error: cannot map a null source object to RDF" );
 		
+		BeanMappingContext beanCtx = this.currentBeanContext.get ();
+		if ( beanCtx != null && beanCtx.getSource () == source ) return beanCtx.getSubjectUri ();
+		
 		RdfUriGenerator<T> uriGen = this.getRdfUriGenerator ( source );
 		Validate.notNull ( uriGen,
 			"Internal error: cannot map [%s] with a null URI generator", StringUtils.abbreviate ( source.toString (), 30 ) );
 		
-		return uriGen.getUri ( source, params );
+		// The mapper is looked up only when needed, it's a cheap lookup, but this is a very frequent call
+		ObjRdfMapper<T> mapper = uriCache == null ? null : this.getMapper ( source );
+		boolean isCacheable = mapper instanceof BeanRdfMapper && ( (BeanRdfMapper) mapper ).isUriCacheable (); 
+		return generateUri ( uriGen, source, params, isCacheable );
 	}
 	
 	/**
@@ -193,12 +1220,132 @@ public class RdfMapperFactory
 		return this.getUri ( source, null );
 	} 
 
+	/**
+	 * Gets the URI for the source from an {@link AsyncRdfUriGenerator asynchronous generator}, without waiting for it.
+	 * Like {@link #getUri(Object, Map)}, if the source is the bean currently being mapped, its URI is returned 
+	 * straight away.
+	 * 
+	 * Use {@link #whenResolved(CompletableFuture, Consumer)} to do something with the result. 
+	 */
+	public <T> CompletableFuture<String> getUriAsync ( 
+		AsyncRdfUriGenerator<T> uriGen, T source, Map<String, Object> params 
+	)
+	{
+		Validate.notNull ( source, "Internal error: cannot map a null source object to RDF" );
+		
+		BeanMappingContext beanCtx = this.currentBeanContext.get ();
+		if ( beanCtx != null && beanCtx.getSource () == source ) 
+			return CompletableFuture.completedFuture ( beanCtx.getSubjectUri () );
+
+		if ( uriGen.getMapperFactory () == null ) uriGen.setMapperFactory ( this );
+		
+		long start = metrics.startTiming ();
+		CompletableFuture<String> result = uriGen.getUriAsync ( source, params );
+		metrics.recordCall ( CallType.VALUE_GENERATOR, uriGen, start );
+
+		if ( result.isDone () ) return result;
+		
+		// The generator will be flushed before waiting for the result
+		AsyncResolutions resolutions = asyncResolutions.get ();
+		if ( resolutions != null ) resolutions.generators.add ( uriGen );
+		else uriGen.flush ();
+		
+		return result;
+	}
+	
+	/**
+	 * Runs an action (typically, the emission of triples) with the value of a future obtained from an 
+	 * {@link AsyncRdfUriGenerator asynchronous generator}, eg, via 
+	 * {@link #getUriAsync(AsyncRdfUriGenerator, Object, Map)}. This is how {@link BeanRdfMapper} and 
+	 * {@link ResourcePropRdfMapper} avoid to block the traversal when they need such a URI. 
+	 * 
+	 * Within {@link #map(Object, Map)} or {@link #mapAll(Iterable, int, Map)}, the action isn't run straight away,
+	 * it's queued and run later, in the same thread. These are the guarantees:
+	 * 
+	 * <ul>
+	 *   <li>{@link #map(Object, Map)} returns after all the actions registered during its invocation have been run.
+	 *   {@link #mapAll(Iterable, int, Map)} runs them every {@link #getAsyncWindowSize()} pending actions, 
+	 *   and before returning.</li>
+	 *   <li>Actions are run in the order they were registered (with respect to the same thread). Actions registered 
+	 *   by actions are run after them. Hence, the triples depending on asynchronous URIs are emitted after the other 
+	 *   triples of the same object, possibly after the triples of other objects too. No other ordering is
+	 *   guaranteed, which is fine with the {@link TripleSink triple sinks}.</li>
+	 *   <li>Before waiting for the results, the generators are {@link AsyncRdfUriGenerator#flush() flushed}.</li>
+	 *   <li>If a future fails, its error is re-thrown by the invocation that runs the actions, wrapped into a 
+	 *   {@link RdfMappingException} (see {@link AsyncRdfUriGenerator#await(CompletableFuture)}). As for other errors, 
+	 *   the mapping stops, including the pending actions.</li>
+	 * </ul>
+	 * 
+	 * Outside of the methods above, the action is run straight away, after waiting for the future.
+	 */
+	public <V> void whenResolved ( CompletableFuture<V> future, Consumer<V> action )
+	{
+		AsyncResolutions resolutions = asyncResolutions.get ();
+		if ( resolutions == null ) action.accept ( AsyncRdfUriGenerator.await ( future ) );
+		else resolutions.add ( future, action );
+	}
+
+
+	/**
+	 * The context about the bean that the current thread is mapping, null if there isn't any such bean. 
+	 * See {@link BeanMappingContext} for details.
+	 */
+	public BeanMappingContext getCurrentBeanContext () {
+		return currentBeanContext.get ();
+	}
 
+	/**
+	 * Used by {@link BeanRdfMapper#map(Object, Map)} to set up a new current bean context. This must always be
+	 * paired with {@link #exitBeanContext(BeanMappingContext)}, in a finally block.
+	 */
+	BeanMappingContext enterBeanContext ( Object source, String subjectUri, TripleSink tripleSink ) 
+	{
+		BeanMappingContext result = new BeanMappingContext ( 
+			source, subjectUri, tripleSink, currentBeanContext.get () 
+		);
+		currentBeanContext.set ( result );
+		return result;
+	}
+
+	/**
+	 * Restores the bean context that was current before the parameter.
+	 */
+	void exitBeanContext ( BeanMappingContext beanContext ) 
+	{
+		BeanMappingContext parent = beanContext.getParent ();
+		if ( parent == null ) currentBeanContext.remove ();
+		else currentBeanContext.set ( parent );
+	}
+	
 	/**
 	 * Marks all the beans as new, so they'll be re-visited by {@link #map(Object, Map)} once it has been done once.
+	 * This also zeroes {@link #getErrorCount()}.
+	 */
+	public void reset () 
+	{
+		this.visitedTracker.clear ();
+		this.errorCount.set ( 0 );
+		IdentityUriCache cache = this.uriCache;
+		if ( cache != null ) cache.clear ();
+	}
+
+	/**
+	 * Keeps track of the objects already visited by {@link #map(Object, Map)}. By default, this is an 
+	 * {@link EqualsVisitedTracker}, have a look at the other implementations of {@link VisitedTracker} for 
+	 * alternatives that are faster or use less memory.
 	 */
-	public void reset () {
-		this.visitedObjects.clear ();
+	public VisitedTracker getVisitedTracker () {
+		return visitedTracker;
+	}
+
+	/**
+	 * Don't change this in the middle of a mapping job, since the new tracker won't know about the objects visited
+	 * so far. 
+	 */
+	public void setVisitedTracker ( VisitedTracker visitedTracker ) 
+	{
+		Validate.notNull ( visitedTracker, "Can't use a null visited tracker" );
+		this.visitedTracker = visitedTracker;
 	}
 
 }
@@ -1,8 +1,17 @@
 package uk.ac.ebi.fg.java2rdf.mapping;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
 /**
  * Used throughout this package for any mapping-related problem that arises.
  *
+ * The message can be given as a supplier, which is invoked only if the message is actually requested (eg, when
+ * the error is logged). This is used by the mappers, which wrap errors at every nesting level and would otherwise
+ * format (and abbreviate) messages that are often discarded, eg, when {@link RdfMapperFactory#getErrorSink()
+ * failures are reported} rather than thrown.
+ *
  * <dl><dt>date</dt><dd>Mar 23, 2013</dd></dl>
  * @author Marco Brandizi
  *
@@ -11,11 +20,47 @@ public class RdfMappingException extends RuntimeException
 {
 	private static final long serialVersionUID = 8073811171331441797L;
 
-	public RdfMappingException ( String message, Throwable cause ) {
+	private transient Supplier<String> messageSupplier;
+	private String message;
+
+	public RdfMappingException ( String message, Throwable cause )
+	{
 		super ( message, cause );
+		this.message = message;
 	}
 
 	public RdfMappingException ( String message ) {
-		super ( message );
+		this ( message, null );
+	}
+
+	/**
+	 * The message is computed the first time {@link #getMessage()} is called, so the supplier should only use
+	 * data that don't change in the meantime.
+	 */
+	public RdfMappingException ( Supplier<String> messageSupplier, Throwable cause )
+	{
+		super ( null, cause );
+		this.messageSupplier = messageSupplier;
+	}
+
+	@Override
+	public String getMessage ()
+	{
+		Supplier<String> supplier = this.messageSupplier;
+		if ( supplier != null )
+		{
+			this.message = supplier.get ();
+			this.messageSupplier = null;
+		}
+		return message;
+	}
+
+	/**
+	 * The supplier isn't serialisable, so the message is computed before serialising.
+	 */
+	private void writeObject ( ObjectOutputStream out ) throws IOException
+	{
+		this.getMessage ();
+		out.defaultWriteObject ();
 	}
 }
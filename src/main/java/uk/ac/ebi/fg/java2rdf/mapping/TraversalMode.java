@@ -0,0 +1,35 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import java.util.Map;
+
+/**
+ * How {@link RdfMapperFactory#map(Object, Map)} visits the objects reachable from a root object. 
+ * 
+ * See {@link RdfMapperFactory#setTraversalMode(TraversalMode)}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public enum TraversalMode
+{
+	/**
+	 * The default. A new object is mapped as soon as it is reached by a mapper, which calls 
+	 * {@link RdfMapperFactory#map(Object, Map)} recursively. This uses a few stack frames per link, so long chains of 
+	 * linked objects might require a big stack (-Xss). 
+	 */
+	RECURSIVE,
+	
+	/**
+	 * Newly-reached objects are put in a work queue, which the factory drains in FIFO order, ie, objects are mapped 
+	 * breadth-first. This doesn't use the stack to follow links, but the queue might grow large for graphs with 
+	 * high fan-out.   
+	 */
+	BREADTH_FIRST,
+	
+	/**
+	 * Like {@link #BREADTH_FIRST}, but the queue is drained in LIFO order, ie, objects are mapped depth-first. This 
+	 * usually keeps a smaller queue than {@link #BREADTH_FIRST}.
+	 */
+	DEPTH_FIRST
+}
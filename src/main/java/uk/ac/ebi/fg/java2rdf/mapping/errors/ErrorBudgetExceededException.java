@@ -0,0 +1,25 @@
+package uk.ac.ebi.fg.java2rdf.mapping.errors;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+
+/**
+ * Thrown in the fail-soft mode when the mapping failures exceed {@link RdfMapperFactory#getErrorBudget()}. Unlike
+ * the other errors, this aborts the mapping.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class ErrorBudgetExceededException extends RdfMappingException
+{
+	private static final long serialVersionUID = 6046327451894513520L;
+
+	public ErrorBudgetExceededException ( long errorBudget, Throwable lastError )
+	{
+		super ( () -> String.format (
+			"Aborting the RDF mapping, since the error budget of %d failed beans was exceeded, last error: %s",
+			errorBudget, lastError.getMessage ()
+		), lastError );
+	}
+}
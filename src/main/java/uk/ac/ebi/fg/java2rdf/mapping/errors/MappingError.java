@@ -0,0 +1,77 @@
+package uk.ac.ebi.fg.java2rdf.mapping.errors;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import uk.ac.ebi.fg.java2rdf.mapping.BeanPropertyMappingException;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+
+/**
+ * A bean that failed to be mapped in the {@link RdfMapperFactory#getErrorSink() fail-soft mode}, as it is
+ * reported to a {@link MappingErrorSink}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class MappingError
+{
+	private final Object source;
+	private final String propertyName;
+	private final RuntimeException cause;
+
+	public MappingError ( Object source, RuntimeException cause )
+	{
+		this.source = source;
+		this.cause = cause;
+
+		// The first one in the chain is about this bean, nested beans report their own errors
+		int idx = ExceptionUtils.indexOfType ( cause, BeanPropertyMappingException.class );
+		this.propertyName = idx == -1
+			? null
+			: ( (BeanPropertyMappingException) ExceptionUtils.getThrowableList ( cause ).get ( idx ) ).getPropertyName ();
+	}
+
+	/**
+	 * The bean that failed.
+	 */
+	public Object getSource () {
+		return source;
+	}
+
+	public Class<?> getBeanClass () {
+		return source.getClass ();
+	}
+
+	/**
+	 * The JavaBean property that failed, null if the failure wasn't about a property (eg, the URI generator failed).
+	 */
+	public String getPropertyName () {
+		return propertyName;
+	}
+
+	/**
+	 * The exception thrown by the bean mapper.
+	 */
+	public RuntimeException getCause () {
+		return cause;
+	}
+
+	/**
+	 * The innermost cause of {@link #getCause()}, which is usually the most informative one.
+	 */
+	public Throwable getRootCause ()
+	{
+		Throwable result = ExceptionUtils.getRootCause ( cause );
+		return result == null ? cause : result;
+	}
+
+	@Override
+	public String toString ()
+	{
+		Throwable rootCause = getRootCause ();
+		return String.format (
+			"MappingError{ bean: %s, property: %s, cause: %s: %s }",
+			getBeanClass ().getSimpleName (), propertyName, rootCause.getClass ().getSimpleName (), rootCause.getMessage ()
+		);
+	}
+}
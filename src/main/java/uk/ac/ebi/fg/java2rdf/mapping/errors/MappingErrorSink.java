@@ -0,0 +1,38 @@
+package uk.ac.ebi.fg.java2rdf.mapping.errors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+
+/**
+ * Receives the beans that fail to be mapped when a {@link RdfMapperFactory} is in the fail-soft mode, see
+ * {@link RdfMapperFactory#setErrorSink(MappingErrorSink)}.
+ *
+ * Implementations must be thread-safe, since the errors can come from the workers of
+ * {@link RdfMapperFactory#mapAll(Iterable, int)}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@FunctionalInterface
+public interface MappingErrorSink
+{
+	/**
+	 * Logs the errors as warnings, with the stack trace at the debug level.
+	 */
+	public static final MappingErrorSink LOGGING = new MappingErrorSink ()
+	{
+		private final Logger log = LoggerFactory.getLogger ( MappingErrorSink.class );
+
+		@Override
+		public void error ( MappingError error )
+		{
+			log.warn ( "Skipping a bean that failed to be mapped to RDF: {}", error );
+			if ( log.isDebugEnabled () ) log.debug ( "Mapping error details:", error.getCause () );
+		}
+	};
+
+	void error ( MappingError error );
+}
@@ -0,0 +1,27 @@
+package uk.ac.ebi.fg.java2rdf.mapping.errors;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+
+/**
+ * What to do with the triples that a bean has already produced when its mapping fails in the fail-soft mode,
+ * see {@link RdfMapperFactory#setPartialOutputPolicy(PartialOutputPolicy)}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public enum PartialOutputPolicy
+{
+	/**
+	 * The default. The triples emitted before the failure are kept, which costs nothing, but the output can have
+	 * incomplete beans.
+	 */
+	KEEP,
+
+	/**
+	 * The triples of a bean are buffered and sent to the output only if its mapping succeeds, so a failed bean
+	 * produces no triple at all. The beans reached from a failed one are mapped independently, so their triples are
+	 * kept if they succeed.
+	 */
+	ROLLBACK
+}
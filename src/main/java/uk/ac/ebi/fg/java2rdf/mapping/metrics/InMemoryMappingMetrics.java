@@ -0,0 +1,111 @@
+package uk.ac.ebi.fg.java2rdf.mapping.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapper;
+
+/**
+ * A {@link MappingMetrics} that keeps the figures in memory, per mapper instance (see {@link MapperStats}).
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class InMemoryMappingMetrics implements MappingMetrics
+{
+	/** Mappers don't redefine equals(), so this is identity-based */
+	private final ConcurrentMap<RdfMapper<?>, MapperStats> stats = new ConcurrentHashMap<> ();
+	
+	private final LongAdder visitedHits = new LongAdder ();
+	private final LongAdder visitedMisses = new LongAdder ();
+	
+	@Override
+	public void recordCall ( CallType type, RdfMapper<?> mapper, long startTime ) 
+	{
+		long elapsed = System.nanoTime () - startTime;
+		getStats ( type, mapper ).recordCall ( elapsed );
+	}
+
+	@Override
+	public void recordTriples ( CallType type, RdfMapper<?> mapper, int count ) {
+		getStats ( type, mapper ).recordTriples ( count );
+	}
+
+	@Override
+	public void recordVisit ( boolean isNew ) 
+	{
+		if ( isNew ) visitedMisses.increment ();
+		else visitedHits.increment ();
+	}
+	
+	private MapperStats getStats ( CallType type, RdfMapper<?> mapper ) 
+	{
+		MapperStats result = stats.get ( mapper );
+		if ( result != null ) return result;
+		return stats.computeIfAbsent ( mapper, m -> new MapperStats ( type, m ) );
+	}
+	
+	/**
+	 * The per-mapper figures, sorted by decreasing total time.
+	 */
+	public List<MapperStats> getMapperStats ()
+	{
+		List<MapperStats> result = new ArrayList<> ( stats.values () );
+		result.sort ( Comparator.comparingLong ( MapperStats::getTotalNanos ).reversed () );
+		return result;
+	}
+	
+	public long getTotalTriples () {
+		return stats.values ().stream ().mapToLong ( MapperStats::getTriples ).sum ();
+	}
+	
+	/**
+	 * How many times an object sent to the mapping had already been mapped.
+	 */
+	public long getVisitedHits () {
+		return visitedHits.sum ();
+	}
+
+	/**
+	 * How many times an object sent to the mapping was new.
+	 */
+	public long getVisitedMisses () {
+		return visitedMisses.sum ();
+	}
+
+	/**
+	 * hits / (hits + misses), 0 if there were no checks.
+	 */
+	public double getVisitedHitRate () 
+	{
+		long hits = getVisitedHits (), total = hits + getVisitedMisses ();
+		return total == 0 ? 0d : (double) hits / total;
+	}
+	
+	public void reset ()
+	{
+		stats.clear ();
+		visitedHits.reset ();
+		visitedMisses.reset ();
+	}
+	
+	/**
+	 * A multi-line report, with a line per mapper.
+	 */
+	@Override
+	public String toString ()
+	{
+		StringBuilder sb = new StringBuilder ( String.format ( 
+			"Mapping metrics, triples: %d, visited hits: %d, misses: %d, hit rate: %.2f%%\n", 
+			getTotalTriples (), getVisitedHits (), getVisitedMisses (), getVisitedHitRate () * 100 
+		));
+		for ( MapperStats ms: getMapperStats () )
+			sb.append ( "  " ).append ( ms ).append ( '\n' );
+		return sb.toString ();
+	}
+}
@@ -0,0 +1,60 @@
+package uk.ac.ebi.fg.java2rdf.mapping.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+
+/**
+ * An {@link InMemoryMappingMetrics} that publishes its figures on the platform MBean server, so that they can be 
+ * seen with tools like JConsole or VisualVM while a mapping job is running.
+ * 
+ * The bean is registered by the constructor, with the name 
+ * <code>uk.ac.ebi.fg.java2rdf:type=MappingMetrics,name=&lt;name&gt;</code>. Use {@link #close()} to unregister it.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class JmxMappingMetrics extends InMemoryMappingMetrics implements MappingMetricsMXBean, AutoCloseable
+{
+	private final ObjectName objectName;
+	
+	/**
+	 * @param name the value for the 'name' key in the JMX object name, it must be unique among the instances of this
+	 * class.
+	 */
+	public JmxMappingMetrics ( String name )
+	{
+		try 
+		{
+			this.objectName = new ObjectName ( "uk.ac.ebi.fg.java2rdf:type=MappingMetrics,name=" + ObjectName.quote ( name ) );
+			ManagementFactory.getPlatformMBeanServer ().registerMBean ( this, objectName );
+		}
+		catch ( JMException ex ) {
+			throw new RdfMappingException ( "Error while registering the JMX mapping metrics '" + name + "': " + ex.getMessage (), ex );
+		}
+	}
+
+	public ObjectName getObjectName () {
+		return objectName;
+	}
+
+	/**
+	 * Unregisters the bean from JMX, the figures are still available from this object.
+	 */
+	@Override
+	public void close ()
+	{
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer ();
+		try {
+			if ( mbs.isRegistered ( objectName ) ) mbs.unregisterMBean ( objectName );
+		}
+		catch ( JMException ex ) {
+			throw new RdfMappingException ( "Error while unregistering the JMX mapping metrics: " + ex.getMessage (), ex );
+		}
+	}
+}
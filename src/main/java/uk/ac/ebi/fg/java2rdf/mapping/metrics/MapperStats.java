@@ -0,0 +1,145 @@
+package uk.ac.ebi.fg.java2rdf.mapping.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics.CallType;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.UriProvidedPropertyRdfMapper;
+
+/**
+ * The figures that {@link InMemoryMappingMetrics} collects about a single mapper (or value generator).
+ * 
+ * Latencies are tracked with a histogram of log2 buckets, so the percentiles are approximated by the upper limit 
+ * of the bucket they fall in, ie, they can be up to 2 times the real value. This is usually enough to see where 
+ * the time goes and it's cheap to update.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class MapperStats
+{
+	private final String name;
+	private final CallType type;
+	
+	private final LongAdder calls = new LongAdder ();
+	private final LongAdder totalNanos = new LongAdder ();
+	private final LongAdder triples = new LongAdder ();
+	
+	/** bucket i counts the calls that took [2^i, 2^(i+1)) ns (bucket 0 includes 0) */
+	private final AtomicLongArray histogram = new AtomicLongArray ( 64 );
+	
+	MapperStats ( CallType type, RdfMapper<?> mapper )
+	{
+		this.type = type;
+		this.name = describe ( mapper );
+	}
+
+	void recordCall ( long elapsedNanos )
+	{
+		if ( elapsedNanos < 0 ) elapsedNanos = 0;
+		calls.increment ();
+		totalNanos.add ( elapsedNanos );
+		int bucket = elapsedNanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros ( elapsedNanos );
+		histogram.incrementAndGet ( bucket );
+	}
+	
+	void recordTriples ( int count ) {
+		triples.add ( count );
+	}
+	
+	/**
+	 * A human-readable name, based on the mapper class and, for property mappers, the target property.
+	 */
+	public String getName () {
+		return name;
+	}
+
+	public CallType getType () {
+		return type;
+	}
+
+	public long getCalls () {
+		return calls.sum ();
+	}
+
+	/**
+	 * The no. of triples that the mapper has emitted. This might be recorded for mappers that are not timed, hence 
+	 * it can be non-zero when {@link #getCalls()} is 0.
+	 */
+	public long getTriples () {
+		return triples.sum ();
+	}
+	
+	/**
+	 * The cumulative time spent in the mapper.
+	 */
+	public long getTotalNanos () {
+		return totalNanos.sum ();
+	}
+
+	public long getMeanNanos () 
+	{
+		long ncalls = getCalls ();
+		return ncalls == 0 ? 0 : getTotalNanos () / ncalls;
+	}
+	
+	/**
+	 * The approximated latency percentile (see above). 
+	 * 
+	 * @param percentile a value in [0, 100].  
+	 */
+	public long getPercentileNanos ( double percentile )
+	{
+		long ncalls = 0;
+		long[] counts = new long [ histogram.length () ];
+		for ( int i = 0; i < counts.length; i++ )
+			ncalls += counts [ i ] = histogram.get ( i );
+		if ( ncalls == 0 ) return 0;
+		
+		long threshold = (long) Math.ceil ( ncalls * percentile / 100d );
+		if ( threshold < 1 ) threshold = 1;
+		
+		long seen = 0;
+		for ( int i = 0; i < counts.length; i++ )
+			if ( ( seen += counts [ i ] ) >= threshold ) return i == 62 ? Long.MAX_VALUE : 1L << ( i + 1 ); 
+		
+		return Long.MAX_VALUE;
+	}
+
+	public long getP50Nanos () {
+		return getPercentileNanos ( 50 );
+	}
+
+	public long getP95Nanos () {
+		return getPercentileNanos ( 95 );
+	}
+
+	public long getP99Nanos () {
+		return getPercentileNanos ( 99 );
+	}
+	
+	@Override
+	public String toString ()
+	{
+		return String.format ( 
+			"%s [%s] calls: %d, triples: %d, total: %d ms, mean: %d ns, p50: %d ns, p95: %d ns, p99: %d ns",
+			name, type, getCalls (), getTriples (), getTotalNanos () / 1000000, getMeanNanos (), 
+			getP50Nanos (), getP95Nanos (), getP99Nanos () 
+		);
+	}
+	
+	private static String describe ( RdfMapper<?> mapper )
+	{
+		Class<?> cls = mapper.getClass ();
+		String result = cls.getSimpleName ();
+		// anonymous classes
+		if ( result.isEmpty () ) result = cls.getName ().substring ( cls.getName ().lastIndexOf ( '.' ) + 1 );
+
+		if ( mapper instanceof UriProvidedPropertyRdfMapper ) 
+			result += " <" + ( (UriProvidedPropertyRdfMapper<?, ?, ?>) mapper ).getTargetPropertyUri () + ">";
+		
+		return result + "@" + Integer.toHexString ( System.identityHashCode ( mapper ) );
+	}
+}
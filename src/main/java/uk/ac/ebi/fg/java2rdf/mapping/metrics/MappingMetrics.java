@@ -0,0 +1,91 @@
+package uk.ac.ebi.fg.java2rdf.mapping.metrics;
+
+import uk.ac.ebi.fg.java2rdf.mapping.ObjRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.PropertyRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfValueGenerator;
+
+/**
+ * The SPI to collect metrics about a mapping job, see {@link RdfMapperFactory#setMetrics(MappingMetrics)}.
+ * 
+ * The mapping components report to this via the record methods. A call is timed this way:
+ * 
+ * <pre>
+ *   long start = metrics.startTiming ();
+ *   String uri = uriGenerator.getUri ( source, params );
+ *   metrics.recordCall ( CallType.VALUE_GENERATOR, uriGenerator, start );
+ * </pre>
+ * 
+ * The default is {@link #NO_OP}, which doesn't even read the clock, so that the instrumentation costs nothing when
+ * it isn't used. Use {@link InMemoryMappingMetrics} or {@link JmxMappingMetrics} to actually collect the figures.
+ * 
+ * Implementations must be thread-safe.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public interface MappingMetrics
+{
+	/**
+	 * The kind of call that is timed.
+	 */
+	public static enum CallType 
+	{
+		/** {@link ObjRdfMapper#map(Object, java.util.Map)}, this includes the time of the nested calls */
+		OBJECT_MAPPER,
+		/** {@link PropertyRdfMapper#map(Object, Object, java.util.Map)}, this includes the value generator time */
+		PROPERTY_MAPPER,
+		/** {@link RdfValueGenerator#getValue(Object, java.util.Map)}, ie, URI generators and literal generators */
+		VALUE_GENERATOR
+	}
+	
+	/**
+	 * Doesn't record anything.
+	 */
+	public static final MappingMetrics NO_OP = new MappingMetrics () 
+	{
+		@Override
+		public long startTiming () {
+			return 0;
+		}
+
+		@Override
+		public void recordCall ( CallType type, RdfMapper<?> mapper, long startTime ) {
+		}
+
+		@Override
+		public void recordTriples ( CallType type, RdfMapper<?> mapper, int count ) {
+		}
+
+		@Override
+		public void recordVisit ( boolean isNew ) {
+		}
+	};
+	
+	/**
+	 * Returns a value to be passed to {@link #recordCall(CallType, RdfMapper, long)} when the timed call is over.
+	 * By default, this is {@link System#nanoTime()}. 
+	 */
+	default long startTiming () {
+		return System.nanoTime ();
+	}
+	
+	/**
+	 * Records a call to a mapper (or a value generator), which started at startTime, as returned by 
+	 * {@link #startTiming()}.
+	 */
+	void recordCall ( CallType type, RdfMapper<?> mapper, long startTime );
+	
+	/**
+	 * Records that the mapper has sent count triples to the {@link RdfMapperFactory#getTripleSink() triple sink}.
+	 */
+	void recordTriples ( CallType type, RdfMapper<?> mapper, int count );
+	
+	/**
+	 * Records a check against the {@link RdfMapperFactory#getVisitedTracker() visited objects}. isNew is false when
+	 * the object was already visited (ie, there is a hit). 
+	 */
+	void recordVisit ( boolean isNew );
+}
@@ -0,0 +1,20 @@
+package uk.ac.ebi.fg.java2rdf.mapping.metrics;
+
+import java.util.List;
+
+/**
+ * The JMX interface of {@link JmxMappingMetrics}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public interface MappingMetricsMXBean
+{
+	List<MapperStats> getMapperStats ();
+	long getTotalTriples ();
+	long getVisitedHits ();
+	long getVisitedMisses ();
+	double getVisitedHitRate ();
+	void reset ();
+}
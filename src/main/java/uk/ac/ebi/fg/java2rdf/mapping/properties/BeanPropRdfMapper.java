@@ -1,14 +1,18 @@
 package uk.ac.ebi.fg.java2rdf.mapping.properties;
 
 import java.util.Map;
+import java.util.function.Function;
 
-import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
+import uk.ac.ebi.fg.java2rdf.mapping.BeanPropertyMappingException;
 import uk.ac.ebi.fg.java2rdf.mapping.ObjRdfMapper;
 import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
 import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics.CallType;
+import uk.ac.ebi.fg.java2rdf.utils.PropertyAccessors;
 
 /**
  * Maps a property in a JavaBean (i.e., getXXX) to an RDF statement, see details below. 
@@ -21,6 +25,25 @@ public class BeanPropRdfMapper<T, PT, RV> extends ObjRdfMapper<T>
 {
 	private String sourcePropertyName = null;
 	private PropertyRdfMapper<T, PT, RV> propertyMapper = null;
+	private Function<? super T, ? extends PT> getter = null;
+	
+	/** 
+	 * The accessor for the last class seen by {@link #map(Object, Map)}. Usually, a property mapper always sees
+	 * the same class, so this saves the lookup in {@link RdfMapperFactory#getPropertyAccessors()}.
+	 */
+	private volatile CachedAccessor cachedAccessor = null;
+	
+	private static final class CachedAccessor
+	{
+		final Class<?> beanClass;
+		final Function<Object, Object> accessor;
+		
+		CachedAccessor ( Class<?> beanClass, Function<Object, Object> accessor )
+		{
+			this.beanClass = beanClass;
+			this.accessor = accessor;
+		}
+	}
 	
 	
 	public BeanPropRdfMapper () {
@@ -34,14 +57,32 @@ public class BeanPropRdfMapper<T, PT, RV> extends ObjRdfMapper<T>
 		this.setPropertyMapper ( propertyMapper );
 	}
 
+	/**
+	 * Uses a getter function (usually a method reference like Article::getTitle) to fetch the property value, rather 
+	 * than looking up the getter by the property name. This is what the mappers generated by 
+	 * {@link uk.ac.ebi.fg.java2rdf.annotations.processor.RdfMapperProcessor} do.   
+	 */
+	public BeanPropRdfMapper ( 
+		String sourcePropertyName, Function<? super T, ? extends PT> getter, PropertyRdfMapper<T, PT, RV> propertyMapper 
+	)
+	{
+		this ( sourcePropertyName, propertyMapper );
+		this.setGetter ( getter );
+	}
+
 
 	/**
 	 * Gets the bean property indicated by {@link #getSourcePropertyName()} and maps it to an RDF statement about the bean
 	 * and its property value, by means of {@link #getPropertyMapper()}.
 	 * 
+	 * The property is fetched by means of {@link PropertyAccessors}, which compiles the getter the first time it's
+	 * used.
+	 * 
 	 * If there is no property mapper defined or the upper implementation returns false, then this method returns false too
 	 * and doesn't do any mapping.
 	 * 
+	 * Errors are reported as {@link BeanPropertyMappingException}.
+	 * 
 	 */
 	@Override
 	@SuppressWarnings ( "unchecked" )
@@ -56,21 +97,31 @@ public class BeanPropRdfMapper<T, PT, RV> extends ObjRdfMapper<T>
 		PT pval = null;
 		try
 		{
-			pval = (PT) PropertyUtils.getSimpleProperty ( source, sourcePropertyName );
-			return propertyMapper.map ( source, pval, params );
+			pval = getter != null ? getter.apply ( source ) : (PT) getAccessor ( source.getClass () ).apply ( source );
+
+			RdfMapperFactory mapFactory = this.getMapperFactory ();
+			MappingMetrics metrics = mapFactory == null ? MappingMetrics.NO_OP : mapFactory.getMetrics ();
+			long start = metrics.startTiming ();
+			boolean result = propertyMapper.map ( source, pval, params );
+			metrics.recordCall ( CallType.PROPERTY_MAPPER, propertyMapper, start );
+			return result;
 		} 
-		catch ( Exception ex )
-		{
-			throw new RdfMappingException ( String.format ( 
-				"Internal error while mapping %s[%s].'%s'='%s' to RDF: %s", 
-				source.getClass ().getSimpleName (), 
-				StringUtils.abbreviate ( source.toString (), 50 ), sourcePropertyName, 
-				pval == null ? null : StringUtils.abbreviate ( pval.toString(), 50 ),
-				ex.getMessage ()
-			), ex);
+		catch ( Exception ex ) {
+			throw new BeanPropertyMappingException ( source, sourcePropertyName, pval, ex );
 		}
 	}
 	
+	private Function<Object, Object> getAccessor ( Class<?> beanClass )
+	{
+		CachedAccessor cached = this.cachedAccessor;
+		if ( cached != null && cached.beanClass == beanClass ) return cached.accessor;
+		
+		Function<Object, Object> result = this.getMapperFactory ().getPropertyAccessors ()
+			.getAccessor ( beanClass, sourcePropertyName );
+		this.cachedAccessor = new CachedAccessor ( beanClass, result );
+		return result;
+	}
+	
 	/**
 	 * The Java bean property that this mappes maps to RDF. E.g., if this returns 'Name', {@link #map(Object, Map)} will
 	 * invoke getName() to get an object value to be sent to the {@link #getPropertyMapper() property mapper}.   
@@ -83,6 +134,20 @@ public class BeanPropRdfMapper<T, PT, RV> extends ObjRdfMapper<T>
 	public void setSourcePropertyName ( String sourcePropertyName )
 	{
 		this.sourcePropertyName = sourcePropertyName;
+		this.cachedAccessor = null;
+	}
+
+	/**
+	 * If not null, {@link #map(Object, Map)} uses this to get the property value, instead of using 
+	 * {@link #getSourcePropertyName()} and {@link PropertyAccessors}. In this case, the property name is used for 
+	 * reporting only. 
+	 */
+	public Function<? super T, ? extends PT> getGetter () {
+		return getter;
+	}
+
+	public void setGetter ( Function<? super T, ? extends PT> getter ) {
+		this.getter = getter;
 	}
 
 	/**
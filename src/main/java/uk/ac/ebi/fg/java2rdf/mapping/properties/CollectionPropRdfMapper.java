@@ -57,7 +57,7 @@ public class CollectionPropRdfMapper<T, PT, RV> extends PropertyRdfMapper<T, Col
 		} 
 		catch ( Exception ex )
 		{
-			throw new RdfMappingException ( String.format ( 
+			throw new RdfMappingException ( () -> String.format ( 
 				"Error while doing the RDF mapping of <%s[%s] / [%s]: %s", 
 					source.getClass ().getSimpleName (), 
 					StringUtils.abbreviate ( source.toString (), 50 ), 
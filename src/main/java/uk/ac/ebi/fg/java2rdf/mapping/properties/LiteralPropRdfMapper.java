@@ -1,7 +1,5 @@
 package uk.ac.ebi.fg.java2rdf.mapping.properties;
 
-import static uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils.RDF_GRAPH_UTILS;
-
 import java.util.Map;
 import java.util.Optional;
 
@@ -11,6 +9,8 @@ import org.apache.jena.rdf.model.Literal;
 
 import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
 import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics.CallType;
 import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfLiteralGenerator;
 import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfValueGenerator;
 
@@ -57,6 +57,7 @@ public class LiteralPropRdfMapper<T, PT> extends UriProvidedPropertyRdfMapper<T,
 			RdfMapperFactory mapFactory = this.getMapperFactory ();
 			Validate.notNull ( mapFactory, "Internal error: %s must be linked to a mapper factory", this.getClass ().getSimpleName () );
 
+			// This comes from the current bean context, without recomputing it
 			String subjUri = mapFactory.getUri ( source, params );
 			if ( subjUri == null ) return false;
 
@@ -66,21 +67,22 @@ public class LiteralPropRdfMapper<T, PT> extends UriProvidedPropertyRdfMapper<T,
 				"Internal error: the " + this.getClass ().getSimpleName () + " mapper requires a literal generator" 
 			);
 			
+			MappingMetrics metrics = mapFactory.getMetrics ();
+			long start = metrics.startTiming ();
 			Literal targetRdfVal = targetValGen.getValue ( propValue, params );
+			metrics.recordCall ( CallType.VALUE_GENERATOR, targetValGen, start );
 			if ( targetRdfVal == null ) return false;
 			
-			RDF_GRAPH_UTILS.assertLiteral ( 
-				this.getMapperFactory ().getGraphModel (), 
-				subjUri, 
-				this.getTargetPropertyUri (),
-				targetRdfVal
+			mapFactory.getTripleSink ().add ( 
+				mapFactory.getUriNode ( subjUri ), this.getTargetPropertyNode (), targetRdfVal.asNode () 
 			);
+			metrics.recordTriples ( CallType.PROPERTY_MAPPER, this, 1 );
 			
 			return true;
 		} 
 		catch ( Exception ex )
 		{
-			throw new RdfMappingException ( String.format ( 
+			throw new RdfMappingException ( () -> String.format ( 
 				"Error while doing the RDF mapping <%s[%s] '%s' [%s]>: %s", 
 					source.getClass ().getSimpleName (), 
 					StringUtils.abbreviate ( source.toString (), 50 ), 
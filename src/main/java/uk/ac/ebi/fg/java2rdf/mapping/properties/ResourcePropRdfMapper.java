@@ -1,15 +1,17 @@
 package uk.ac.ebi.fg.java2rdf.mapping.properties;
 
-import static uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils.RDF_GRAPH_UTILS;
-
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
 import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
 import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics.CallType;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.AsyncRdfUriGenerator;
 import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
 import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfValueGenerator;
 
@@ -39,6 +41,10 @@ public class ResourcePropRdfMapper<T, PT> extends UriProvidedPropertyRdfMapper<T
 	 * Generates the RDF triple 
 	 * ({@link #getMapperFactory() getMapperFactory(source, params)}, {@link #getTargetPropertyUri()}, 
 	 *   {@link #getMapperFactory() getMapperFactory(propValue, params)} ).
+	 *   
+	 * If the URI for propValue comes from an {@link AsyncRdfUriGenerator} and it isn't ready, the triple is emitted
+	 * later, via {@link RdfMapperFactory#whenResolved(java.util.concurrent.CompletableFuture, java.util.function.Consumer)}, 
+	 * while the mapping of propValue goes on straight away.
 	 */
 	@Override
 	public boolean map ( T source, PT propValue, Map<String, Object> params )
@@ -50,36 +56,52 @@ public class ResourcePropRdfMapper<T, PT> extends UriProvidedPropertyRdfMapper<T
 			RdfMapperFactory mapFactory = this.getMapperFactory ();
 			Validate.notNull ( mapFactory, "Internal error: %s must be linked to a mapper factory", this.getClass ().getSimpleName () );
 			
-			// TODO: can we avoid to keep recomputing these
-			//
-			
-			// This is necessary, cause source/pval may be swapped by InversePropRdfMapper
-			// TODO: Is this the right place where to handle it, or should it be on behalf of InversePropRdfMapper?
+			// When source is the bean being mapped, this is the URI its mapper has already computed. When we're invoked
+			// by InversePropRdfMapper, source is the property value and the bean being mapped is propValue, so that it 
+			// is the object URI below that is picked from the current bean context.
 			String subjUri = mapFactory.getUri ( source, params );
 			if ( subjUri == null ) return false;
 
 			// Gets the URI for the property target. This either uses the associated property generator, or it asks the 
 			// factory to use the URI generator that is associated to the Java type the property target is instance of
+			MappingMetrics metrics = mapFactory.getMetrics ();
 			RdfUriGenerator<PT> valUriGenerator = this.getUriGenerator ();
-			String objUri = valUriGenerator != null 
-				? valUriGenerator.getUri ( propValue, params ) 
-				: mapFactory.getUri ( propValue, params );
+
+			RdfUriGenerator<PT> objUriGenerator = valUriGenerator != null 
+				? valUriGenerator : mapFactory.getRdfUriGenerator ( propValue );
+			if ( objUriGenerator instanceof AsyncRdfUriGenerator )
+			{
+				CompletableFuture<String> objUriFuture = mapFactory.getUriAsync ( 
+					(AsyncRdfUriGenerator<PT>) objUriGenerator, propValue, params 
+				);
+				if ( objUriFuture.isDone () )
+				{
+					if ( !addTriple ( subjUri, AsyncRdfUriGenerator.await ( objUriFuture ) ) ) return false;
+				}
+				else
+					mapFactory.whenResolved ( objUriFuture, objUri -> addTriple ( subjUri, objUri ) );
+				
+				return mapFactory.map ( propValue, params );
+			}
 			
-			if ( objUri == null ) return false;
+			String objUri;
+			if ( valUriGenerator != null ) 
+			{
+				long start = metrics.startTiming ();
+				objUri = valUriGenerator.getUri ( propValue, params );
+				metrics.recordCall ( CallType.VALUE_GENERATOR, valUriGenerator, start );
+			}
+			else
+				objUri = mapFactory.getUri ( propValue, params );
 			
-			RDF_GRAPH_UTILS.assertResource ( 
-				mapFactory.getGraphModel (), 
-				subjUri,
-				this.getTargetPropertyUri (), 
-				objUri
-			);
+			if ( !addTriple ( subjUri, objUri ) ) return false;
 
 			// Don't use targetMapper directly, we need to trace this visit.
 			return mapFactory.map ( propValue, params );
 		} 
 		catch ( Exception ex )
 		{
-			throw new RdfMappingException ( String.format ( 
+			throw new RdfMappingException ( () -> String.format ( 
 				"Error while doing the RDF mapping <%s[%s] '%s' [%s]: %s", 
 					source.getClass ().getSimpleName (), 
 					StringUtils.abbreviate ( source.toString (), 50 ), 
@@ -90,6 +112,21 @@ public class ResourcePropRdfMapper<T, PT> extends UriProvidedPropertyRdfMapper<T
 		}
 	}
 	
+	/**
+	 * Emits the triple, if objUri isn't null.
+	 */
+	private boolean addTriple ( String subjUri, String objUri )
+	{
+		if ( objUri == null ) return false;
+
+		RdfMapperFactory mapFactory = this.getMapperFactory ();
+		mapFactory.getTripleSink ().add ( 
+			mapFactory.getUriNode ( subjUri ), this.getTargetPropertyNode (), mapFactory.getUriNode ( objUri ) 
+		);
+		mapFactory.getMetrics ().recordTriples ( CallType.PROPERTY_MAPPER, this, 1 );
+		return true;
+	}
+	
 	/**
 	 * This generates the URIs for the property values that this property mapper targets.  
 	 * 
@@ -1,5 +1,7 @@
 package uk.ac.ebi.fg.java2rdf.mapping.properties;
 
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 
 /**
  * While {@link PropertyRdfMapper} is generic and can map onto an arbitrary number of statements and using multiple
@@ -12,6 +14,7 @@ package uk.ac.ebi.fg.java2rdf.mapping.properties;
 public abstract class UriProvidedPropertyRdfMapper<T, PT, RV> extends PropertyRdfMapper<T, PT, RV>
 {
 	private String targetPropertyUri;
+	private Node targetPropertyNode;
 	
 	public UriProvidedPropertyRdfMapper ()
 	{
@@ -36,4 +39,19 @@ public abstract class UriProvidedPropertyRdfMapper<T, PT, RV> extends PropertyRd
 	public void setTargetPropertyUri ( String targetPropertyUri ) {
 		this.targetPropertyUri = targetPropertyUri;
 	}
+
+	/**
+	 * The Jena node for {@link #getTargetPropertyUri()}. This is created the first time it's needed and then reused
+	 * while the getter returns the same URI, so that the mapper can emit many triples without creating the same 
+	 * predicate node every time. Since it's based on the getter, it follows subclasses that override the latter.
+	 */
+	public Node getTargetPropertyNode ()
+	{
+		String uri = getTargetPropertyUri ();
+		if ( uri == null ) return null;
+		
+		Node result = targetPropertyNode;
+		if ( result == null || !uri.equals ( result.getURI () ) ) targetPropertyNode = result = NodeFactory.createURI ( uri );
+		return result;
+	}
 }
@@ -0,0 +1,77 @@
+package uk.ac.ebi.fg.java2rdf.mapping.rdfgen;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.ResourcePropRdfMapper;
+
+/**
+ * A URI generator that returns its URIs asynchronously, for those generators that need a lookup, eg, against an
+ * identifier service or a database.
+ *
+ * {@link BeanRdfMapper} and {@link ResourcePropRdfMapper} recognise this kind of generator and don't wait for its
+ * URIs: they go on with the traversal and emit the triples that need a URI when its future completes, which
+ * gives the generator the chance to batch the lookups (see {@link BatchingRdfUriGenerator}). This happens within
+ * {@link RdfMapperFactory#map(Object, Map)}, see {@link RdfMapperFactory#whenResolved(CompletableFuture, java.util.function.Consumer)}
+ * for details and for the guarantees about ordering and errors.
+ *
+ * Other components, which need the URI straight away, use {@link #getUri(Object, Map)}, which {@link #flush() flushes}
+ * the generator and waits for the result.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public abstract class AsyncRdfUriGenerator<T> extends RdfUriGenerator<T>
+{
+	/**
+	 * The URI for the source, possibly not available yet. A future completed with null has the same meaning of
+	 * null returned by {@link #getUri(Object, Map)}, ie, the source isn't mapped.
+	 *
+	 * The future must eventually complete, either by itself or after {@link #flush()}.
+	 */
+	public abstract CompletableFuture<String> getUriAsync ( T source, Map<String, Object> params );
+
+	/**
+	 * Starts the resolution of all the requests that the generator is holding (eg, to make a batch). This is
+	 * invoked by the mapper factory before waiting for a URI. By default, it does nothing.
+	 */
+	public void flush () {
+		// Nothing by default
+	}
+
+	/**
+	 * Flushes the generator if needed and waits for the URI.
+	 */
+	@Override
+	public final String getUri ( T source, Map<String, Object> params )
+	{
+		CompletableFuture<String> result = getUriAsync ( source, params );
+		if ( !result.isDone () ) flush ();
+		return await ( result );
+	}
+
+	/**
+	 * Waits for a future and returns its value. If the future failed, re-throws its {@link RdfMappingException}, or
+	 * wraps other errors into a new one.
+	 */
+	public static <V> V await ( CompletableFuture<V> future )
+	{
+		try {
+			return future.join ();
+		}
+		catch ( CompletionException | CancellationException ex )
+		{
+			Throwable cause = ex.getCause () == null ? ex : ex.getCause ();
+			if ( cause instanceof RdfMappingException ) throw (RdfMappingException) cause;
+			throw new RdfMappingException (
+				"Error while resolving an asynchronous RDF value: " + cause.getMessage (), cause
+			);
+		}
+	}
+}
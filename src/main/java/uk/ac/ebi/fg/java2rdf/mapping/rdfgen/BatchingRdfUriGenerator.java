@@ -0,0 +1,163 @@
+package uk.ac.ebi.fg.java2rdf.mapping.rdfgen;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.lang3.Validate;
+
+import uk.ac.ebi.fg.java2rdf.mapping.MappingContext;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+
+/**
+ * An {@link AsyncRdfUriGenerator} that collects the sources it receives and resolves their URIs in batches, via
+ * {@link #getUris(List, Map)}, which is meant to do a single round trip to some lookup service.
+ *
+ * A batch is resolved when it reaches {@link #getBatchSize()} sources, or when the generator is {@link #flush() flushed}.
+ * Sources with different params go in different batches. Params are compared via 
+ * {@link MappingContext#getParamsIdentity(Map)}, so that all the per-bean scopes of the same {@link MappingContext}
+ * share the same batches, and the batch is resolved with the params of its first source. If an executor is given, batches are resolved
+ * on it, so that the mapping can go on while a lookup is running. Else, they're resolved in the thread that fills
+ * or flushes the batch.
+ *
+ * A source that is requested again while it's still in the current batch (compared by identity, eg, a person linked
+ * by many articles) isn't added twice, the future of the first request is returned instead.
+ *
+ * If {@link #getUris(List, Map)} fails, all the futures in the batch fail with its exception.
+ *
+ * This is thread-safe, as long as {@link #getUris(List, Map)} is.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public abstract class BatchingRdfUriGenerator<T> extends AsyncRdfUriGenerator<T>
+{
+	private final int batchSize;
+	private final Executor executor;
+
+	private List<T> sources = new ArrayList<> ();
+	private List<CompletableFuture<String>> futures = new ArrayList<> ();
+	/** The sources in the current batch, to deduplicate them */
+	private Map<T, CompletableFuture<String>> pending = new IdentityHashMap<> ();
+	private Map<String, Object> params = null;
+	private Object paramsId = null;
+
+	/**
+	 * @param batchSize the max no. of sources sent to {@link #getUris(List, Map)}.
+	 * @param executor where the batches are resolved, null means the calling thread.
+	 */
+	public BatchingRdfUriGenerator ( int batchSize, Executor executor )
+	{
+		Validate.isTrue ( batchSize > 0, "Can't create a %s with a batch size of %d", this.getClass ().getSimpleName (), batchSize );
+		this.batchSize = batchSize;
+		this.executor = executor;
+	}
+
+	/**
+	 * Resolves the batches in the calling thread.
+	 */
+	public BatchingRdfUriGenerator ( int batchSize ) {
+		this ( batchSize, null );
+	}
+
+	/**
+	 * Resolves the URIs of a batch of sources. The result must have the same size and order of the sources,
+	 * null elements mean that the corresponding sources aren't mapped.
+	 */
+	protected abstract List<String> getUris ( List<T> sources, Map<String, Object> params );
+
+	@Override
+	public CompletableFuture<String> getUriAsync ( T source, Map<String, Object> params )
+	{
+		CompletableFuture<String> result;
+		Runnable prevBatch = null, batch = null;
+		synchronized ( this )
+		{
+			// The previous batch is sent out when the params change
+			Object newParamsId = MappingContext.getParamsIdentity ( params );
+			if ( this.paramsId != newParamsId ) prevBatch = takeBatch ();
+			if ( this.sources.isEmpty () ) {
+				this.params = params;
+				this.paramsId = newParamsId;
+			}
+			
+			result = this.pending.get ( source );
+			if ( result == null )
+			{
+				result = new CompletableFuture<> ();
+				this.pending.put ( source, result );
+				this.sources.add ( source );
+				this.futures.add ( result );
+				if ( this.sources.size () >= batchSize ) batch = takeBatch ();
+			}
+		}
+		dispatch ( prevBatch );
+		dispatch ( batch );
+
+		return result;
+	}
+
+	@Override
+	public void flush ()
+	{
+		Runnable batch;
+		synchronized ( this ) {
+			batch = takeBatch ();
+		}
+		dispatch ( batch );
+	}
+
+	/**
+	 * Detaches the current batch and returns its resolution task, null if there is nothing to resolve.
+	 * Must be invoked when holding the lock.
+	 */
+	private Runnable takeBatch ()
+	{
+		if ( sources.isEmpty () ) return null;
+
+		List<T> batchSources = sources;
+		List<CompletableFuture<String>> batchFutures = futures;
+		Map<String, Object> batchParams = params;
+		sources = new ArrayList<> ();
+		futures = new ArrayList<> ();
+		pending = new IdentityHashMap<> ();
+		params = null;
+		paramsId = null;
+
+		return () -> resolve ( batchSources, batchFutures, batchParams );
+	}
+
+	private void dispatch ( Runnable batch )
+	{
+		if ( batch == null ) return;
+		if ( executor == null ) batch.run ();
+		else executor.execute ( batch );
+	}
+
+	private void resolve ( List<T> sources, List<CompletableFuture<String>> futures, Map<String, Object> params )
+	{
+		try
+		{
+			List<String> uris = getUris ( sources, params );
+			if ( uris == null || uris.size () != sources.size () ) throw new RdfMappingException ( String.format (
+				"%s returned %s URIs for a batch of %d objects",
+				this.getClass ().getSimpleName (), uris == null ? "null" : String.valueOf ( uris.size () ), sources.size ()
+			));
+
+			for ( int i = 0; i < futures.size (); i++ )
+				futures.get ( i ).complete ( uris.get ( i ) );
+		}
+		catch ( RuntimeException | Error ex ) {
+			for ( CompletableFuture<String> future: futures )
+				future.completeExceptionally ( ex );
+		}
+	}
+
+	public int getBatchSize () {
+		return batchSize;
+	}
+}
@@ -6,6 +6,7 @@ import java.util.Map;
 
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
@@ -33,6 +34,12 @@ import uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils;
  */
 public class RdfLiteralGenerator<T> extends RdfValueGenerator<T, Literal>
 {
+	/**
+	 * Used to create literals when the factory doesn't have a graph model (eg, it's streaming the output). Literals 
+	 * don't need to be attached to the model they end up into, and creating them doesn't change this model. 
+	 */
+	private static final Model LITERALS_MODEL = ModelFactory.createDefaultModel ();
+	
 	private boolean isEmptyStringNull = true;
 		
 	public RdfLiteralGenerator () {
@@ -62,6 +69,7 @@ public class RdfLiteralGenerator<T> extends RdfValueGenerator<T, Literal>
 		if ( source == null ) return null;
 		
 		Model g = this.getMapperFactory ().getGraphModel ();
+		if ( g == null ) g = LITERALS_MODEL;
 		
 		if ( ! ( source instanceof String ) )
 			return RDF_GRAPH_UTILS.value2TypedLiteral ( g, source ).orElse ( null );
@@ -0,0 +1,237 @@
+package uk.ac.ebi.fg.java2rdf.mapping.rdfgen;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+import info.marcobrandizi.rdfutils.namespaces.NamespaceUtils;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.utils.PropertyAccessors;
+import uk.ac.ebi.utils.ids.IdUtils;
+
+/**
+ * A URI generator based on a template like {@code ex:article/{id}}, where the placeholders between braces are
+ * JavaBean properties of the source object.
+ *
+ * This is meant to replace the common ad-hoc generators that build a string per object and then resolve its
+ * namespace prefix (eg, {@code iri ( "ex:article/" + source.getId () )}). Here, the template is parsed and its
+ * prefix is expanded once, when the generator is created, the property accessors are resolved once per source
+ * class (via {@link RdfMapperFactory#getPropertyAccessors()}) and the URIs are built into a buffer sized from the 
+ * template, so that it rarely needs to grow.
+ *
+ * A placeholder can have transformation steps, applied in the order they appear, eg, {@code {email:hash}}:
+ *
+ * <ul>
+ *   <li><b>hash</b>: replaces the value with {@link IdUtils#hashUriSignature(String)}, which is a good way to
+ *   make URIs from long or sensitive values.</li>
+ *   <li><b>encode</b>: percent-encodes the value (UTF-8), so that only unreserved URI characters are left.
+ *   Without this, the value is used as-is.</li>
+ * </ul>
+ *
+ * If any placeholder has a null value, the generated URI is null, meaning the source isn't mapped.
+ *
+ * The namespace prefix is taken from {@link NamespaceUtils}, so it must be registered before creating the generator.
+ * Templates that begin with an absolute URI (eg, {@code http://...}) aren't expanded.
+ *
+ * This is thread-safe.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class UriTemplateGenerator<T> extends RdfUriGenerator<T>
+{
+	private static enum Step { HASH, ENCODE }
+
+	/** The accessors for a given class, see {@link UriTemplateGenerator#getAccessors(Class)} */
+	private static final class ResolvedAccessors
+	{
+		final Class<?> clazz;
+		final Function<Object, Object>[] accessors;
+
+		ResolvedAccessors ( Class<?> clazz, Function<Object, Object>[] accessors )
+		{
+			this.clazz = clazz;
+			this.accessors = accessors;
+		}
+	}
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray ();
+
+	private final String template;
+
+	/** The template is literals [ 0 ] + value [ 0 ] + literals [ 1 ] + ... + literals [ n ] */
+	private final String[] literals;
+	private final String[] propertyNames;
+	private final Step[][] steps;
+	/** The initial capacity of the URI buffer */
+	private final int bufferSize;
+
+	/** Most of the times, the generator is used with one class only, so we cache the accessors for the last one */
+	private volatile ResolvedAccessors lastAccessors = null;
+
+	public UriTemplateGenerator ( String template )
+	{
+		Validate.notEmpty ( template, "Can't create a %s with an empty template", this.getClass ().getSimpleName () );
+		this.template = template;
+
+		List<String> literals = new ArrayList<> ();
+		List<String> propertyNames = new ArrayList<> ();
+		List<Step[]> steps = new ArrayList<> ();
+
+		int pos = 0;
+		while ( true )
+		{
+			int open = template.indexOf ( '{', pos );
+			if ( open == -1 ) break;
+			int close = template.indexOf ( '}', open );
+			Validate.isTrue ( close != -1, "Unclosed placeholder in the URI template '%s'", template );
+
+			literals.add ( template.substring ( pos, open ) );
+
+			String[] chunks = template.substring ( open + 1, close ).split ( ":" );
+			Validate.isTrue ( !chunks [ 0 ].isBlank (), "Empty placeholder in the URI template '%s'", template );
+			propertyNames.add ( chunks [ 0 ].trim () );
+
+			Step[] phSteps = new Step [ chunks.length - 1 ];
+			for ( int i = 1; i < chunks.length; i++ )
+			{
+				String stepName = chunks [ i ].trim ();
+				if ( "hash".equals ( stepName ) ) phSteps [ i - 1 ] = Step.HASH;
+				else if ( "encode".equals ( stepName ) ) phSteps [ i - 1 ] = Step.ENCODE;
+				else throw new IllegalArgumentException ( String.format (
+					"Unknown step '%s' in the URI template '%s'", stepName, template
+				));
+			}
+			steps.add ( phSteps );
+
+			pos = close + 1;
+		}
+		literals.add ( template.substring ( pos ) );
+
+		for ( String literal: literals )
+			Validate.isTrue ( literal.indexOf ( '}' ) == -1, "Unbalanced braces in the URI template '%s'", template );
+
+		// Expand the namespace prefix, once and for all
+		String head = literals.get ( 0 );
+		if ( !head.contains ( "://" ) && head.indexOf ( ':' ) > 0 ) literals.set ( 0, NamespaceUtils.iri ( head ) );
+
+		this.literals = literals.toArray ( new String [ 0 ] );
+		this.propertyNames = propertyNames.toArray ( new String [ 0 ] );
+		this.steps = steps.toArray ( new Step [ 0 ][] );
+
+		int bufferSize = 0;
+		for ( String literal: this.literals ) bufferSize += literal.length ();
+		this.bufferSize = bufferSize + 32 * this.propertyNames.length;
+	}
+
+	@Override
+	public String getUri ( T source, Map<String, Object> params )
+	{
+		if ( source == null ) return null;
+
+		Function<Object, Object>[] accessors = getAccessors ( source.getClass () );
+
+		// Not a per-thread buffer, since the getters or toString() might use other generators in the same thread
+		StringBuilder sb = new StringBuilder ( bufferSize );
+		sb.append ( literals [ 0 ] );
+		for ( int i = 0; i < accessors.length; i++ )
+		{
+			Object value = accessors [ i ].apply ( source );
+			if ( value == null ) return null;
+
+			appendValue ( sb, value.toString (), steps [ i ] );
+			sb.append ( literals [ i + 1 ] );
+		}
+		return sb.toString ();
+	}
+
+	private Function<Object, Object>[] getAccessors ( Class<?> clazz )
+	{
+		ResolvedAccessors result = this.lastAccessors;
+		if ( result != null && result.clazz == clazz ) return result.accessors;
+
+		// The factory's cache is used when available, standalone generators compile the accessors themselves
+		RdfMapperFactory mapFactory = this.getMapperFactory ();
+		PropertyAccessors factoryAccessors = mapFactory == null ? null : mapFactory.getPropertyAccessors ();
+
+		@SuppressWarnings ( "unchecked" )
+		Function<Object, Object>[] accessors = new Function [ propertyNames.length ];
+		for ( int i = 0; i < propertyNames.length; i++ )
+			accessors [ i ] = factoryAccessors == null 
+				? PropertyAccessors.createAccessor ( clazz, propertyNames [ i ] )
+				: factoryAccessors.getAccessor ( clazz, propertyNames [ i ] );
+
+		this.lastAccessors = new ResolvedAccessors ( clazz, accessors );
+		return accessors;
+	}
+
+	private static void appendValue ( StringBuilder sb, String value, Step[] steps )
+	{
+		int last = steps.length - 1;
+		for ( int i = 0; i < last; i++ )
+			value = applyStep ( value, steps [ i ] );
+
+		// The last encoding step can go straight into the buffer
+		if ( last >= 0 && steps [ last ] == Step.ENCODE ) percentEncode ( sb, value );
+		else sb.append ( last >= 0 ? applyStep ( value, steps [ last ] ) : value );
+	}
+
+	private static String applyStep ( String value, Step step )
+	{
+		if ( step == Step.HASH ) return IdUtils.hashUriSignature ( value );
+		return percentEncode ( value );
+	}
+
+	/**
+	 * Percent-encodes a value (UTF-8), as the 'encode' step does. This is also used by the mappers that 
+	 * {@link uk.ac.ebi.fg.java2rdf.annotations.processor.RdfMapperProcessor} generates. 
+	 */
+	public static String percentEncode ( String value )
+	{
+		int i = 0;
+		while ( i < value.length () && isUnreserved ( value.charAt ( i ) ) ) i++;
+		if ( i == value.length () ) return value;
+
+		StringBuilder sb = new StringBuilder ( value.length () + 16 );
+		percentEncode ( sb, value );
+		return sb.toString ();
+	}
+
+	private static void percentEncode ( StringBuilder sb, String value )
+	{
+		for ( int i = 0; i < value.length (); i++ )
+		{
+			char c = value.charAt ( i );
+			if ( isUnreserved ( c ) ) {
+				sb.append ( c );
+				continue;
+			}
+
+			// Else, encode the UTF-8 bytes of the whole code point
+			int end = Character.isHighSurrogate ( c ) && i + 1 < value.length () ? i + 2 : i + 1;
+			for ( byte b: value.substring ( i, end ).getBytes ( StandardCharsets.UTF_8 ) )
+				sb.append ( '%' ).append ( HEX_DIGITS [ ( b >> 4 ) & 0xF ] ).append ( HEX_DIGITS [ b & 0xF ] );
+			i = end - 1;
+		}
+	}
+
+	private static boolean isUnreserved ( char c )
+	{
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+			|| c == '-' || c == '.' || c == '_' || c == '~';
+	}
+
+	public String getTemplate () {
+		return template;
+	}
+
+	@Override
+	public String toString () {
+		return this.getClass ().getSimpleName () + "{ " + template + " }";
+	}
+}
@@ -0,0 +1,193 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.apache.jena.sparql.core.Quad;
+
+/**
+ * A streaming {@link TripleSink} that writes the triples in one of the Jena binary RDF encodings,
+ * <a href = "https://jena.apache.org/documentation/io/rdf-binary.html">RDF Thrift or RDF Protobuf</a>.
+ *
+ * Like {@link NTriplesTripleSink}, this writes every triple as soon as it arrives and it doesn't keep anything in
+ * memory, but the binary encodings are more compact and much faster to parse than text formats, which is
+ * useful when the output is to be loaded into a triple store or another Jena application. The output can also be
+ * GZIP-compressed, which reduces its size further, at the cost of some CPU time.
+ *
+ * The output is complete only after {@link #close()}, which closes the underlining stream too. {@link #flush()}
+ * pushes the data encoded so far to the stream, but the encoder might still hold some data in its own buffer.
+ *
+ * Use {@link #read(StreamRDF, InputStream, Encoding, boolean)} or the usual Jena readers
+ * (see {@link Encoding#getLang()}) to read the output.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class BinaryRdfTripleSink implements TripleSink
+{
+	/**
+	 * The binary encodings supported by {@link BinaryRdfTripleSink}.
+	 */
+	public static enum Encoding
+	{
+		THRIFT ( RDFFormat.RDF_THRIFT, Lang.RDFTHRIFT ),
+		PROTOBUF ( RDFFormat.RDF_PROTO, Lang.RDFPROTO );
+
+		private final RDFFormat format;
+		private final Lang lang;
+
+		private Encoding ( RDFFormat format, Lang lang )
+		{
+			this.format = format;
+			this.lang = lang;
+		}
+
+		public RDFFormat getFormat () {
+			return format;
+		}
+
+		/**
+		 * The Jena language to be used with readers like {@link RDFDataMgr}.
+		 */
+		public Lang getLang () {
+			return lang;
+		}
+	}
+
+	private final OutputStream out;
+	private final StreamRDF stream;
+	private final Node graphNode;
+	private final Encoding encoding;
+	private final boolean isCompressed;
+
+	/**
+	 * @param out where the output goes.
+	 * @param encoding the binary format to use.
+	 * @param isCompressed if true, the output is GZIP-compressed.
+	 * @param graphUri if not null, the triples are written as quads in this named graph.
+	 */
+	public BinaryRdfTripleSink ( OutputStream out, Encoding encoding, boolean isCompressed, String graphUri )
+	{
+		Validate.notNull ( out, "Can't create a %s with a null output stream", this.getClass ().getSimpleName () );
+		Validate.notNull ( encoding, "Can't create a %s with a null encoding", this.getClass ().getSimpleName () );
+
+		this.encoding = encoding;
+		this.isCompressed = isCompressed;
+		this.graphNode = graphUri == null ? null : NodeFactory.createURI ( graphUri );
+
+		try {
+			this.out = isCompressed
+				? new GZIPOutputStream ( out, 1 << 16 )
+				: new BufferedOutputStream ( out, 1 << 16 );
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while setting up the RDF output: " + ex.getMessage (), ex );
+		}
+
+		this.stream = StreamRDFWriter.getWriterStream ( this.out, encoding.getFormat () );
+		this.stream.start ();
+	}
+
+	/**
+	 * Writes triples (not quads).
+	 */
+	public BinaryRdfTripleSink ( OutputStream out, Encoding encoding, boolean isCompressed ) {
+		this ( out, encoding, isCompressed, null );
+	}
+
+	/**
+	 * No compression, triples only.
+	 */
+	public BinaryRdfTripleSink ( OutputStream out, Encoding encoding ) {
+		this ( out, encoding, false );
+	}
+
+	@Override
+	public void add ( Node subject, Node predicate, Node object )
+	{
+		synchronized ( stream )
+		{
+			if ( graphNode == null ) stream.triple ( Triple.create ( subject, predicate, object ) );
+			else stream.quad ( Quad.create ( graphNode, subject, predicate, object ) );
+		}
+	}
+
+	@Override
+	public void flush ()
+	{
+		try
+		{
+			synchronized ( stream ) {
+				out.flush ();
+			}
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while flushing RDF triples: " + ex.getMessage (), ex );
+		}
+	}
+
+	/**
+	 * Finishes the binary stream and closes the underlining output stream.
+	 */
+	@Override
+	public void close ()
+	{
+		try
+		{
+			synchronized ( stream )
+			{
+				stream.finish ();
+				out.close ();
+			}
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while closing an RDF triple sink: " + ex.getMessage (), ex );
+		}
+	}
+
+	public Encoding getEncoding () {
+		return encoding;
+	}
+
+	public boolean isCompressed () {
+		return isCompressed;
+	}
+
+	/**
+	 * Reads what a {@link BinaryRdfTripleSink} with the same encoding and compression wrote, sending it to the
+	 * destination stream (see {@link org.apache.jena.riot.system.StreamRDFLib} to get one for a graph or a dataset).
+	 * This doesn't close the input.
+	 */
+	public static void read ( StreamRDF destination, InputStream in, Encoding encoding, boolean isCompressed )
+	{
+		Validate.notNull ( in, "Can't read RDF from a null input stream" );
+		Validate.notNull ( encoding, "Can't read RDF with a null encoding" );
+
+		try
+		{
+			InputStream bin = isCompressed
+				? new GZIPInputStream ( in, 1 << 16 )
+				: new BufferedInputStream ( in, 1 << 16 );
+			RDFDataMgr.parse ( destination, bin, encoding.getLang () );
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while reading binary RDF: " + ex.getMessage (), ex );
+		}
+	}
+}
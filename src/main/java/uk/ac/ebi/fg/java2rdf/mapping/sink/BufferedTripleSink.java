@@ -0,0 +1,68 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Node;
+
+/**
+ * A {@link TripleSink} that buffers triples and sends them to a target sink in batches.
+ * 
+ * This is used to give each mapping thread its own buffer, so that the threads don't compete on the target for
+ * every triple. The target is locked (by synchronising on it) while a batch is sent to it, so it doesn't need to 
+ * be thread-safe, as long as it's accessed only via buffered sinks like this. 
+ * 
+ * An instance of this class is <b>not</b> thread-safe, it is meant to be used by a single thread.  
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class BufferedTripleSink implements TripleSink
+{
+	private final TripleSink target;
+	private final Node[] buffer;
+	private int size = 0;
+	
+	public BufferedTripleSink ( TripleSink target, int capacity )
+	{
+		Validate.notNull ( target, "Can't create a %s with a null target", this.getClass ().getSimpleName () );
+		Validate.isTrue ( capacity > 0, "Can't create a %s with a capacity of %d", this.getClass ().getSimpleName (), capacity );
+		
+		this.target = target;
+		this.buffer = new Node [ 3 * capacity ];
+	}
+
+	@Override
+	public void add ( Node subject, Node predicate, Node object )
+	{
+		buffer [ size++ ] = subject;
+		buffer [ size++ ] = predicate;
+		buffer [ size++ ] = object;
+		if ( size == buffer.length ) this.flush ();
+	}
+
+	/**
+	 * Sends the buffered triples to the target. This doesn't flush the target.
+	 */
+	@Override
+	public void flush ()
+	{
+		if ( size == 0 ) return;
+		
+		synchronized ( target ) {
+			for ( int i = 0; i < size; i += 3 )
+				target.add ( buffer [ i ], buffer [ i + 1 ], buffer [ i + 2 ] );
+		}
+		
+		Arrays.fill ( buffer, 0, size, null );
+		size = 0;
+	}
+
+	/**
+	 * The sink the triples are sent to.
+	 */
+	public TripleSink getTarget () {
+		return target;
+	}
+}
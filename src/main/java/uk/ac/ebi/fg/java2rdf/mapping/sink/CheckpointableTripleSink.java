@@ -0,0 +1,27 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import uk.ac.ebi.fg.java2rdf.mapping.MappingCheckpointer;
+
+/**
+ * A {@link TripleSink} that can mark a position in its output and later go back to it, discarding what was written 
+ * after the mark. This allows {@link MappingCheckpointer} to resume a mapping job without duplicated or missing 
+ * triples. 
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public interface CheckpointableTripleSink extends TripleSink
+{
+	/**
+	 * Makes all the triples received so far durable (eg, synced to disk) and returns the position in the output
+	 * that follows them.
+	 */
+	long checkpoint ();
+	
+	/**
+	 * Discards the output after a position returned by {@link #checkpoint()}, possibly by a previous instance 
+	 * of the sink working on the same output. New triples are written from that position.
+	 */
+	void rollbackTo ( long position );
+}
@@ -0,0 +1,321 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+import uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils;
+
+/**
+ * A {@link TripleSink} that drops duplicated triples and sends the others to a target sink.
+ *
+ * The same triple can be produced multiple times during a mapping (eg, by a {@link
+ * uk.ac.ebi.fg.java2rdf.mapping.properties.CompositePropRdfMapper} and the mapper of another class), which is
+ * harmless with a Jena model, but yields duplicates in the output of streaming sinks like {@link NTriplesTripleSink}.
+ * Put this in front of such sinks to avoid that. The available {@link Mode modes} trade memory for accuracy:
+ *
+ * <ul>
+ *   <li>{@link Mode#EXACT}: keeps all the triples seen so far, it never drops a new triple, but it takes about as
+ *   much memory as the graph itself.</li>
+ *   <li>{@link Mode#HASHED}: keeps 128-bit hashes of the triples, which take 16-32 bytes per triple. A new triple
+ *   is dropped only if its hash collides with the one of a previous triple, which is practically impossible.
+ *   The memory isn't bounded, it grows with the no. of distinct triples, up to about 320M triples (8GB for the
+ *   hashes, plus as much while they're reorganised). Beyond that, the sink fails with an {@link RdfMappingException}.
+ *   Use the Bloom mode for larger outputs.</li>
+ *   <li>{@link Mode#BLOOM}: uses a Bloom filter over the same hashes, sized for an expected no. of triples and a
+ *   false positive probability. This takes a fixed amount of memory (eg, about 1.8 bytes per triple for a 0.1%
+ *   probability), but a fraction of the new triples, about the false positive probability, is dropped. Use it
+ *   when that is acceptable, eg, for very large outputs where completeness can be checked otherwise.</li>
+ * </ul>
+ *
+ * This is thread-safe. {@link #flush()} and {@link #close()} are forwarded to the target.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class DedupTripleSink implements TripleSink
+{
+	public static enum Mode { EXACT, HASHED, BLOOM }
+
+	private static final long HASH_SEED1 = 0xcbf29ce484222325L, HASH_SEED2 = 0x9e3779b97f4a7c15L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	/**
+	 * A minimal open-addressing set of 128-bit values, used by {@link Mode#HASHED}.
+	 */
+	private static final class Hash128Set
+	{
+		/** The largest power-of-2 array size Java allows, ie, 2^29 slots of 2 longs */
+		private static final int MAX_LENGTH = 1 << 30;
+		private static final double LOAD_FACTOR = 0.6;
+
+		private long[] slots = new long [ 2 * 1024 ];
+		private int size = 0;
+
+		boolean add ( long h1, long h2 )
+		{
+			// (0, 0) marks the free slots
+			if ( h1 == 0 && h2 == 0 ) h2 = 1;
+
+			int mask = slots.length / 2 - 1;
+			for ( int i = (int) h1 & mask; ; i = ( i + 1 ) & mask )
+			{
+				long s1 = slots [ 2 * i ], s2 = slots [ 2 * i + 1 ];
+				if ( s1 == h1 && s2 == h2 ) return false;
+				if ( s1 != 0 || s2 != 0 ) continue;
+
+				if ( size + 1 > slots.length / 2 * LOAD_FACTOR ) {
+					// Grow before storing, so that nothing is stored when the set can't grow anymore
+					rehash ();
+					return add ( h1, h2 );
+				}
+
+				slots [ 2 * i ] = h1;
+				slots [ 2 * i + 1 ] = h2;
+				size++;
+				return true;
+			}
+		}
+
+		private void rehash ()
+		{
+			long[] old = slots;
+			if ( old.length >= MAX_LENGTH ) throw new RdfMappingException ( String.format (
+				"%s can't track more than %d distinct triples in the %s mode, use the %s mode for larger outputs",
+				DedupTripleSink.class.getSimpleName (), size, Mode.HASHED, Mode.BLOOM
+			));
+
+			slots = new long [ old.length * 2 ];
+			int mask = slots.length / 2 - 1;
+			for ( int j = 0; j < old.length; j += 2 )
+			{
+				long h1 = old [ j ], h2 = old [ j + 1 ];
+				if ( h1 == 0 && h2 == 0 ) continue;
+
+				int i = (int) h1 & mask;
+				while ( slots [ 2 * i ] != 0 || slots [ 2 * i + 1 ] != 0 ) i = ( i + 1 ) & mask;
+				slots [ 2 * i ] = h1;
+				slots [ 2 * i + 1 ] = h2;
+			}
+		}
+
+		long getMemoryBytes () {
+			return (long) slots.length * 8;
+		}
+	}
+
+	/**
+	 * A standard Bloom filter, used by {@link Mode#BLOOM}. The k positions are computed from the two halves of the
+	 * 128-bit hash, via double hashing.
+	 */
+	private static final class BloomFilter
+	{
+		private final long[] bits;
+		private final long nbits;
+		private final int nhashes;
+
+		BloomFilter ( long expectedSize, double fpp )
+		{
+			long m = (long) Math.ceil ( -expectedSize * Math.log ( fpp ) / ( Math.log ( 2 ) * Math.log ( 2 ) ) );
+			m = Math.max ( 64, m );
+			Validate.isTrue ( m / 64 < Integer.MAX_VALUE, "Bloom filter too big for %d triples", expectedSize );
+			this.bits = new long [ (int) ( ( m + 63 ) / 64 ) ];
+			this.nbits = (long) bits.length * 64;
+			this.nhashes = Math.max ( 1, (int) Math.round ( (double) nbits / expectedSize * Math.log ( 2 ) ) );
+		}
+
+		/**
+		 * @return true if the value wasn't in the filter (for sure).
+		 */
+		boolean add ( long h1, long h2 )
+		{
+			boolean result = false;
+			for ( int i = 0; i < nhashes; i++ )
+			{
+				long idx = Math.floorMod ( h1 + i * h2, nbits );
+				int word = (int) ( idx >>> 6 );
+				long mask = 1L << idx;
+				if ( ( bits [ word ] & mask ) != 0 ) continue;
+				bits [ word ] |= mask;
+				result = true;
+			}
+			return result;
+		}
+
+		long getMemoryBytes () {
+			return (long) bits.length * 8;
+		}
+	}
+
+
+	private final TripleSink target;
+	private final Mode mode;
+
+	private final Set<Triple> triples;
+	private final Hash128Set hashes;
+	private final BloomFilter bloomFilter;
+
+	private long received = 0;
+	private long duplicates = 0;
+
+	/**
+	 * @param target where the triples that aren't duplicates are sent.
+	 * @param mode how the triples seen so far are tracked, see above.
+	 * @param expectedTriples used to size the Bloom filter, ignored by the other modes.
+	 * @param falsePositiveProbability used to size the Bloom filter, ignored by the other modes.
+	 */
+	public DedupTripleSink ( TripleSink target, Mode mode, long expectedTriples, double falsePositiveProbability )
+	{
+		Validate.notNull ( target, "Can't create a %s with a null target", this.getClass ().getSimpleName () );
+		Validate.notNull ( mode, "Can't create a %s with a null mode", this.getClass ().getSimpleName () );
+
+		this.target = target;
+		this.mode = mode;
+
+		if ( mode == Mode.BLOOM )
+		{
+			Validate.isTrue ( expectedTriples > 0, "The expected no. of triples for a Bloom filter must be positive" );
+			Validate.isTrue ( falsePositiveProbability > 0 && falsePositiveProbability < 1,
+				"The false positive probability of a Bloom filter must be in (0, 1)"
+			);
+		}
+
+		this.triples = mode == Mode.EXACT ? new HashSet<> () : null;
+		this.hashes = mode == Mode.HASHED ? new Hash128Set () : null;
+		this.bloomFilter = mode == Mode.BLOOM ? new BloomFilter ( expectedTriples, falsePositiveProbability ) : null;
+	}
+
+	/**
+	 * For the modes that don't need sizing parameters, ie, {@link Mode#EXACT} and {@link Mode#HASHED}.
+	 */
+	public DedupTripleSink ( TripleSink target, Mode mode ) {
+		this ( target, mode, 0, 0 );
+	}
+
+	/**
+	 * Uses {@link Mode#HASHED}.
+	 */
+	public DedupTripleSink ( TripleSink target ) {
+		this ( target, Mode.HASHED );
+	}
+
+	@Override
+	public void add ( Node subject, Node predicate, Node object )
+	{
+		// Hashes are computed out of the lock, since they're the expensive part
+		Triple triple = null;
+		long h1 = 0, h2 = 0;
+		if ( mode == Mode.EXACT )
+			triple = Triple.create ( subject, predicate, object );
+		else
+		{
+			h1 = hashTriple ( subject, predicate, object, HASH_SEED1 );
+			h2 = hashTriple ( subject, predicate, object, HASH_SEED2 );
+		}
+
+		synchronized ( this )
+		{
+			received++;
+			boolean isNew = mode == Mode.EXACT ? triples.add ( triple )
+				: mode == Mode.HASHED ? hashes.add ( h1, h2 )
+				: bloomFilter.add ( h1, h2 );
+			if ( !isNew ) { duplicates++; return; }
+		}
+		target.add ( subject, predicate, object );
+	}
+
+	/**
+	 * Hashes the triple from the parts of its nodes (URI, blank node label, lexical form, datatype, language), 
+	 * without building strings. This is 64-bit FNV-1a, finalised as in {@link Java2RdfUtils#hash64(CharSequence)}.
+	 */
+	private static long hashTriple ( Node subject, Node predicate, Node object, long seed )
+	{
+		long h = hashNode ( seed, subject );
+		h = hashNode ( h, predicate );
+		h = hashNode ( h, object );
+
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private static long hashNode ( long h, Node node )
+	{
+		if ( node.isURI () ) return hashPart ( h, 'U', node.getURI () );
+		if ( node.isBlank () ) return hashPart ( h, 'B', node.getBlankNodeLabel () );
+		if ( node.isLiteral () )
+		{
+			h = hashPart ( h, 'L', node.getLiteralLexicalForm () );
+			h = hashPart ( h, 'T', node.getLiteralDatatypeURI () );
+			return hashPart ( h, '@', node.getLiteralLanguage () );
+		}
+		// Variables and the like, not expected in a mapping output
+		return hashPart ( h, '?', node.toString () );
+	}
+
+	/**
+	 * Adds a tag and the string length before the string, so that different splits of the same characters 
+	 * (eg, 'ab' + 'c' and 'a' + 'bc') don't yield the same hash.
+	 */
+	private static long hashPart ( long h, char tag, String s )
+	{
+		int n = s == null ? -1 : s.length ();
+		h = ( h ^ tag ) * FNV_PRIME;
+		h = ( h ^ n ) * FNV_PRIME;
+		for ( int i = 0; i < n; i++ )
+			h = ( h ^ s.charAt ( i ) ) * FNV_PRIME;
+		return h;
+	}
+
+	@Override
+	public void flush () {
+		target.flush ();
+	}
+
+	@Override
+	public void close () {
+		target.close ();
+	}
+
+	public TripleSink getTarget () {
+		return target;
+	}
+
+	public Mode getMode () {
+		return mode;
+	}
+
+	/**
+	 * The no. of triples received so far, including the duplicates.
+	 */
+	public synchronized long getReceivedTriples () {
+		return received;
+	}
+
+	/**
+	 * The no. of triples that were dropped as duplicates. For {@link Mode#BLOOM}, this includes the false positives.
+	 */
+	public synchronized long getDuplicates () {
+		return duplicates;
+	}
+
+	/**
+	 * The memory taken by the data structures that track the triples, in bytes. For {@link Mode#EXACT}, this is an
+	 * estimate, which doesn't include the nodes, since they're shared with the mappers and the target.
+	 */
+	public synchronized long getMemoryBytes ()
+	{
+		switch ( mode )
+		{
+			case EXACT: return triples.size () * 80L;
+			case HASHED: return hashes.getMemoryBytes ();
+			default: return bloomFilter.getMemoryBytes ();
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+
+/**
+ * A {@link TripleSink} that stores the triples into a Jena {@link Model}. This is what java2rdf has always done
+ * and the default, when you create an {@link uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory} with a model.
+ * 
+ * Note that this is thread-safe only if the underlining model is.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class ModelTripleSink implements TripleSink
+{
+	private final Model model;
+
+	public ModelTripleSink ( Model model ) 
+	{
+		Validate.notNull ( model, "Can't create a %s with a null model", this.getClass ().getSimpleName () );
+		this.model = model;
+	}
+
+	@Override
+	public void add ( Node subject, Node predicate, Node object ) {
+		model.getGraph ().add ( Triple.create ( subject, predicate, object ) );
+	}
+
+	/**
+	 * The model where the triples are stored.
+	 */
+	public Model getModel () {
+		return model;
+	}
+}
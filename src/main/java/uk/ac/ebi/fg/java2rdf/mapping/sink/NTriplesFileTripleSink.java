@@ -0,0 +1,106 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link NTriplesTripleSink} that writes to a file, supporting {@link CheckpointableTripleSink checkpoints}, where 
+ * the position is the file size.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class NTriplesFileTripleSink extends NTriplesTripleSink implements CheckpointableTripleSink
+{
+	private final FileChannel channel;
+	private final Path file;
+	
+	/**
+	 * Writes N-Quads if graphUri isn't null, N-Triples otherwise.
+	 * 
+	 * @param isAppend if true, the new triples are added at the end of an existing file, else the file is truncated.
+	 *        Use true when resuming a job, {@link #rollbackTo(long)} will truncate the file at the right position. 
+	 */
+	public NTriplesFileTripleSink ( Path file, String graphUri, boolean isAppend ) {
+		this ( file, openChannel ( file, isAppend ), graphUri );
+	}
+
+	/**
+	 * Writes N-Triples in a new file.
+	 */
+	public NTriplesFileTripleSink ( Path file ) {
+		this ( file, null, false );
+	}
+	
+	private NTriplesFileTripleSink ( Path file, FileChannel channel, String graphUri )
+	{
+		super ( Channels.newOutputStream ( channel ), graphUri );
+		this.file = file;
+		this.channel = channel;
+	}
+	
+	private static FileChannel openChannel ( Path file, boolean isAppend )
+	{
+		Validate.notNull ( file, "Can't create a %s with a null file", NTriplesFileTripleSink.class.getSimpleName () );
+		try 
+		{
+			FileChannel result = isAppend
+				? FileChannel.open ( file, StandardOpenOption.CREATE, StandardOpenOption.WRITE ) 
+				: FileChannel.open ( file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING );
+			result.position ( result.size () );
+			return result;
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while opening the RDF output file '" + file + "': " + ex.getMessage (), ex );
+		}
+	}
+	
+	@Override
+	public long checkpoint ()
+	{
+		this.flush ();
+		try 
+		{
+			synchronized ( channel ) 
+			{
+				channel.force ( false );
+				return channel.position ();
+			}
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while syncing the RDF output file '" + file + "': " + ex.getMessage (), ex );
+		}
+	}
+
+	@Override
+	public void rollbackTo ( long position )
+	{
+		this.flush ();
+		try 
+		{
+			synchronized ( channel ) 
+			{
+				Validate.isTrue ( position >= 0 && position <= channel.size (), 
+					"Can't roll back the RDF output file '%s' to the position %d, which is beyond its size of %d bytes, " 
+					+ "probably the file doesn't match the checkpoint", file, position, channel.size () 
+				);
+				channel.truncate ( position );
+				channel.position ( position );
+			}
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while truncating the RDF output file '" + file + "': " + ex.getMessage (), ex );
+		}
+	}
+
+	public Path getFile () {
+		return file;
+	}
+}
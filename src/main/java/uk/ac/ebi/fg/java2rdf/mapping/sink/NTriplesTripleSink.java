@@ -0,0 +1,97 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.riot.out.NodeFmtLib;
+
+/**
+ * A streaming {@link TripleSink}, which writes every triple to an output stream as soon as it arrives, in 
+ * N-Triples format or, when a graph URI is specified, in N-Quads format.
+ * 
+ * This doesn't keep anything in memory apart from the output buffer, so it's suitable for outputs of any size.
+ * Note that, differently than a Jena model, this doesn't filter duplicated triples. 
+ * 
+ * {@link #close()} closes the underlining stream too.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class NTriplesTripleSink implements TripleSink
+{
+	private final Writer out;
+	private final String graphTail;
+	
+	/**
+	 * Writes N-Triples.
+	 */
+	public NTriplesTripleSink ( OutputStream out ) {
+		this ( out, null );
+	}
+
+	/**
+	 * Writes N-Quads if graphUri isn't null, N-Triples otherwise. 
+	 */
+	public NTriplesTripleSink ( OutputStream out, String graphUri )
+	{
+		Validate.notNull ( out, "Can't create a %s with a null output stream", this.getClass ().getSimpleName () );
+		this.out = new BufferedWriter ( new OutputStreamWriter ( out, StandardCharsets.UTF_8 ), 1 << 16 );
+		this.graphTail = graphUri == null 
+			? " .\n" 
+			: " " + NodeFmtLib.strNT ( NodeFactory.createURI ( graphUri ) ) + " .\n";
+	}
+
+	@Override
+	public void add ( Node subject, Node predicate, Node object )
+	{
+		String line = NodeFmtLib.strNT ( subject ) + ' ' + NodeFmtLib.strNT ( predicate ) + ' ' 
+			+ NodeFmtLib.strNT ( object ) + graphTail;
+		
+		try 
+		{
+			synchronized ( out ) {
+				out.write ( line );
+			}
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while writing RDF triples: " + ex.getMessage (), ex );
+		}
+	}
+
+	@Override
+	public void flush ()
+	{
+		try 
+		{
+			synchronized ( out ) {
+				out.flush ();
+			}
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while flushing RDF triples: " + ex.getMessage (), ex );
+		}
+	}
+
+	@Override
+	public void close ()
+	{
+		try 
+		{
+			synchronized ( out ) {
+				out.close ();
+			}
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while closing an RDF triple sink: " + ex.getMessage (), ex );
+		}
+	}
+}
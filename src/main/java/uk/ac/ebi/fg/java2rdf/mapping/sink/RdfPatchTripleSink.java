@@ -0,0 +1,391 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Node;
+import org.apache.jena.riot.out.NodeFmtLib;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils;
+
+/**
+ * A {@link TripleSink} for incremental exports, which writes the differences with the previous export, in the
+ * <a href = "https://afs.github.io/rdf-patch/">RDF Patch</a> format.
+ *
+ * The sink keeps a store in a local directory, with the triples sent to it by the last export and a fingerprint
+ * per subject, ie, an order-independent 128-bit hash of all the triples having that subject (which, for the
+ * java2rdf mappers, are the triples about a bean). During a new export, the incoming triples are spooled on disk
+ * and fingerprinted. When the sink is {@link #close() closed}, the new fingerprints are compared to the stored
+ * ones and, for every subject that is new, changed or no longer exported, the patch gets deletions of its old
+ * triples and additions of the new ones. The triples of the unchanged subjects don't appear in the patch.
+ * Finally, the new export replaces the old one in the store.
+ *
+ * The first export with an empty store yields a patch that adds everything. Every patch has a header with its
+ * id and, if there is a previous export, the id of the previous patch, so that patches can be applied in a chain.
+ *
+ * The memory used is about the size of the subject URIs plus a few dozen bytes per subject. The store
+ * takes about the size of the output in N-Triples.
+ *
+ * Note that this works with the whole output of an export, so don't use the same store with exports that map
+ * different subsets of the data, since the subjects missing from an export would be deleted.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class RdfPatchTripleSink implements TripleSink
+{
+	private static final String TRIPLES_FILE = "triples.nt";
+	private static final String FINGERPRINTS_FILE = "fingerprints.bin";
+
+	/** Used to mark the triples file with the id of the patch it comes from */
+	private static final String PATCH_ID_COMMENT = "# java2rdf patch id: ";
+
+	private static final long HASH_SEED2 = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * The fingerprint of the triples about a subject. The line hashes are summed, so that the result doesn't
+	 * depend on the order of the triples.
+	 */
+	private static final class Fingerprint
+	{
+		long hash1, hash2;
+		int count;
+
+		void add ( String line )
+		{
+			hash1 += Java2RdfUtils.hash64 ( line );
+			hash2 += Java2RdfUtils.hash64 ( line, HASH_SEED2 );
+			count++;
+		}
+
+		boolean isSame ( Fingerprint other ) {
+			return hash1 == other.hash1 && hash2 == other.hash2 && count == other.count;
+		}
+	}
+
+	/**
+	 * The previous export, as it's loaded from the store.
+	 */
+	private static final class StoreState
+	{
+		final String patchId;
+		final Map<String, Fingerprint> fingerprints;
+
+		StoreState ( String patchId, Map<String, Fingerprint> fingerprints )
+		{
+			this.patchId = patchId;
+			this.fingerprints = fingerprints;
+		}
+	}
+
+
+	private final Path storeDir;
+	private final Writer patchOut;
+
+	private final Path spoolFile;
+	private final Writer spool;
+	private final Map<String, Fingerprint> fingerprints = new HashMap<> ();
+	private boolean isClosed = false;
+
+	private String patchId = null;
+	private long addedTriples = 0, deletedTriples = 0;
+	private long newSubjects = 0, changedSubjects = 0, removedSubjects = 0, unchangedSubjects = 0;
+
+	private Logger log = LoggerFactory.getLogger ( this.getClass () );
+
+	/**
+	 * @param storeDir where the previous export is kept, it's created if it doesn't exist.
+	 * @param patchOut where the patch is written.
+	 */
+	public RdfPatchTripleSink ( Path storeDir, OutputStream patchOut )
+	{
+		Validate.notNull ( storeDir, "Can't create a %s with a null store directory", this.getClass ().getSimpleName () );
+		Validate.notNull ( patchOut, "Can't create a %s with a null output stream", this.getClass ().getSimpleName () );
+
+		this.storeDir = storeDir;
+		this.patchOut = new BufferedWriter ( new OutputStreamWriter ( patchOut, StandardCharsets.UTF_8 ), 1 << 16 );
+		try
+		{
+			Files.createDirectories ( storeDir );
+			this.spoolFile = storeDir.resolve ( TRIPLES_FILE + ".new" );
+			this.spool = Files.newBufferedWriter ( spoolFile, StandardCharsets.UTF_8 );
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while setting up the RDF patch store: " + ex.getMessage (), ex );
+		}
+	}
+
+	@Override
+	public synchronized void add ( Node subject, Node predicate, Node object )
+	{
+		Validate.validState ( !isClosed, "Can't add triples to a closed %s", this.getClass ().getSimpleName () );
+
+		String subjectStr = NodeFmtLib.strNT ( subject );
+		String line = subjectStr + ' ' + NodeFmtLib.strNT ( predicate ) + ' ' + NodeFmtLib.strNT ( object ) + " .";
+		try {
+			spool.write ( line );
+			spool.write ( '\n' );
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while spooling RDF triples: " + ex.getMessage (), ex );
+		}
+		fingerprints.computeIfAbsent ( subjectStr, s -> new Fingerprint () ).add ( line );
+	}
+
+	/**
+	 * Flushes the triples spooled so far. The patch is only written by {@link #close()}.
+	 */
+	@Override
+	public synchronized void flush ()
+	{
+		if ( isClosed ) return;
+		try {
+			spool.flush ();
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while flushing RDF triples: " + ex.getMessage (), ex );
+		}
+	}
+
+	/**
+	 * Compares the current export with the stored one, writes the patch, closes its stream and replaces the
+	 * stored export with the current one.
+	 */
+	@Override
+	public synchronized void close ()
+	{
+		if ( isClosed ) return;
+		isClosed = true;
+
+		try
+		{
+			spool.close ();
+
+			StoreState prevState = loadStore ();
+			Map<String, Fingerprint> prevFingerprints = prevState.fingerprints;
+
+			// The subjects to be re-written
+			Set<String> changed = new HashSet<> ();
+			for ( Map.Entry<String, Fingerprint> entry: fingerprints.entrySet () )
+			{
+				String subject = entry.getKey ();
+				Fingerprint prev = prevFingerprints.remove ( subject );
+				if ( prev == null ) newSubjects++;
+				else if ( !prev.isSame ( entry.getValue () ) ) changedSubjects++;
+				else { unchangedSubjects++; continue; }
+				changed.add ( subject );
+			}
+			// What's left wasn't exported this time
+			removedSubjects = prevFingerprints.size ();
+			changed.addAll ( prevFingerprints.keySet () );
+
+			patchId = "uuid:" + UUID.randomUUID ();
+			patchOut.write ( "H id <" + patchId + "> .\n" );
+			if ( prevState.patchId != null ) patchOut.write ( "H prev <" + prevState.patchId + "> .\n" );
+
+			if ( !changed.isEmpty () )
+			{
+				patchOut.write ( "TX .\n" );
+				Path triplesFile = storeDir.resolve ( TRIPLES_FILE );
+				if ( Files.exists ( triplesFile ) ) deletedTriples = writePatchLines ( triplesFile, "D ", changed );
+				addedTriples = writePatchLines ( spoolFile, "A ", changed );
+				patchOut.write ( "TC .\n" );
+			}
+			patchOut.close ();
+
+			saveStore ();
+
+			log.info (
+				"RDF patch {}: {} new subjects, {} changed, {} removed, {} unchanged, {} triples added, {} deleted",
+				patchId, newSubjects, changedSubjects, removedSubjects, unchangedSubjects, addedTriples, deletedTriples
+			);
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while writing the RDF patch: " + ex.getMessage (), ex );
+		}
+	}
+
+
+	/**
+	 * Writes the triples in the file that have one of the subjects, prefixed by the patch operation.
+	 */
+	private long writePatchLines ( Path triplesFile, String operation, Set<String> subjects ) throws IOException
+	{
+		long result = 0;
+		try ( BufferedReader in = Files.newBufferedReader ( triplesFile, StandardCharsets.UTF_8 ) )
+		{
+			for ( String line; ( line = in.readLine () ) != null; )
+			{
+				if ( line.isEmpty () || line.startsWith ( "#" ) ) continue;
+				// N-Triples subjects don't contain spaces
+				if ( !subjects.contains ( line.substring ( 0, line.indexOf ( ' ' ) ) ) ) continue;
+				patchOut.write ( operation );
+				patchOut.write ( line );
+				patchOut.write ( '\n' );
+				result++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The triples file is moved first and the fingerprints last, both marked with the patch id. If something goes
+	 * wrong in between, {@link #loadStore()} sees the mismatch and recomputes the fingerprints from the triples.
+	 */
+	private void saveStore () throws IOException
+	{
+		// The triples file gets its patch id via an N-Triples comment, prepended to the spooled triples
+		Path triplesTmp = storeDir.resolve ( TRIPLES_FILE + ".tmp" );
+		try ( OutputStream out = new BufferedOutputStream ( Files.newOutputStream ( triplesTmp ), 1 << 16 ) )
+		{
+			out.write ( ( PATCH_ID_COMMENT + patchId + "\n" ).getBytes ( StandardCharsets.UTF_8 ) );
+			Files.copy ( spoolFile, out );
+		}
+		Files.delete ( spoolFile );
+		Files.move ( triplesTmp, storeDir.resolve ( TRIPLES_FILE ), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+
+		Path fingerprintsTmp = storeDir.resolve ( FINGERPRINTS_FILE + ".tmp" );
+		try ( DataOutputStream out = new DataOutputStream (
+			new BufferedOutputStream ( Files.newOutputStream ( fingerprintsTmp ), 1 << 16 )
+		))
+		{
+			out.writeUTF ( patchId );
+			out.writeInt ( fingerprints.size () );
+			for ( Map.Entry<String, Fingerprint> entry: fingerprints.entrySet () )
+			{
+				Fingerprint fp = entry.getValue ();
+				out.writeUTF ( entry.getKey () );
+				out.writeLong ( fp.hash1 );
+				out.writeLong ( fp.hash2 );
+				out.writeInt ( fp.count );
+			}
+		}
+		Files.move (
+			fingerprintsTmp, storeDir.resolve ( FINGERPRINTS_FILE ), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+		);
+	}
+
+	private StoreState loadStore () throws IOException
+	{
+		Path triplesFile = storeDir.resolve ( TRIPLES_FILE );
+		if ( !Files.exists ( triplesFile ) ) return new StoreState ( null, new HashMap<> () );
+
+		String triplesPatchId = null;
+		try ( BufferedReader in = Files.newBufferedReader ( triplesFile, StandardCharsets.UTF_8 ) ) {
+			String line = in.readLine ();
+			if ( line != null && line.startsWith ( PATCH_ID_COMMENT ) ) triplesPatchId = line.substring ( PATCH_ID_COMMENT.length () );
+		}
+
+		Path fingerprintsFile = storeDir.resolve ( FINGERPRINTS_FILE );
+		if ( Files.exists ( fingerprintsFile ) )
+		{
+			try ( DataInputStream in = new DataInputStream (
+				new BufferedInputStream ( Files.newInputStream ( fingerprintsFile ), 1 << 16 )
+			))
+			{
+				String fpPatchId = in.readUTF ();
+				if ( fpPatchId.equals ( triplesPatchId ) )
+				{
+					int size = in.readInt ();
+					Map<String, Fingerprint> result = new HashMap<> ( size * 4 / 3 + 1 );
+					for ( int i = 0; i < size; i++ )
+					{
+						String subject = in.readUTF ();
+						Fingerprint fp = new Fingerprint ();
+						fp.hash1 = in.readLong ();
+						fp.hash2 = in.readLong ();
+						fp.count = in.readInt ();
+						result.put ( subject, fp );
+					}
+					return new StoreState ( triplesPatchId, result );
+				}
+			}
+			catch ( EOFException ex ) {
+				// Truncated, fall back to the triples
+			}
+		}
+
+		log.warn ( "RDF patch store at '{}' has no valid fingerprints, recomputing them from the triples", storeDir );
+		Map<String, Fingerprint> result = new HashMap<> ();
+		try ( BufferedReader in = Files.newBufferedReader ( triplesFile, StandardCharsets.UTF_8 ) )
+		{
+			for ( String line; ( line = in.readLine () ) != null; )
+			{
+				if ( line.isEmpty () || line.startsWith ( "#" ) ) continue;
+				result.computeIfAbsent ( line.substring ( 0, line.indexOf ( ' ' ) ), s -> new Fingerprint () ).add ( line );
+			}
+		}
+		return new StoreState ( triplesPatchId, result );
+	}
+
+
+	public Path getStoreDir () {
+		return storeDir;
+	}
+
+	/**
+	 * The id of the patch written by {@link #close()}, null before that.
+	 */
+	public synchronized String getPatchId () {
+		return patchId;
+	}
+
+	/**
+	 * The no. of triples added by the patch. This and the other stats are available after {@link #close()}.
+	 */
+	public synchronized long getAddedTriples () {
+		return addedTriples;
+	}
+
+	public synchronized long getDeletedTriples () {
+		return deletedTriples;
+	}
+
+	/**
+	 * The subjects that weren't in the previous export.
+	 */
+	public synchronized long getNewSubjects () {
+		return newSubjects;
+	}
+
+	/**
+	 * The subjects that are in both exports, with different triples.
+	 */
+	public synchronized long getChangedSubjects () {
+		return changedSubjects;
+	}
+
+	/**
+	 * The subjects that were in the previous export only.
+	 */
+	public synchronized long getRemovedSubjects () {
+		return removedSubjects;
+	}
+
+	public synchronized long getUnchangedSubjects () {
+		return unchangedSubjects;
+	}
+}
@@ -0,0 +1,79 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Node;
+
+/**
+ * A {@link TripleSink} that keeps the triples it receives until they're either {@link #commit() committed} to a target
+ * sink or {@link #rollback() discarded}.
+ *
+ * This is used by the {@link uk.ac.ebi.fg.java2rdf.mapping.errors.PartialOutputPolicy#ROLLBACK rollback policy}
+ * of the fail-soft mode, to hold the triples of a single bean. Unlike {@link BufferedTripleSink}, it has no
+ * capacity limit, since nothing can be sent to the target before the commit.
+ *
+ * An instance of this class is <b>not</b> thread-safe, it is meant to be used by a single thread.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class RollbackTripleSink implements TripleSink
+{
+	private final TripleSink target;
+	private Node[] buffer = new Node [ 3 * 16 ];
+	private int size = 0;
+
+	public RollbackTripleSink ( TripleSink target )
+	{
+		Validate.notNull ( target, "Can't create a %s with a null target", this.getClass ().getSimpleName () );
+		this.target = target;
+	}
+
+	@Override
+	public void add ( Node subject, Node predicate, Node object )
+	{
+		if ( size == buffer.length ) buffer = Arrays.copyOf ( buffer, buffer.length * 2 );
+		buffer [ size++ ] = subject;
+		buffer [ size++ ] = predicate;
+		buffer [ size++ ] = object;
+	}
+
+	/**
+	 * Sends the triples received so far to the target and clears this sink.
+	 */
+	public void commit ()
+	{
+		for ( int i = 0; i < size; i += 3 )
+			target.add ( buffer [ i ], buffer [ i + 1 ], buffer [ i + 2 ] );
+		rollback ();
+	}
+
+	/**
+	 * Discards the triples received so far.
+	 */
+	public void rollback ()
+	{
+		Arrays.fill ( buffer, 0, size, null );
+		size = 0;
+	}
+
+	/**
+	 * Does nothing, the triples are delivered by {@link #commit()} only.
+	 */
+	@Override
+	public void flush () {
+	}
+
+	/**
+	 * The no. of triples waiting for {@link #commit()}.
+	 */
+	public int size () {
+		return size / 3;
+	}
+
+	public TripleSink getTarget () {
+		return target;
+	}
+}
@@ -0,0 +1,309 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.tdb2.loader.DataLoader;
+import org.apache.jena.tdb2.loader.LoaderFactory;
+import org.apache.jena.tdb2.loader.base.MonitorOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+
+/**
+ * A {@link TripleSink} that writes into a Jena TDB2 {@link Dataset}.
+ *
+ * The triples are buffered and written in batches of {@link #getBatchSize()} triples, each batch in its own write
+ * transaction. This keeps the TDB2 journal small and, if something goes wrong, only the current batch is lost, the
+ * previous ones remain committed. Optionally, the batches can be written via the TDB2 bulk loader
+ * (see {@link #setBulkLoaderMode(boolean)}), which is faster when loading large amounts of data.
+ *
+ * Each batch transaction is started and committed within the same call, by the thread that causes the batch to be
+ * written, so this sink can be used with {@link uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory#mapAll(Iterable, int)}.
+ * Don't keep a transaction open on the dataset while it's being used by this sink.
+ *
+ * Remember to {@link #close()} (or {@link #flush()}) the sink at the end, to write the last batch. This doesn't close
+ * the dataset.
+ *
+ * This requires the jena-tdb2 dependency, which is optional in java2rdf.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class Tdb2TripleSink implements TripleSink
+{
+	/**
+	 * The figures about a batch written by {@link Tdb2TripleSink}, which are logged and sent to
+	 * {@link Tdb2TripleSink#setBatchListener(Consumer) the batch listener}.
+	 */
+	public static class BatchStats
+	{
+		private final long batchNo;
+		private final int batchSize;
+		private final long totalTriples;
+		private final long elapsedMillis;
+		private final long usedMemory;
+
+		BatchStats ( long batchNo, int batchSize, long totalTriples, long elapsedMillis, long usedMemory )
+		{
+			this.batchNo = batchNo;
+			this.batchSize = batchSize;
+			this.totalTriples = totalTriples;
+			this.elapsedMillis = elapsedMillis;
+			this.usedMemory = usedMemory;
+		}
+
+		/**
+		 * Starts from 1.
+		 */
+		public long getBatchNo () {
+			return batchNo;
+		}
+
+		/**
+		 * The no. of triples in this batch.
+		 */
+		public int getBatchSize () {
+			return batchSize;
+		}
+
+		/**
+		 * The no. of triples written so far, including this batch.
+		 */
+		public long getTotalTriples () {
+			return totalTriples;
+		}
+
+		/**
+		 * The time it took to write and commit the batch.
+		 */
+		public long getElapsedMillis () {
+			return elapsedMillis;
+		}
+
+		/**
+		 * Triples/s for this batch.
+		 */
+		public double getThroughput () {
+			return elapsedMillis == 0 ? batchSize * 1000d : batchSize * 1000d / elapsedMillis;
+		}
+
+		/**
+		 * The used JVM heap (total - free memory), in bytes, after the batch was committed.
+		 */
+		public long getUsedMemory () {
+			return usedMemory;
+		}
+
+		@Override
+		public String toString ()
+		{
+			return String.format (
+				"batch #%d: %d triples (%d total), %d ms, %.0f triples/s, used heap: %d MB",
+				batchNo, batchSize, totalTriples, elapsedMillis, getThroughput (), usedMemory / ( 1024 * 1024 )
+			);
+		}
+	}
+
+
+	private final Dataset dataset;
+	private final Node graphNode;
+	private final int batchSize;
+
+	private final Node[] buffer;
+	private int size = 0;
+
+	private boolean isBulkLoaderMode = false;
+	private Consumer<BatchStats> batchListener = null;
+
+	private long batchCount = 0;
+	private long tripleCount = 0;
+
+	private Logger log = LoggerFactory.getLogger ( this.getClass () );
+
+	/** The bulk loader progress goes to our log, formatted only when it's going to be logged */
+	private final MonitorOutput loaderOutput = ( fmt, args ) -> {
+		if ( log.isDebugEnabled () ) log.debug ( String.format ( fmt, args ) );
+	};
+
+	/**
+	 * @param dataset where the triples are sent.
+	 * @param batchSize how many triples are written per transaction.
+	 * @param graphUri the named graph to write into. If it's null, the triples are written in the default graph.
+	 */
+	public Tdb2TripleSink ( Dataset dataset, int batchSize, String graphUri )
+	{
+		Validate.notNull ( dataset, "Can't create a %s with a null dataset", this.getClass ().getSimpleName () );
+		Validate.isTrue ( batchSize > 0, "Can't create a %s with a batch size of %d", this.getClass ().getSimpleName (), batchSize );
+
+		this.dataset = dataset;
+		this.batchSize = batchSize;
+		this.graphNode = graphUri == null ? null : NodeFactory.createURI ( graphUri );
+		this.buffer = new Node [ 3 * batchSize ];
+	}
+
+	/**
+	 * Uses the default graph.
+	 */
+	public Tdb2TripleSink ( Dataset dataset, int batchSize ) {
+		this ( dataset, batchSize, null );
+	}
+
+	/**
+	 * Uses batches of 100k triples and the default graph.
+	 */
+	public Tdb2TripleSink ( Dataset dataset ) {
+		this ( dataset, 100000 );
+	}
+
+
+	@Override
+	public synchronized void add ( Node subject, Node predicate, Node object )
+	{
+		buffer [ size++ ] = subject;
+		buffer [ size++ ] = predicate;
+		buffer [ size++ ] = object;
+		if ( size == buffer.length ) this.writeBatch ();
+	}
+
+	/**
+	 * Writes the currently buffered triples as a new batch, even if the batch size wasn't reached yet.
+	 */
+	@Override
+	public synchronized void flush () {
+		this.writeBatch ();
+	}
+
+	private void writeBatch ()
+	{
+		if ( size == 0 ) return;
+
+		int ntriples = size / 3;
+		long batchNo = batchCount + 1;
+		long start = System.currentTimeMillis ();
+
+		try
+		{
+			if ( isBulkLoaderMode ) writeBatchBulk ();
+			else writeBatchTx ();
+		}
+		catch ( RuntimeException ex )
+		{
+			// The batch transaction is aborted, we don't want to retry it, nor to block the other batches
+			this.clearBuffer ();
+			throw new RdfMappingException ( String.format (
+				"Error while writing the batch #%d of %d triples into TDB2: %s", batchNo, ntriples, ex.getMessage ()
+			), ex );
+		}
+		this.clearBuffer ();
+
+		batchCount = batchNo;
+		tripleCount += ntriples;
+
+		Runtime rt = Runtime.getRuntime ();
+		BatchStats stats = new BatchStats (
+			batchNo, ntriples, tripleCount, System.currentTimeMillis () - start, rt.totalMemory () - rt.freeMemory ()
+		);
+		log.debug ( "TDB2 sink, {}", stats );
+		if ( batchListener != null ) batchListener.accept ( stats );
+	}
+
+	private void writeBatchTx ()
+	{
+		dataset.executeWrite ( () ->
+		{
+			DatasetGraph dsg = dataset.asDatasetGraph ();
+			Graph graph = graphNode == null ? dsg.getDefaultGraph () : dsg.getGraph ( graphNode );
+			for ( int i = 0; i < size; i += 3 )
+				graph.add ( Triple.create ( buffer [ i ], buffer [ i + 1 ], buffer [ i + 2 ] ) );
+		});
+	}
+
+	/**
+	 * The loader manages its own transaction, which is committed by {@link DataLoader#finishBulk()}. A loader isn't
+	 * meant to be started again after that (some loaders stop their worker threads), so we need one per batch to 
+	 * commit every batch, which is what this sink promises. Creating it costs little compared to loading a batch.
+	 */
+	private void writeBatchBulk ()
+	{
+		DatasetGraph dsg = dataset.asDatasetGraph ();
+		DataLoader loader = graphNode == null 
+			? LoaderFactory.createLoader ( dsg, loaderOutput ) 
+			: LoaderFactory.createLoader ( dsg, graphNode, loaderOutput );
+		loader.startBulk ();
+		try
+		{
+			StreamRDF stream = loader.stream ();
+			for ( int i = 0; i < size; i += 3 )
+				stream.triple ( Triple.create ( buffer [ i ], buffer [ i + 1 ], buffer [ i + 2 ] ) );
+			loader.finishBulk ();
+		}
+		catch ( RuntimeException ex ) {
+			loader.finishException ( ex );
+			throw ex;
+		}
+	}
+
+	private void clearBuffer ()
+	{
+		Arrays.fill ( buffer, 0, size, null );
+		size = 0;
+	}
+
+
+	public Dataset getDataset () {
+		return dataset;
+	}
+
+	public int getBatchSize () {
+		return batchSize;
+	}
+
+	/**
+	 * If true, the batches are written via the TDB2 bulk loader ({@link LoaderFactory}), rather than a regular
+	 * write transaction. This is usually faster for big batches (and big data), but the loader takes exclusive
+	 * access to the dataset while a batch is being written. Default is false.
+	 */
+	public boolean isBulkLoaderMode () {
+		return isBulkLoaderMode;
+	}
+
+	public void setBulkLoaderMode ( boolean isBulkLoaderMode ) {
+		this.isBulkLoaderMode = isBulkLoaderMode;
+	}
+
+	/**
+	 * If set, it's invoked with the stats about every written batch. Stats are logged anyway, at the DEBUG level.
+	 */
+	public Consumer<BatchStats> getBatchListener () {
+		return batchListener;
+	}
+
+	public void setBatchListener ( Consumer<BatchStats> batchListener ) {
+		this.batchListener = batchListener;
+	}
+
+	/**
+	 * The no. of batches committed so far.
+	 */
+	public synchronized long getBatchCount () {
+		return batchCount;
+	}
+
+	/**
+	 * The no. of triples committed so far.
+	 */
+	public synchronized long getTripleCount () {
+		return tripleCount;
+	}
+}
@@ -0,0 +1,61 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.model.Literal;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+
+/**
+ * The destination of the RDF triples that the mappers produce. 
+ * 
+ * An {@link RdfMapperFactory} sends its output to one of these (see {@link RdfMapperFactory#getTripleSink()}). The
+ * default is {@link ModelTripleSink}, which collects the triples in a Jena Model, while implementations like
+ * {@link NTriplesTripleSink} write the triples as soon as they arrive, so that they don't need to be kept in memory.
+ *   
+ * Implementations should be thread-safe, since a factory might be used by multiple threads.
+ * 
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public interface TripleSink extends AutoCloseable
+{
+	/**
+	 * Receives a new triple. 
+	 */
+	void add ( Node subject, Node predicate, Node object );
+	
+	/**
+	 * Facility to send a triple that links two resources.
+	 */
+	default void assertResource ( String subjectUri, String predicateUri, String objectUri )
+	{
+		this.add ( 
+			NodeFactory.createURI ( subjectUri ), NodeFactory.createURI ( predicateUri ), NodeFactory.createURI ( objectUri ) 
+		);
+	}
+
+	/**
+	 * Facility to send a triple that has a literal as object. 
+	 */
+	default void assertLiteral ( String subjectUri, String predicateUri, Literal literal ) 
+	{
+		this.add ( NodeFactory.createURI ( subjectUri ), NodeFactory.createURI ( predicateUri ), literal.asNode () );
+	}
+	
+	/**
+	 * Forces the delivery of the triples received so far to their final destination (eg, file). 
+	 * By default, does nothing.
+	 */
+	default void flush () {
+	}
+	
+	/**
+	 * Releases any resource associated to this sink. By default, {@link #flush() flushes} the sink.
+	 */
+	@Override
+	default void close () {
+		this.flush ();
+	}
+}
@@ -0,0 +1,41 @@
+package uk.ac.ebi.fg.java2rdf.mapping.visited;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import uk.ac.ebi.fg.java2rdf.mapping.MappingCheckpointer;
+
+/**
+ * A {@link VisitedTracker} that can save its state and load it back, so that a mapping job can be resumed by 
+ * a new process, see {@link MappingCheckpointer}.
+ * 
+ * The saved state must not depend on the objects' identity, since the objects of the new process are different 
+ * instances. 
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public interface CheckpointableVisitedTracker extends VisitedTracker
+{
+	/**
+	 * Writes the visited objects. This is called while the mapping is paused.
+	 */
+	void saveState ( DataOutput out ) throws IOException;
+	
+	/**
+	 * Replaces the current state with one written by {@link #saveState(DataOutput)}.
+	 */
+	void loadState ( DataInput in ) throws IOException;
+	
+	/**
+	 * Tells if a visited object is among those that {@link #saveState(DataOutput)} writes. This is used by 
+	 * {@link uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory} to stop a checkpointed job when an object that isn't
+	 * saved produces triples, since it would be mapped again after a resume, duplicating them. By default, it's 
+	 * true, ie, the tracker saves all the visited objects.
+	 */
+	default boolean isCheckpointed ( Object source ) {
+		return true;
+	}
+}
@@ -0,0 +1,42 @@
+package uk.ac.ebi.fg.java2rdf.mapping.visited;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default {@link VisitedTracker}, which considers two objects the same when they're equal according to 
+ * {@link Object#equals(Object)} (and {@link Object#hashCode()}).
+ * 
+ * This is the same semantics java2rdf has always used to track visited objects. It's based on a concurrent set, so 
+ * it doesn't serialise multiple mapping threads, but it keeps strong references to all the visited objects and 
+ * pays the cost of their hashCode() implementation. Consider {@link IdentityVisitedTracker} or 
+ * {@link FingerprintVisitedTracker} when these are an issue. 
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class EqualsVisitedTracker implements VisitedTracker
+{
+	private final Set<Object> visited = ConcurrentHashMap.newKeySet ();
+	
+	@Override
+	public boolean visit ( Object source ) {
+		return visited.add ( source );
+	}
+
+	@Override
+	public boolean isVisited ( Object source ) {
+		return visited.contains ( source );
+	}
+
+	@Override
+	public long size () {
+		return visited.size ();
+	}
+
+	@Override
+	public void clear () {
+		visited.clear ();
+	}
+}
@@ -0,0 +1,228 @@
+package uk.ac.ebi.fg.java2rdf.mapping.visited;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.commons.lang3.Validate;
+
+import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils;
+import uk.ac.ebi.fg.java2rdf.utils.LongHashSet;
+
+/**
+ * A compact {@link VisitedTracker}, which keeps 64-bit fingerprints of the visited objects, instead of the objects
+ * themselves.
+ * 
+ * This takes about 8-16 bytes per visited object and doesn't keep any reference to them, so that they can be 
+ * garbage-collected as soon as they're mapped. The fingerprints are kept in a number of independently-locked stripes, 
+ * to reduce contention between multiple mapping threads.
+ * 
+ * The fingerprint function must return the same value for objects that have to be considered the same. Two objects 
+ * having the same fingerprint are considered the same object, so the function must be collision-free in practice. 
+ * Usually, you'll want to use {@link #forUris(RdfMapperFactory)}, which hashes the URI an object is mapped to.  
+ * 
+ * The function can return {@link #NO_FINGERPRINT} for the objects that don't have a fingerprint, which are then 
+ * tracked exactly, by identity, via an {@link IdentityVisitedTracker}. 
+ * 
+ * The fingerprints can be saved for {@link uk.ac.ebi.fg.java2rdf.mapping.MappingCheckpointer checkpoints}, which 
+ * makes sense only if the fingerprint function is stable across JVMs (eg, it's based on URIs, not on identity hashes).
+ * The objects without fingerprint aren't saved, since their identity means nothing for another JVM, so, after a 
+ * resume, they're new again. That's harmless for objects that aren't mapped anyway, like beans with a null URI, 
+ * while objects that produce triples without a URI (eg, via a custom 
+ * {@link uk.ac.ebi.fg.java2rdf.mapping.ObjRdfMapper}) would be mapped again if they're reached both before and 
+ * after the checkpoint, so a checkpointed job fails when it meets one of them (see {@link #isCheckpointed(Object)}). 
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class FingerprintVisitedTracker implements CheckpointableVisitedTracker
+{
+	private static final int STRIPES = 64;
+	
+	/**
+	 * Returned by the fingerprint function for the objects that have to be tracked by identity. Note that 
+	 * {@link #forUris(RdfMapperFactory)} never returns it for objects having a URI. 
+	 */
+	public static final long NO_FINGERPRINT = 1L;
+	
+	private final ToLongBiFunction<Object, Map<String, Object>> fingerprinter;
+	private final LongHashSet[] stripes = new LongHashSet [ STRIPES ];
+	private final IdentityVisitedTracker noFingerprintTracker = new IdentityVisitedTracker ();
+	
+	/**
+	 * @param fingerprinter gets the object and the params it's being mapped with (null when they aren't known, 
+	 *        eg, in {@link #visit(Object)}).
+	 */
+	public FingerprintVisitedTracker ( ToLongBiFunction<Object, Map<String, Object>> fingerprinter )
+	{
+		Validate.notNull ( fingerprinter, "Can't create a %s with a null fingerprint function", this.getClass ().getSimpleName () );
+		this.fingerprinter = fingerprinter;
+		for ( int i = 0; i < STRIPES; i++ ) stripes [ i ] = new LongHashSet ();
+	}
+
+	/**
+	 * A tracker with a fingerprint function that doesn't depend on the mapping params.
+	 */
+	public FingerprintVisitedTracker ( ToLongFunction<Object> fingerprinter ) {
+		this ( ignoringParams ( fingerprinter ) );
+	}
+
+	private static ToLongBiFunction<Object, Map<String, Object>> ignoringParams ( ToLongFunction<Object> fingerprinter )
+	{
+		Validate.notNull ( fingerprinter, "Can't create a %s with a null fingerprint function", 
+			FingerprintVisitedTracker.class.getSimpleName () 
+		);
+		return ( source, params ) -> fingerprinter.applyAsLong ( source );
+	}
+
+	/**
+	 * A tracker that uses the {@link Java2RdfUtils#hash64(CharSequence) hash} of 
+	 * {@link RdfMapperFactory#getUri(Object, Map)} as fingerprint, ie, two objects are considered the same if 
+	 * they're mapped to the same URI. The URI is computed with the params the object is being mapped with, 
+	 * which the factory passes to {@link #visit(Object, Map)}, so it's the same URI the mapper emits.
+	 * 
+	 * Objects for which there isn't a URI (null URI or mapper that isn't a {@link BeanRdfMapper}) get 
+	 * {@link #NO_FINGERPRINT}, ie, they're tracked by identity.
+	 * 
+	 * Since the tracker needs the URI before the object is mapped, the URI generator is invoked twice for each new 
+	 * object, once here and once by its mapper. If the generators are expensive, set up 
+	 * {@link RdfMapperFactory#setUriCache(uk.ac.ebi.fg.java2rdf.utils.IdentityUriCache) a URI cache}: both 
+	 * invocations go through it, so the URI is computed once.
+	 * 
+	 * Since the tracker needs the URI before the object is mapped, it uses the blocking {@link RdfMapperFactory#getUri(Object)}
+	 * even with {@link uk.ac.ebi.fg.java2rdf.mapping.rdfgen.AsyncRdfUriGenerator asynchronous generators}, which
+	 * are then flushed and waited for at every new object, so their batching is lost. With such generators, prefer
+	 * trackers that don't depend on URIs, like {@link IdentityVisitedTracker}.
+	 */
+	public static FingerprintVisitedTracker forUris ( RdfMapperFactory mapFactory )
+	{
+		Validate.notNull ( mapFactory, "Can't create an URI-based visited tracker with a null mapper factory" );
+		
+		return new FingerprintVisitedTracker ( ( source, params ) -> 
+		{
+			String uri = mapFactory.getMapper ( source ) instanceof BeanRdfMapper 
+				? mapFactory.getUri ( source, params ) : null;
+			// The low bit of URI hashes is forced to 0, so that they never clash with NO_FINGERPRINT
+			return uri == null ? NO_FINGERPRINT : Java2RdfUtils.hash64 ( uri ) & ~1L;
+		} );
+	}
+	
+	@Override
+	public boolean visit ( Object source ) {
+		return visit ( source, null );
+	}
+
+	@Override
+	public boolean visit ( Object source, Map<String, Object> params ) 
+	{
+		long fp = fingerprinter.applyAsLong ( source, params );
+		return fp == NO_FINGERPRINT ? noFingerprintTracker.visit ( source ) : this.visitFingerprint ( fp );
+	}
+
+	@Override
+	public boolean isVisited ( Object source ) 
+	{
+		long fp = fingerprinter.applyAsLong ( source, null );
+		return fp == NO_FINGERPRINT ? noFingerprintTracker.isVisited ( source ) : this.isFingerprintVisited ( fp );
+	}
+
+	/**
+	 * Like {@link #visit(Object)}, but working directly with a fingerprint, as it would be returned by the 
+	 * fingerprint function.
+	 */
+	public boolean visitFingerprint ( long fingerprint )
+	{
+		LongHashSet stripe = stripe ( fingerprint );
+		synchronized ( stripe ) {
+			return stripe.add ( fingerprint );
+		}
+	}
+
+	public boolean isFingerprintVisited ( long fingerprint )
+	{
+		LongHashSet stripe = stripe ( fingerprint );
+		synchronized ( stripe ) {
+			return stripe.contains ( fingerprint );
+		}
+	}
+	
+	@Override
+	public long size () {
+		return fingerprintsSize () + noFingerprintTracker.size ();
+	}
+
+	private long fingerprintsSize ()
+	{
+		long result = 0;
+		for ( LongHashSet stripe: stripes )
+			synchronized ( stripe ) {
+				result += stripe.size ();
+			}
+		return result;
+	}
+
+	@Override
+	public void clear ()
+	{
+		for ( LongHashSet stripe: stripes )
+			synchronized ( stripe ) {
+				stripe.clear ();
+			}
+		noFingerprintTracker.clear ();
+	}
+
+	/**
+	 * true if the object has a fingerprint, ie, it isn't tracked by identity. This doesn't invoke the fingerprint 
+	 * function.
+	 */
+	@Override
+	public boolean isCheckpointed ( Object source ) {
+		return !noFingerprintTracker.isVisited ( source );
+	}
+
+	/**
+	 * Writes the number of fingerprints, followed by the fingerprints. The objects tracked by identity aren't saved, 
+	 * see above.
+	 */
+	@Override
+	public void saveState ( DataOutput out ) throws IOException
+	{
+		out.writeLong ( this.fingerprintsSize () );
+		for ( LongHashSet stripe: stripes )
+			synchronized ( stripe ) 
+			{
+				try {
+					stripe.forEach ( fp -> {
+						try {
+							out.writeLong ( fp );
+						}
+						catch ( IOException ex ) {
+							throw new UncheckedIOException ( ex );
+						}
+					});
+				}
+				catch ( UncheckedIOException ex ) {
+					throw ex.getCause ();
+				}
+			}
+	}
+
+	@Override
+	public void loadState ( DataInput in ) throws IOException
+	{
+		this.clear ();
+		for ( long i = in.readLong (); i > 0; i-- )
+			this.visitFingerprint ( in.readLong () );
+	}
+
+	private LongHashSet stripe ( long fingerprint ) {
+		return stripes [ (int) ( ( fingerprint * 0x9e3779b97f4a7c15L ) >>> 58 ) ];
+	}
+}
@@ -0,0 +1,242 @@
+package uk.ac.ebi.fg.java2rdf.mapping.visited;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link VisitedTracker} that considers two objects the same only when they're the same instance (ie, '==').
+ *
+ * This doesn't invoke any user-defined equals()/hashCode(), it uses {@link System#identityHashCode(Object)} instead.
+ * The visited objects are kept in open-addressing tables of weak references, where {@link #visit(Object)} and
+ * {@link #isVisited(Object)} don't take any lock: a new object is added by a compare-and-set on a free slot, which
+ * is enough to have a single winner when multiple threads visit the same object, since the slots are never freed
+ * and all the threads probe the same sequence of slots.
+ *
+ * A table is replaced by a bigger (or compacted) one when it fills up. That's the only locked operation: one thread
+ * moves the live references to the new table, marking the old slots, and the threads that hit a marked slot wait
+ * for the new table. The references are split into many tables (stripes), so that this pause is short and only
+ * affects the objects of one stripe.
+ *
+ * Since the references are weak, the tracker doesn't keep the mapped objects alive: when the application drops
+ * them, they can be garbage-collected and the tracker retains about 50 bytes per object (the reference and its
+ * table slot), until the next resize of its table drops them. That's correct, since a collected object can't be
+ * visited again. Lookups don't allocate anything.
+ *
+ * Use it when your object model doesn't have multiple instances that represent the same entity (or when it doesn't
+ * matter that such instances are mapped multiple times, which, for most RDF outputs, just means to re-state
+ * the same triples).
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class IdentityVisitedTracker implements VisitedTracker
+{
+	private static final int STRIPES = 64;
+	private static final float LOAD_FACTOR = 0.6f;
+
+	/** A weak reference that also keeps the hash of its object, which is needed after the object is collected */
+	private static final class IdentityRef extends WeakReference<Object>
+	{
+		private final int hash;
+
+		IdentityRef ( Object referent, int hash )
+		{
+			super ( referent );
+			this.hash = hash;
+		}
+	}
+
+	/** Marks the slots of a table that is being replaced */
+	private static final IdentityRef MOVED = new IdentityRef ( null, 0 );
+
+	/** The results of the table operations */
+	private static final int ABSENT = 0, PRESENT = 1, RETRY = 2;
+
+	/**
+	 * An open-addressing table of weak references, probed linearly. The slots go from null to a reference and,
+	 * when the table is replaced, to {@link #MOVED}, never back. Hence, cleared references stay in their slots
+	 * until the table is replaced, and the probe chains are never broken.
+	 */
+	private static final class Table
+	{
+		private final AtomicReferenceArray<IdentityRef> slots;
+		/** The slots taken or reserved by an ongoing add, including the cleared references */
+		private final AtomicInteger used = new AtomicInteger ( 0 );
+		private final int threshold;
+
+		Table ( int capacity )
+		{
+			slots = new AtomicReferenceArray<> ( capacity );
+			threshold = (int) ( capacity * LOAD_FACTOR );
+		}
+
+		int contains ( Object source, int hash )
+		{
+			int mask = slots.length () - 1;
+			for ( int i = hash & mask; ; i = ( i + 1 ) & mask )
+			{
+				IdentityRef ref = slots.get ( i );
+				if ( ref == null ) return ABSENT;
+				if ( ref == MOVED ) return RETRY;
+				if ( ref.hash == hash && ref.get () == source ) return PRESENT;
+			}
+		}
+
+		/**
+		 * @return ABSENT if the source wasn't there and it was added, PRESENT if it was there, RETRY if the table
+		 * is full or it is being replaced.
+		 */
+		int add ( Object source, int hash )
+		{
+			int mask = slots.length () - 1;
+			IdentityRef newRef = null;
+			for ( int i = hash & mask; ; i = ( i + 1 ) & mask )
+			{
+				IdentityRef ref = slots.get ( i );
+				if ( ref == null )
+				{
+					if ( newRef == null )
+					{
+						// Reserves a slot, which guarantees there is always a free one to find
+						if ( used.incrementAndGet () > threshold ) return RETRY;
+						newRef = new IdentityRef ( source, hash );
+					}
+					if ( slots.compareAndSet ( i, null, newRef ) ) return ABSENT;
+
+					// Someone else took the slot, maybe with the same source
+					ref = slots.get ( i );
+				}
+				if ( ref == MOVED ) return RETRY;
+				if ( ref.hash == hash && ref.get () == source )
+				{
+					if ( newRef != null ) used.decrementAndGet ();
+					return PRESENT;
+				}
+			}
+		}
+
+		/**
+		 * Used for the new tables, before they're visible to other threads.
+		 */
+		private void put ( IdentityRef ref )
+		{
+			int mask = slots.length () - 1;
+			int i = ref.hash & mask;
+			while ( slots.get ( i ) != null ) i = ( i + 1 ) & mask;
+			slots.set ( i, ref );
+			used.incrementAndGet ();
+		}
+	}
+
+	private static final class Stripe
+	{
+		private volatile Table table = new Table ( 16 );
+	}
+
+	private final Stripe[] stripes = new Stripe [ STRIPES ];
+	private final LongAdder size = new LongAdder ();
+
+	public IdentityVisitedTracker ()
+	{
+		for ( int i = 0; i < STRIPES; i++ ) stripes [ i ] = new Stripe ();
+	}
+
+	@Override
+	public boolean visit ( Object source )
+	{
+		int hash = hash ( source );
+		Stripe stripe = stripe ( hash );
+		for ( ;; )
+		{
+			Table table = stripe.table;
+			int result = table.add ( source, hash );
+			if ( result == RETRY ) {
+				replaceTable ( stripe, table );
+				continue;
+			}
+			if ( result == PRESENT ) return false;
+			size.increment ();
+			return true;
+		}
+	}
+
+	@Override
+	public boolean isVisited ( Object source )
+	{
+		int hash = hash ( source );
+		Stripe stripe = stripe ( hash );
+		for ( ;; )
+		{
+			Table table = stripe.table;
+			int result = table.contains ( source, hash );
+			if ( result != RETRY ) return result == PRESENT;
+			replaceTable ( stripe, table );
+		}
+	}
+
+	/**
+	 * The no. of objects visited since the last {@link #clear()}, including those that were garbage-collected
+	 * afterwards.
+	 */
+	@Override
+	public long size () {
+		return size.sum ();
+	}
+
+	/**
+	 * This isn't meant to be used while other threads are visiting objects, which might be tracked after it.
+	 */
+	@Override
+	public void clear ()
+	{
+		for ( Stripe stripe: stripes )
+			synchronized ( stripe ) {
+				stripe.table = new Table ( 16 );
+			}
+		size.reset ();
+	}
+
+	/**
+	 * Replaces a full table with a new one, which has the live references only, and grows it if they still take
+	 * more than half of it. If another thread has already replaced the table, or is doing it, just waits for it
+	 * to finish.
+	 */
+	private static void replaceTable ( Stripe stripe, Table table )
+	{
+		synchronized ( stripe )
+		{
+			if ( stripe.table != table ) return;
+
+			// Marks all the slots, so that concurrent adds either happen before this or retry with the new table
+			AtomicReferenceArray<IdentityRef> slots = table.slots;
+			int capacity = slots.length ();
+			IdentityRef[] refs = new IdentityRef [ capacity ];
+			int live = 0;
+			for ( int i = 0; i < capacity; i++ )
+			{
+				IdentityRef ref = slots.getAndSet ( i, MOVED );
+				if ( ref != null && ref.get () != null ) refs [ live++ ] = ref;
+			}
+
+			while ( ( live + 1 ) * 2 > capacity * LOAD_FACTOR ) capacity <<= 1;
+
+			Table newTable = new Table ( capacity );
+			for ( int i = 0; i < live; i++ ) newTable.put ( refs [ i ] );
+			stripe.table = newTable;
+		}
+	}
+
+	/**
+	 * Spreads the identity hash, the high bits pick the stripe, the low bits the slot.
+	 */
+	private static int hash ( Object source ) {
+		return System.identityHashCode ( source ) * 0x9E3779B9;
+	}
+
+	private Stripe stripe ( int hash ) {
+		return stripes [ hash >>> 26 ];
+	}
+}
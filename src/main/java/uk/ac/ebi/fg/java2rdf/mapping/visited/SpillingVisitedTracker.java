@@ -0,0 +1,464 @@
+package uk.ac.ebi.fg.java2rdf.mapping.visited;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.Validate;
+
+import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils;
+
+/**
+ * A {@link VisitedTracker} for object graphs that are too big to keep their visited objects in memory.
+ *
+ * The objects are identified by a string key, typically their URI (see {@link #forUris(RdfMapperFactory, Path, int)}).
+ * The most recently visited keys are kept in memory (the hot tier), up to {@link #getMaxHotEntries()} keys. When
+ * this is full, the keys are spilled to a hash table in memory-mapped files, which are managed by the OS and
+ * don't take heap space.
+ *
+ * Differently than {@link FingerprintVisitedTracker}, this is exact: the disk table is indexed by 64-bit
+ * fingerprints of the keys, but the keys themselves are stored too (in a separated set of files) and they're
+ * compared when a fingerprint matches, so a new object is never reported as already visited.
+ *
+ * The table is split in segments, each with its own lock and growing independently, so that multiple threads can
+ * use the tracker and the table grows without ever rehashing all of it. Each segment holds up to 2^26 slots, filled
+ * up to 50%, so the tracker can hold about 2 billion spilled keys.
+ *
+ * Objects without a key (eg, a null URI) are tracked in memory by identity, as {@link IdentityVisitedTracker}
+ * does, they are assumed to be few.
+ *
+ * The files are created in a working directory, they're deleted by {@link #clear()} and {@link #close()}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class SpillingVisitedTracker implements VisitedTracker, AutoCloseable
+{
+	private static final int SEGMENT_BITS = 6;
+	private static final int N_SEGMENTS = 1 << SEGMENT_BITS;
+
+	/** Fingerprint + key offset */
+	private static final int SLOT_BYTES = 16;
+	private static final int MIN_SEGMENT_SLOTS = 1 << 12;
+	private static final int MAX_SEGMENT_SLOTS = 1 << 26;
+
+	/** The size of the files that store the keys */
+	private static final int KEYS_CHUNK_BYTES = 64 << 20;
+
+	/**
+	 * An independently-locked part of the tracker, which has its own hot set and disk hash table.
+	 */
+	private final class Segment
+	{
+		final int index;
+		final Set<String> hot = new HashSet<> ();
+
+		MappedByteBuffer table = null;
+		int capacity = 0;
+		int generation = 0;
+		int size = 0;
+
+		Segment ( int index ) {
+			this.index = index;
+		}
+
+		boolean isVisited ( String key, long fp )
+		{
+			if ( hot.contains ( key ) ) return true;
+			return size > 0 && tableContains ( fp, key.getBytes ( StandardCharsets.UTF_8 ) );
+		}
+
+		boolean visit ( String key, long fp )
+		{
+			if ( isVisited ( key, fp ) ) return false;
+			hot.add ( key );
+			if ( hot.size () > maxHotEntriesPerSegment ) spill ();
+			return true;
+		}
+
+		/**
+		 * Moves the hot set to the disk table. Its keys are known to be not in the table.
+		 */
+		void spill ()
+		{
+			for ( String key: hot )
+				tableInsert ( fingerprint ( key ), keys.append ( key.getBytes ( StandardCharsets.UTF_8 ) ) );
+			hot.clear ();
+		}
+
+		private boolean tableContains ( long fp, byte[] key )
+		{
+			int mask = capacity - 1;
+			for ( int i = (int) fp & mask; ; i = ( i + 1 ) & mask )
+			{
+				long slotFp = table.getLong ( i * SLOT_BYTES );
+				if ( slotFp == 0 ) return false;
+				if ( slotFp == fp && keys.isSame ( table.getLong ( i * SLOT_BYTES + 8 ), key ) ) return true;
+			}
+		}
+
+		private void tableInsert ( long fp, long keyOffset )
+		{
+			if ( ( size + 1 ) * 2 > capacity ) grow ();
+			putSlot ( table, capacity, fp, keyOffset );
+			size++;
+		}
+
+		private void grow ()
+		{
+			int newCapacity = capacity == 0 ? MIN_SEGMENT_SLOTS : capacity << 1;
+			Validate.validState ( newCapacity <= MAX_SEGMENT_SLOTS,
+				"%s is full, can't store more than %d keys per segment",
+				SpillingVisitedTracker.class.getSimpleName (), MAX_SEGMENT_SLOTS / 2
+			);
+
+			Path oldFile = capacity == 0 ? null : tableFile ( index, generation );
+			MappedByteBuffer newTable = map ( tableFile ( index, ++generation ), (long) newCapacity * SLOT_BYTES );
+			for ( int i = 0; i < capacity; i++ )
+			{
+				long fp = table.getLong ( i * SLOT_BYTES );
+				if ( fp != 0 ) putSlot ( newTable, newCapacity, fp, table.getLong ( i * SLOT_BYTES + 8 ) );
+			}
+			table = newTable;
+			capacity = newCapacity;
+
+			// The old mapping is released when it's garbage-collected, on Unix-like systems the file can be deleted
+			// before that
+			if ( oldFile != null ) deleteQuietly ( oldFile );
+		}
+
+		private void putSlot ( MappedByteBuffer table, int capacity, long fp, long keyOffset )
+		{
+			int mask = capacity - 1;
+			int i = (int) fp & mask;
+			while ( table.getLong ( i * SLOT_BYTES ) != 0 ) i = ( i + 1 ) & mask;
+			table.putLong ( i * SLOT_BYTES + 8, keyOffset );
+			table.putLong ( i * SLOT_BYTES, fp );
+		}
+	}
+
+	/**
+	 * The append-only store of the spilled keys, in memory-mapped chunks. Each key is stored as its length
+	 * followed by its UTF-8 bytes, and it's identified by its offset.
+	 */
+	private final class KeyStore
+	{
+		/** Replaced when a new chunk is added, readers can use it without locking */
+		private volatile MappedByteBuffer[] chunks = new MappedByteBuffer [ 0 ];
+		private int writePos = KEYS_CHUNK_BYTES;
+		private long totalBytes = 0;
+
+		synchronized long append ( byte[] key )
+		{
+			int len = 4 + key.length;
+			Validate.isTrue ( len <= KEYS_CHUNK_BYTES, "Can't track a key of %d bytes", key.length );
+
+			MappedByteBuffer[] chunks = this.chunks;
+			if ( writePos + len > KEYS_CHUNK_BYTES )
+			{
+				chunks = Arrays.copyOf ( chunks, chunks.length + 1 );
+				chunks [ chunks.length - 1 ] = map ( keysFile ( chunks.length - 1 ), KEYS_CHUNK_BYTES );
+				this.chunks = chunks;
+				writePos = 0;
+			}
+
+			MappedByteBuffer chunk = chunks [ chunks.length - 1 ];
+			chunk.putInt ( writePos, key.length );
+			chunk.put ( writePos + 4, key );
+
+			long result = (long) ( chunks.length - 1 ) * KEYS_CHUNK_BYTES + writePos;
+			writePos += len;
+			totalBytes += len;
+			return result;
+		}
+
+		boolean isSame ( long offset, byte[] key )
+		{
+			MappedByteBuffer chunk = chunks [ (int) ( offset / KEYS_CHUNK_BYTES ) ];
+			int pos = (int) ( offset % KEYS_CHUNK_BYTES );
+
+			if ( chunk.getInt ( pos ) != key.length ) return false;
+			pos += 4;
+			for ( int i = 0; i < key.length; i++ )
+				if ( chunk.get ( pos + i ) != key [ i ] ) return false;
+			return true;
+		}
+
+		synchronized long getTotalBytes () {
+			return totalBytes;
+		}
+	}
+
+
+	private final BiFunction<Object, Map<String, Object>, String> keyFunction;
+	private final Path workDir;
+	private final int maxHotEntries;
+	private final int maxHotEntriesPerSegment;
+
+	private volatile Segment[] segments;
+	private volatile KeyStore keys;
+	private final IdentityVisitedTracker noKeyTracker = new IdentityVisitedTracker ();
+
+	/**
+	 * @param keyFunction returns the key that identifies an object, null means the object is tracked by identity.
+	 *        It gets the object and the params it's being mapped with (null when they aren't known, eg, in 
+	 *        {@link #visit(Object)}).
+	 * @param workDir where the disk table is stored. It's created if it doesn't exist.
+	 * @param maxHotEntries how many keys are kept in the heap before spilling them to the disk table.
+	 */
+	public SpillingVisitedTracker ( 
+		BiFunction<Object, Map<String, Object>, String> keyFunction, Path workDir, int maxHotEntries 
+	)
+	{
+		Validate.notNull ( keyFunction, "Can't create a %s with a null key function", this.getClass ().getSimpleName () );
+		Validate.notNull ( workDir, "Can't create a %s with a null work directory", this.getClass ().getSimpleName () );
+		Validate.isTrue ( maxHotEntries >= 0, "Can't create a %s with %d hot entries", this.getClass ().getSimpleName (), maxHotEntries );
+
+		this.keyFunction = keyFunction;
+		this.workDir = workDir;
+		this.maxHotEntries = maxHotEntries;
+		this.maxHotEntriesPerSegment = maxHotEntries / N_SEGMENTS;
+
+		try {
+			Files.createDirectories ( workDir );
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while creating the visited tracker directory: " + ex.getMessage (), ex );
+		}
+		// Leftovers from a previous run that wasn't closed
+		this.deleteFiles ();
+		this.init ();
+	}
+
+	/**
+	 * A tracker with a key function that doesn't depend on the mapping params.
+	 */
+	public SpillingVisitedTracker ( Function<Object, String> keyFunction, Path workDir, int maxHotEntries ) {
+		this ( ignoringParams ( keyFunction ), workDir, maxHotEntries );
+	}
+
+	/**
+	 * Keeps 1M keys in memory.
+	 */
+	public SpillingVisitedTracker ( Function<Object, String> keyFunction, Path workDir ) {
+		this ( keyFunction, workDir, 1000000 );
+	}
+
+	/**
+	 * A tracker based on the URIs that the objects are mapped to, via {@link RdfMapperFactory#getUri(Object, Map)}, 
+	 * with the params the objects are mapped with. As in {@link FingerprintVisitedTracker#forUris(RdfMapperFactory)}, 
+	 * objects without a {@link BeanRdfMapper} or without a URI are tracked by identity, the URI generators are 
+	 * invoked twice per object, unless a {@link RdfMapperFactory#getUriCache() URI cache} is set, and asynchronous 
+	 * URI generators lose their batching, since the URIs are waited for one by one.
+	 */
+	public static SpillingVisitedTracker forUris ( RdfMapperFactory mapFactory, Path workDir, int maxHotEntries )
+	{
+		Validate.notNull ( mapFactory, "Can't create an URI-based visited tracker with a null mapper factory" );
+		return new SpillingVisitedTracker (
+			( source, params ) -> mapFactory.getMapper ( source ) instanceof BeanRdfMapper 
+				? mapFactory.getUri ( source, params ) : null,
+			workDir,
+			maxHotEntries
+		);
+	}
+
+	private static BiFunction<Object, Map<String, Object>, String> ignoringParams ( Function<Object, String> keyFunction )
+	{
+		Validate.notNull ( keyFunction, "Can't create a %s with a null key function", 
+			SpillingVisitedTracker.class.getSimpleName () 
+		);
+		return ( source, params ) -> keyFunction.apply ( source );
+	}
+
+	private void init ()
+	{
+		Segment[] segments = new Segment [ N_SEGMENTS ];
+		for ( int i = 0; i < N_SEGMENTS; i++ ) segments [ i ] = new Segment ( i );
+		this.segments = segments;
+		this.keys = new KeyStore ();
+	}
+
+
+	@Override
+	public boolean visit ( Object source ) {
+		return visit ( source, null );
+	}
+
+	@Override
+	public boolean visit ( Object source, Map<String, Object> params )
+	{
+		String key = keyFunction.apply ( source, params );
+		if ( key == null ) return noKeyTracker.visit ( source );
+
+		long fp = fingerprint ( key );
+		Segment segment = segment ( fp );
+		synchronized ( segment ) {
+			return segment.visit ( key, fp );
+		}
+	}
+
+	@Override
+	public boolean isVisited ( Object source )
+	{
+		String key = keyFunction.apply ( source, null );
+		if ( key == null ) return noKeyTracker.isVisited ( source );
+
+		long fp = fingerprint ( key );
+		Segment segment = segment ( fp );
+		synchronized ( segment ) {
+			return segment.isVisited ( key, fp );
+		}
+	}
+
+	@Override
+	public long size ()
+	{
+		long result = noKeyTracker.size ();
+		for ( Segment segment: segments )
+			synchronized ( segment ) {
+				result += segment.hot.size () + segment.size;
+			}
+		return result;
+	}
+
+	/**
+	 * The no. of keys currently in the heap.
+	 */
+	public long getHotSize ()
+	{
+		long result = 0;
+		for ( Segment segment: segments )
+			synchronized ( segment ) {
+				result += segment.hot.size ();
+			}
+		return result;
+	}
+
+	/**
+	 * The no. of keys spilled to the disk table.
+	 */
+	public long getSpilledSize ()
+	{
+		long result = 0;
+		for ( Segment segment: segments )
+			synchronized ( segment ) {
+				result += segment.size;
+			}
+		return result;
+	}
+
+	/**
+	 * The disk space currently taken by the table and the keys.
+	 */
+	public long getDiskBytes ()
+	{
+		long result = keys.getTotalBytes ();
+		for ( Segment segment: segments )
+			synchronized ( segment ) {
+				result += (long) segment.capacity * SLOT_BYTES;
+			}
+		return result;
+	}
+
+	/**
+	 * Forgets everything and deletes the disk table. The tracker can be used again after this.
+	 */
+	@Override
+	public synchronized void clear ()
+	{
+		noKeyTracker.clear ();
+		deleteFiles ();
+		init ();
+	}
+
+	/**
+	 * Deletes the disk table. Don't use the tracker after this.
+	 */
+	@Override
+	public synchronized void close ()
+	{
+		noKeyTracker.clear ();
+		deleteFiles ();
+	}
+
+	public Path getWorkDir () {
+		return workDir;
+	}
+
+	public int getMaxHotEntries () {
+		return maxHotEntries;
+	}
+
+
+	private static long fingerprint ( String key )
+	{
+		long result = Java2RdfUtils.hash64 ( key );
+		// 0 marks the free slots
+		return result == 0 ? 1 : result;
+	}
+
+	private Segment segment ( long fp ) {
+		return segments [ (int) ( fp >>> ( 64 - SEGMENT_BITS ) ) ];
+	}
+
+	private Path tableFile ( int segment, int generation ) {
+		return workDir.resolve ( String.format ( "visited-table-%02d-%d.bin", segment, generation ) );
+	}
+
+	private Path keysFile ( int chunk ) {
+		return workDir.resolve ( String.format ( "visited-keys-%d.bin", chunk ) );
+	}
+
+	private static MappedByteBuffer map ( Path file, long size )
+	{
+		try ( FileChannel channel = FileChannel.open (
+			file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE
+		))
+		{
+			// The mapping stays valid after the channel is closed
+			return channel.map ( FileChannel.MapMode.READ_WRITE, 0, size );
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while mapping the visited tracker file '" + file + "': " + ex.getMessage (), ex );
+		}
+	}
+
+	private void deleteFiles ()
+	{
+		try ( Stream<Path> files = Files.list ( workDir ) ) {
+			files
+				.filter ( f -> f.getFileName ().toString ().startsWith ( "visited-" ) )
+				.sorted ( Comparator.reverseOrder () )
+				.forEach ( SpillingVisitedTracker::deleteQuietly );
+		}
+		catch ( IOException ex ) {
+			throw new UncheckedIOException ( "Error while cleaning the visited tracker directory: " + ex.getMessage (), ex );
+		}
+	}
+
+	private static void deleteQuietly ( Path file )
+	{
+		try {
+			Files.deleteIfExists ( file );
+		}
+		catch ( IOException ex ) {
+			// Might happen on systems that don't allow to delete mapped files, ignore
+		}
+	}
+}
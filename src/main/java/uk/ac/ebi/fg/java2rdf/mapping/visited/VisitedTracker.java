@@ -0,0 +1,53 @@
+package uk.ac.ebi.fg.java2rdf.mapping.visited;
+
+import java.util.Map;
+
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory;
+
+/**
+ * Keeps track of the objects that an {@link RdfMapperFactory} has already mapped, so that each of them is visited
+ * only once and loops in the object graph are avoided.
+ * 
+ * Implementations are expected to be thread-safe, since the same factory (and hence the same tracker) might be 
+ * used from multiple threads.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public interface VisitedTracker
+{
+	/**
+	 * Marks the source as visited. This has to be atomic, ie, when multiple threads try to visit the same object, 
+	 * only one of them gets true.
+	 *  
+	 * @return true if the object wasn't visited before this call, false if it was already visited. 
+	 */
+	boolean visit ( Object source );
+	
+	/**
+	 * Like {@link #visit(Object)}, with the params the source is being mapped with. This is what 
+	 * {@link RdfMapperFactory#map(Object, Map)} uses, so that trackers that identify the objects by something 
+	 * that depends on the params (eg, their URIs) can see the same params as the mappers. By default, the params 
+	 * are ignored. 
+	 */
+	default boolean visit ( Object source, Map<String, Object> params ) {
+		return visit ( source );
+	}
+	
+	/**
+	 * Tells if the source was {@link #visit(Object) already visited}, without marking it.
+	 */
+	boolean isVisited ( Object source );
+	
+	/**
+	 * The number of objects visited so far. Implementations based on approximated representations might return an
+	 * approximated value.
+	 */
+	long size ();
+	
+	/**
+	 * Forgets all the visited objects, used by {@link RdfMapperFactory#reset()}.
+	 */
+	void clear ();
+}
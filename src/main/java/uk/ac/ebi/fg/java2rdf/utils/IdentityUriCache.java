@@ -0,0 +1,66 @@
+package uk.ac.ebi.fg.java2rdf.utils;
+
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A bounded cache of the URIs generated for Java objects, keyed by object identity, with least-recently-used eviction.
+ *
+ * This is used by {@link uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory#setUriCache(IdentityUriCache)} to avoid
+ * that URI generators are invoked every time the same object is reached, eg, a person who authored thousands of
+ * articles, which is linked by each of them. Identity is used since it's cheap and, unlike equals(), it doesn't
+ * depend on bean implementations. This assumes that an object doesn't change its URI during the mapping, for those
+ * classes where this isn't true, disable the cache via
+ * {@link uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper#setUriCacheable(boolean)}.
+ *
+ * Since URIs might depend on the mapping parameters, an entry can also be bound to a scope object, which is
+ * compared by identity too (see {@link #getUri(Object, Object, Function)}). The object and the scope are looked up
+ * as they are, without wrapping them into a key object, so that a cache hit doesn't allocate anything.
+ *
+ * The cache keeps strong references to the objects, up to its capacity. As in {@link UriNodeCache}, the cache
+ * is split in stripes, each with its own lock and LRU list, so the eviction and the capacity are approximated.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class IdentityUriCache extends StripedLruCache<String>
+{
+	public IdentityUriCache ( int capacity ) {
+		super ( capacity );
+	}
+
+	/**
+	 * Default capacity is 100k objects.
+	 */
+	public IdentityUriCache () {
+		this ( 100000 );
+	}
+
+	/**
+	 * Returns the cached URI for the source, or computes it via the generator function and caches it. null URIs
+	 * are cached too.
+	 *
+	 * The generator is invoked without holding any lock, so two threads might compute the same URI at the same
+	 * time, which is harmless.
+	 */
+	public <T> String getUri ( T source, Function<T, String> generator ) {
+		return getUri ( source, null, generator );
+	}
+
+	/**
+	 * Like {@link #getUri(Object, Function)}, but the URI is cached for the pair of the source and the scope, 
+	 * eg, the parameters the URI was generated with. A null scope is the same as {@link #getUri(Object, Function)}.
+	 */
+	public <T> String getUri ( T source, Object scope, Function<T, String> generator )
+	{
+		Validate.notNull ( source, "Can't get a URI for a null object" );
+		return get ( source, scope, System.identityHashCode ( source ) * 31 + System.identityHashCode ( scope ), generator );
+	}
+
+	@Override
+	boolean isSameKey ( Object key, Object cachedKey ) {
+		return key == cachedKey;
+	}
+}
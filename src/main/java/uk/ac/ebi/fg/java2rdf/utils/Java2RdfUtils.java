@@ -12,6 +12,7 @@ import org.slf4j.LoggerFactory;
 
 import info.marcobrandizi.rdfutils.GraphUtils;
 import info.marcobrandizi.rdfutils.jena.JenaGraphUtils;
+import uk.ac.ebi.fg.java2rdf.mapping.MappingContext;
 
 /**
  * Some stuff useful for the RDF mapping job performed by the Java2RDF pacakge.
@@ -36,10 +37,19 @@ public class Java2RdfUtils
 	
 	private Java2RdfUtils () {}
 
+	/**
+	 * Gets a mapping parameter by name. If you can, prefer {@link MappingContext} and its typed keys, which are
+	 * faster.
+	 */
 	@SuppressWarnings ( "unchecked" )
 	public static <V> V getParam ( Map<String, Object> params, String key, V defaultValue )
 	{
 		if ( params == null ) return defaultValue;
+		if ( params instanceof MappingContext ) {
+			// null values aren't stored in a context, so a single lookup is enough 
+			V result = (V) params.get ( key );
+			return result == null ? defaultValue : result;
+		}
 		return (V) params.getOrDefault ( key, defaultValue );
 	}
 	
@@ -48,4 +58,33 @@ public class Java2RdfUtils
 		return getParam ( params, key, null );
 	}
 
+	/**
+	 * A fast, non-cryptographic, 64-bit hash of a string (FNV-1a, followed by a final mixing step). 
+	 * 
+	 * This is used to compute fingerprints of things like URIs, so that large sets of them can be kept in 
+	 * compact data structures.
+	 */
+	public static long hash64 ( CharSequence s ) {
+		return hash64 ( s, 0xcbf29ce484222325L );
+	}
+
+	/**
+	 * Like {@link #hash64(CharSequence)}, but starting from a given seed. Hashes of the same string with different 
+	 * seeds can be combined to get wider fingerprints. 
+	 */
+	public static long hash64 ( CharSequence s, long seed )
+	{
+		long h = seed;
+		for ( int i = 0, n = s.length (); i < n; i++ )
+		{
+			h ^= s.charAt ( i );
+			h *= 0x100000001b3L;
+		}
+		
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
 }
@@ -0,0 +1,130 @@
+package uk.ac.ebi.fg.java2rdf.utils;
+
+/**
+ * A minimal open-addressing hash set of primitive long values.
+ * 
+ * This is useful to keep large sets of fingerprints (eg, hashes of URIs) with a footprint of about 8-16 bytes per 
+ * element, rather than the 40+ bytes per element that a {@code HashSet<Long>} costs. 
+ * 
+ * It is <b>not thread-safe</b>, callers have to synchronise it (or stripe multiple instances) when needed. 
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public final class LongHashSet
+{
+	/** Used to mark free slots, the value itself is stored by means of {@link #hasZero} */
+	private static final long FREE = 0L;
+	private static final float LOAD_FACTOR = 0.6f;
+
+	private long[] slots;
+	private int size = 0;
+	private boolean hasZero = false;
+	private int resizeThreshold;
+	
+	public LongHashSet () {
+		this ( 1024 );
+	}
+
+	public LongHashSet ( int expectedSize ) 
+	{
+		int capacity = Integer.highestOneBit ( Math.max ( 16, (int) ( expectedSize / LOAD_FACTOR ) ) - 1 ) << 1;
+		this.allocate ( capacity );
+	}
+	
+	/**
+	 * @return true if the value wasn't already in the set.
+	 */
+	public boolean add ( long value )
+	{
+		if ( value == FREE ) 
+		{
+			if ( hasZero ) return false;
+			hasZero = true; size++;
+			return true;
+		}
+		
+		int mask = slots.length - 1;
+		for ( int i = mix ( value ) & mask; ; i = ( i + 1 ) & mask )
+		{
+			long slot = slots [ i ];
+			if ( slot == value ) return false;
+			if ( slot != FREE ) continue;
+
+			slots [ i ] = value;
+			if ( ++size > resizeThreshold ) this.rehash ( slots.length << 1 );
+			return true;
+		}
+	}
+	
+	public boolean contains ( long value )
+	{
+		if ( value == FREE ) return hasZero;
+
+		int mask = slots.length - 1;
+		for ( int i = mix ( value ) & mask; ; i = ( i + 1 ) & mask )
+		{
+			long slot = slots [ i ];
+			if ( slot == value ) return true;
+			if ( slot == FREE ) return false;
+		}
+	}
+	
+	public int size () {
+		return size;
+	}
+	
+	public void clear ()
+	{
+		this.allocate ( 16 );
+		size = 0;
+		hasZero = false;
+	}
+	
+	/**
+	 * An estimate of the heap memory used by this set, in bytes.
+	 */
+	public long memoryBytes () {
+		return 8L * slots.length;
+	}
+	
+	/**
+	 * Invokes the action for all the values in the set, in no particular order.
+	 */
+	public void forEach ( java.util.function.LongConsumer action )
+	{
+		if ( hasZero ) action.accept ( FREE );
+		for ( long slot: slots )
+			if ( slot != FREE ) action.accept ( slot );
+	}
+	
+	private void allocate ( int capacity )
+	{
+		slots = new long [ capacity ];
+		resizeThreshold = (int) ( capacity * LOAD_FACTOR );
+	}
+	
+	private void rehash ( int newCapacity )
+	{
+		long[] oldSlots = slots;
+		this.allocate ( newCapacity );
+		int mask = newCapacity - 1;
+		for ( long value: oldSlots )
+		{
+			if ( value == FREE ) continue;
+			int i = mix ( value ) & mask;
+			while ( slots [ i ] != FREE ) i = ( i + 1 ) & mask;
+			slots [ i ] = value;
+		}
+	}
+	
+	/** Spreads the bits, in case the values aren't well-distributed already */
+	private static int mix ( long value )
+	{
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		return (int) value;
+	}
+}
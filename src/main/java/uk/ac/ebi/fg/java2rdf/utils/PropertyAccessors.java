@@ -0,0 +1,181 @@
+package uk.ac.ebi.fg.java2rdf.utils;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fast access to JavaBean properties (ie, getters), based on functions compiled once per class/property pair.
+ * 
+ * When possible, a getter is turned into a {@link Function} generated by {@link LambdaMetafactory}, which, once 
+ * JIT-compiled, costs about the same as a direct call to the getter. If that's not possible (eg, non-public classes), 
+ * we fall back to a {@link MethodHandle} and, as a last resort, to {@link PropertyUtils#getSimpleProperty(Object, String)}, 
+ * which also deals with exotic cases like DynaBeans.
+ * 
+ * The accessors are cached per class and property name by the instances of this class, which are meant to be 
+ * owned by something that has the same lifetime as the mapped classes, typically the 
+ * {@link uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory#getPropertyAccessors() mapper factory}. We don't use a
+ * global cache, since the compiled functions belong to the bean classes and a global cache would keep them 
+ * (and their class loaders) alive forever, which is a problem in containers that reload the applications.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public final class PropertyAccessors
+{
+	private final Map<Class<?>, Map<String, Function<Object, Object>>> accessors = new ConcurrentHashMap<> ();
+	
+	private static final Logger log = LoggerFactory.getLogger ( PropertyAccessors.class );
+	
+	/**
+	 * Returns a function that returns the value of the JavaBean property for objects of the given class. 
+	 * The result is cached by this instance, see {@link #createAccessor(Class, String)} for details.
+	 */
+	public Function<Object, Object> getAccessor ( Class<?> clazz, String propertyName )
+	{
+		Validate.notNull ( clazz, "Can't get a property accessor for a null class" );
+		Validate.notNull ( propertyName, "Can't get a property accessor for a null property name" );
+		
+		return accessors.computeIfAbsent ( clazz, c -> new ConcurrentHashMap<> () )
+			.computeIfAbsent ( propertyName, pname -> createAccessor ( clazz, pname ) );
+	}
+	
+	/**
+	 * A facility to get the value of a JavaBean property, using {@link #getAccessor(Class, String)}.
+	 */
+	public Object getProperty ( Object bean, String propertyName ) 
+	{
+		Validate.notNull ( bean, "Can't get the property '%s' from a null object", propertyName );
+		return getAccessor ( bean.getClass (), propertyName ).apply ( bean );
+	}
+	
+	/**
+	 * Forgets the cached accessors.
+	 */
+	public void clear () {
+		accessors.clear ();
+	}
+	
+	/**
+	 * Compiles a new function that returns the value of the JavaBean property for objects of the given class. 
+	 * This is expensive and the result isn't cached, so it's meant for those who keep it, in all the other cases, 
+	 * use {@link #getAccessor(Class, String)}. 
+	 *  
+	 * Exceptions raised by the getter are propagated unchanged, except when we have to fall back to 
+	 * {@link PropertyUtils}, in which case checked exceptions are wrapped by an {@link IllegalArgumentException}.
+	 */
+	public static Function<Object, Object> createAccessor ( Class<?> clazz, String propertyName )
+	{
+		Validate.notNull ( clazz, "Can't get a property accessor for a null class" );
+		Validate.notNull ( propertyName, "Can't get a property accessor for a null property name" );
+
+		Method getter = findGetter ( clazz, propertyName );
+		
+		if ( getter != null ) 
+		{
+			Function<Object, Object> result = compileGetter ( getter );
+			if ( result != null ) return result;
+		}
+
+		log.trace ( "Using reflection-based access for the property {}.{}", clazz.getName (), propertyName );
+		return bean -> getSimpleProperty ( bean, propertyName );
+	}
+	
+	private static Method findGetter ( Class<?> clazz, String propertyName )
+	{
+		try
+		{
+			for ( PropertyDescriptor pd: Introspector.getBeanInfo ( clazz ).getPropertyDescriptors () )
+				if ( propertyName.equals ( pd.getName () ) ) return pd.getReadMethod ();
+			return null;
+		}
+		catch ( IntrospectionException ex ) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Tries a function from {@link LambdaMetafactory} first, and then a method handle. Returns null 
+	 * if neither of them can access the getter.  
+	 */
+	@SuppressWarnings ( "unchecked" )
+	private static Function<Object, Object> compileGetter ( Method getter )
+	{
+		Class<?> declaringClass = getter.getDeclaringClass ();
+		if ( !Modifier.isPublic ( getter.getModifiers () ) ) return null;
+		
+		try
+		{
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn ( declaringClass, MethodHandles.lookup () );
+			MethodHandle mh = lookup.unreflect ( getter );
+			CallSite site = LambdaMetafactory.metafactory ( 
+				lookup, 
+				"apply", 
+				MethodType.methodType ( Function.class ), 
+				MethodType.methodType ( Object.class, Object.class ),
+				mh,
+				MethodType.methodType ( ClassUtils.primitiveToWrapper ( getter.getReturnType () ), declaringClass )
+			);
+			return (Function<Object, Object>) site.getTarget ().invokeExact ();
+		}
+		catch ( Throwable ex ) {
+			log.trace ( "Can't compile the getter " + getter + ", trying with a method handle", ex );
+		}
+		
+		try
+		{
+			MethodHandle mh = MethodHandles.publicLookup ().unreflect ( getter )
+				.asType ( MethodType.methodType ( Object.class, Object.class ) );
+			
+			return bean -> 
+			{
+				try {
+					return mh.invokeExact ( bean );
+				}
+				catch ( RuntimeException | Error ex ) {
+					throw ex;
+				}
+				catch ( Throwable ex ) {
+					throw new IllegalArgumentException ( "Error while invoking the getter " + getter + ": " + ex.getMessage (), ex );
+				}
+			};
+		}
+		catch ( IllegalAccessException ex ) {
+			log.trace ( "Can't get a method handle for the getter " + getter, ex );
+			return null;
+		}
+	}
+	
+	private static Object getSimpleProperty ( Object bean, String propertyName )
+	{
+		try {
+			return PropertyUtils.getSimpleProperty ( bean, propertyName );
+		}
+		catch ( RuntimeException ex ) {
+			throw ex;
+		}
+		catch ( Exception ex ) {
+			throw new IllegalArgumentException ( String.format ( 
+				"Error while getting the property '%s' from an instance of %s: %s", 
+				propertyName, bean.getClass ().getName (), ex.getMessage () 
+			), ex );
+		}
+	}
+}
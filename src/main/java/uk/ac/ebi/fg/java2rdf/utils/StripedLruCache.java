@@ -0,0 +1,249 @@
+package uk.ac.ebi.fg.java2rdf.utils;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The common base of the bounded caches in this package ({@link UriNodeCache}, {@link IdentityUriCache}), with
+ * least-recently-used eviction.
+ *
+ * The cache is split in stripes, each with its own lock and LRU list, to reduce contention when used by multiple
+ * threads. So, the eviction is LRU per stripe, which is a good approximation of the global LRU, and the capacity
+ * is approximated too.
+ *
+ * The keys have two parts: a key, which is compared by {@link #isSameKey(Object, Object)}, and an optional scope,
+ * which is compared by identity. Each stripe is a chained hash table plus a linked list of its entries in access
+ * order, so that lookups don't need to wrap the two parts into a key object, ie, they don't allocate anything.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+abstract class StripedLruCache<V>
+{
+	private static final int N_STRIPES = 16;
+	/** Gets the 4 top bits, ie, an index in [0, N_STRIPES) */
+	private static final int STRIPES_SHIFT = 28;
+
+	private static final class Entry<V>
+	{
+		final Object key;
+		final Object scope;
+		final int hash;
+		final V value;
+
+		/** The next entry in the same hash bucket */
+		Entry<V> next;
+		/** The LRU list links */
+		Entry<V> before, after;
+
+		Entry ( Object key, Object scope, int hash, V value )
+		{
+			this.key = key;
+			this.scope = scope;
+			this.hash = hash;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A hash table and its LRU list, which is circular, from the eldest entry (lru.after) to the newest one
+	 * (lru.before). Not thread-safe, the cache synchronises on the stripe.
+	 */
+	private static final class Stripe<V>
+	{
+		private final int capacity;
+		private Entry<V>[] table = newTable ( 16 );
+		private int size = 0;
+		private final Entry<V> lru = new Entry<> ( null, null, 0, null );
+
+		Stripe ( int capacity )
+		{
+			this.capacity = capacity;
+			lru.before = lru.after = lru;
+		}
+
+		Entry<V> find ( Object key, Object scope, int hash, StripedLruCache<V> cache )
+		{
+			for ( Entry<V> e = table [ hash & ( table.length - 1 ) ]; e != null; e = e.next )
+				if ( e.hash == hash && e.scope == scope && cache.isSameKey ( key, e.key ) ) return e;
+			return null;
+		}
+
+		/**
+		 * Marks the entry as the most recently used one.
+		 */
+		void touch ( Entry<V> e )
+		{
+			if ( lru.before == e ) return;
+			unlink ( e );
+			link ( e );
+		}
+
+		void add ( Entry<V> e )
+		{
+			int i = e.hash & ( table.length - 1 );
+			e.next = table [ i ];
+			table [ i ] = e;
+			link ( e );
+
+			if ( ++size > capacity ) remove ( lru.after );
+			else if ( size > table.length * 3 / 4 ) grow ();
+		}
+
+		void clear ()
+		{
+			table = newTable ( 16 );
+			size = 0;
+			lru.before = lru.after = lru;
+		}
+
+		private void remove ( Entry<V> e )
+		{
+			int i = e.hash & ( table.length - 1 );
+			if ( table [ i ] == e ) table [ i ] = e.next;
+			else
+			{
+				Entry<V> prev = table [ i ];
+				while ( prev.next != e ) prev = prev.next;
+				prev.next = e.next;
+			}
+			unlink ( e );
+			size--;
+		}
+
+		private void grow ()
+		{
+			Entry<V>[] newTable = newTable ( table.length << 1 );
+			for ( Entry<V> e = lru.after; e != lru; e = e.after )
+			{
+				int i = e.hash & ( newTable.length - 1 );
+				e.next = newTable [ i ];
+				newTable [ i ] = e;
+			}
+			table = newTable;
+		}
+
+		private void link ( Entry<V> e )
+		{
+			e.after = lru;
+			e.before = lru.before;
+			lru.before.after = e;
+			lru.before = e;
+		}
+
+		private void unlink ( Entry<V> e )
+		{
+			e.before.after = e.after;
+			e.after.before = e.before;
+		}
+
+		@SuppressWarnings ( "unchecked" )
+		private static <V> Entry<V>[] newTable ( int capacity ) {
+			return new Entry [ capacity ];
+		}
+	}
+
+	private final int capacity;
+	private final Stripe<V>[] stripes;
+
+	private final LongAdder hits = new LongAdder ();
+	private final LongAdder misses = new LongAdder ();
+
+	@SuppressWarnings ( "unchecked" )
+	StripedLruCache ( int capacity )
+	{
+		Validate.isTrue ( capacity > 0, "Can't create a %s with a capacity of %d", this.getClass ().getSimpleName (), capacity );
+		this.capacity = capacity;
+
+		int stripeCapacity = Math.max ( 1, capacity / N_STRIPES );
+		this.stripes = new Stripe [ N_STRIPES ];
+		for ( int i = 0; i < N_STRIPES; i++ ) stripes [ i ] = new Stripe<> ( stripeCapacity );
+	}
+
+	/**
+	 * Tells if two keys are the same, the ones passed to {@link #get(Object, Object, int, Function)} and the
+	 * ones stored in the cache, respectively.
+	 */
+	abstract boolean isSameKey ( Object key, Object cachedKey );
+
+	/**
+	 * Returns the cached value for the key and the scope, or computes it via the loader and caches it. null values
+	 * are cached too. The hash has to be consistent with {@link #isSameKey(Object, Object)} and the scope identity.
+	 *
+	 * The loader is invoked without holding any lock, so two threads might compute the same value at the same
+	 * time. In this case, the first value that is cached is returned to both.
+	 */
+	final <K> V get ( K key, Object scope, int hash, Function<? super K, ? extends V> loader )
+	{
+		hash ^= hash >>> 16;
+		Stripe<V> stripe = stripes [ ( hash * 0x9E3779B9 ) >>> STRIPES_SHIFT ];
+		synchronized ( stripe )
+		{
+			Entry<V> e = stripe.find ( key, scope, hash, this );
+			if ( e != null ) {
+				stripe.touch ( e );
+				hits.increment ();
+				return e.value;
+			}
+		}
+
+		misses.increment ();
+		V result = loader.apply ( key );
+		synchronized ( stripe )
+		{
+			Entry<V> e = stripe.find ( key, scope, hash, this );
+			if ( e != null ) {
+				stripe.touch ( e );
+				return e.value;
+			}
+			stripe.add ( new Entry<> ( key, scope, hash, result ) );
+		}
+		return result;
+	}
+
+	public int getCapacity () {
+		return capacity;
+	}
+
+	/**
+	 * The no. of entries currently cached.
+	 */
+	public int size ()
+	{
+		int result = 0;
+		for ( Stripe<V> stripe: stripes )
+			synchronized ( stripe ) { result += stripe.size; }
+		return result;
+	}
+
+	public long getHits () {
+		return hits.sum ();
+	}
+
+	public long getMisses () {
+		return misses.sum ();
+	}
+
+	/**
+	 * hits / (hits + misses), 0 if the cache wasn't used yet.
+	 */
+	public double getHitRate ()
+	{
+		long h = getHits (), total = h + getMisses ();
+		return total == 0 ? 0d : (double) h / total;
+	}
+
+	/**
+	 * Removes all the entries and resets the stats.
+	 */
+	public void clear ()
+	{
+		for ( Stripe<V> stripe: stripes )
+			synchronized ( stripe ) { stripe.clear (); }
+		hits.reset ();
+		misses.reset ();
+	}
+}
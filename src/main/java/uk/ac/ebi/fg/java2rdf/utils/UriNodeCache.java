@@ -0,0 +1,48 @@
+package uk.ac.ebi.fg.java2rdf.utils;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+
+/**
+ * A bounded cache of Jena URI {@link Node nodes}, keyed by URI, with least-recently-used eviction.
+ *
+ * This is useful when the same URIs are used over and over in the mapping output (eg, a few editors shared by
+ * many articles, ontology terms), in which case they end up being the same node and the same URI string, both in
+ * memory and in the output model, rather than a new node per triple.
+ *
+ * The cache is split in stripes, each with its own lock and LRU list, to reduce contention when used by multiple
+ * threads (see {@link StripedLruCache}). So, the eviction is LRU per stripe, which is a good approximation of the 
+ * global LRU, and the capacity is approximated too.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class UriNodeCache extends StripedLruCache<Node>
+{
+	public UriNodeCache ( int capacity ) {
+		super ( capacity );
+	}
+
+	/**
+	 * Default capacity is 100k nodes.
+	 */
+	public UriNodeCache () {
+		this ( 100000 );
+	}
+
+	/**
+	 * Returns the cached node for the URI, creating and caching a new one if it's not there yet.
+	 */
+	public Node getNode ( String uri )
+	{
+		Validate.notNull ( uri, "Can't create a node for a null URI" );
+		return get ( uri, null, uri.hashCode (), NodeFactory::createURI );
+	}
+
+	@Override
+	boolean isSameKey ( Object key, Object cachedKey ) {
+		return key.equals ( cachedKey );
+	}
+}
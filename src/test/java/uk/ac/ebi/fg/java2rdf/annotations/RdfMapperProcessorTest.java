@@ -0,0 +1,196 @@
+package uk.ac.ebi.fg.java2rdf.annotations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import info.marcobrandizi.rdfutils.jena.SparqlBasedTester;
+import info.marcobrandizi.rdfutils.namespaces.NamespaceUtils;
+import uk.ac.ebi.fg.java2rdf.annotations.model.Author;
+import uk.ac.ebi.fg.java2rdf.annotations.model.Book;
+import uk.ac.ebi.fg.java2rdf.annotations.model.BookRdfMapper;
+import uk.ac.ebi.fg.java2rdf.annotations.model.GeneratedRdfMapperFactory;
+import uk.ac.ebi.fg.java2rdf.annotations.processor.RdfMapperProcessor;
+import uk.ac.ebi.fg.java2rdf.mapping.ObjRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.BeanPropRdfMapper;
+
+/**
+ * Tests the mappers generated by {@link RdfMapperProcessor}, for the beans in the model package.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class RdfMapperProcessorTest
+{
+	public static final String EXNS = "http://www.example.com/ex/";
+	
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder ();
+	
+	/**
+	 * Simulates another processor that generates an {@link RdfClass} bean, which is then found in the second round.
+	 */
+	private static class LateBeanProcessor extends AbstractProcessor
+	{
+		private boolean isGenerated = false;
+		
+		@Override
+		public Set<String> getSupportedAnnotationTypes () {
+			return Set.of ( "*" );
+		}
+
+		@Override
+		public SourceVersion getSupportedSourceVersion () {
+			return SourceVersion.latestSupported ();
+		}
+
+		@Override
+		public boolean process ( Set<? extends TypeElement> annotations, RoundEnvironment roundEnv )
+		{
+			if ( isGenerated ) return false;
+			isGenerated = true;
+			
+			try ( Writer out = processingEnv.getFiler ().createSourceFile ( "test.late.LateBean" ).openWriter () ) {
+				out.write ( createBeanSource ( "LateBean" ) );
+			}
+			catch ( IOException ex ) {
+				throw new IllegalStateException ( "Error while generating the test bean: " + ex.getMessage (), ex );
+			}
+			return false;
+		}
+	}
+	
+	@BeforeClass
+	public static void registerNamespaces () 
+	{
+		NamespaceUtils.registerNs ( "ex", EXNS );
+		NamespaceUtils.registerNs ( "foaf", "http://xmlns.com/foaf/0.1/" );
+	}
+	
+	@Test
+	public void testGeneratedMappers ()
+	{
+		Book book = new Book ( "123", "The Semantic Web", 42 );
+		book.getAuthors ().add ( new Author ( "tbl", "Tim Berners Lee" ) );
+		book.getAuthors ().add ( new Author ( "hendler", "James Hendler" ) );
+		book.setEditor ( new Author ( "smith", "John Smith" ) );
+		book.getKeywords ().add ( "web" );
+		book.getKeywords ().add ( "semantics" );
+		
+		Model model = ModelFactory.createDefaultModel ();
+		new GeneratedRdfMapperFactory ( model ).map ( book );
+		
+		SparqlBasedTester tester = new SparqlBasedTester ( model, NamespaceUtils.asSPARQLProlog () );
+		tester.ask ( "No book type!", "ASK { ex:book\\/123 a ex:Book }" );
+		tester.ask ( "No title!", "ASK { ex:book\\/123 dcterms:title 'The Semantic Web'; rdfs:label 'The Semantic Web' }" );
+		tester.ask ( "No pages!", "ASK { ex:book\\/123 ex:pages 42 }" );
+		tester.ask ( "No keywords!", "ASK { ex:book\\/123 ex:keyword 'web', 'semantics' }" );
+		tester.ask ( "No editor!", "ASK { ex:book\\/123 dcterms:publisher ex:author\\/smith }" );
+		tester.ask ( "No authors!", "ASK { ex:book\\/123 dcterms:creator ex:author\\/tbl, ex:author\\/hendler }" );
+		tester.ask ( "No author mapping!", "ASK { ex:author\\/tbl a foaf:Person; foaf:name 'Tim Berners Lee' }" );
+		
+		// type + title*2 + pages + keywords*2 + publisher + creator*2 + (type + name) * 3 authors
+		assertEquals ( "Wrong no. of triples!", 9 + 2 * 3, model.size () );
+	}
+	
+	@Test
+	public void testUriEncoding ()
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		new GeneratedRdfMapperFactory ( model ).map ( new Author ( "de roure/d", "David De Roure" ) );
+		
+		assertTrue ( 
+			"Author id not encoded!", 
+			model.containsResource ( model.createResource ( EXNS + "author/de%20roure%2Fd" ) ) 
+		);
+	}
+	
+	/**
+	 * Beans coming from a later processing round go into a separate factory.
+	 */
+	@Test
+	public void testLaterRoundBeans () throws IOException
+	{
+		File srcDir = tmpFolder.newFolder ( "src" ), classDir = tmpFolder.newFolder ( "classes" );
+		
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler ();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<> ();
+		JavaFileObject earlyBean = new SimpleJavaFileObject ( URI.create ( "string:///test/late/EarlyBean.java" ), JavaFileObject.Kind.SOURCE ) 
+		{
+			@Override
+			public CharSequence getCharContent ( boolean ignoreEncodingErrors ) {
+				return createBeanSource ( "EarlyBean" );
+			}
+		};
+		
+		JavaCompiler.CompilationTask task = compiler.getTask ( 
+			null, null, diagnostics,
+			List.of ( 
+				"-classpath", System.getProperty ( "java.class.path" ), 
+				"-s", srcDir.getPath (), "-d", classDir.getPath () 
+			),
+			null, List.of ( earlyBean ) 
+		);
+		task.setProcessors ( List.of ( new LateBeanProcessor (), new RdfMapperProcessor () ) );
+		boolean isOk = task.call ();
+		
+		assertTrue ( "Compilation failed: " + diagnostics.getDiagnostics (), isOk );
+		for ( Diagnostic<?> diagnostic: diagnostics.getDiagnostics () )
+			assertFalse ( "Compilation error: " + diagnostic, diagnostic.getKind () == Diagnostic.Kind.ERROR );
+
+		String factory = Files.readString ( srcDir.toPath ().resolve ( "test/late/" + RdfMapperProcessor.FACTORY_NAME + ".java" ) );
+		String factory2 = Files.readString ( srcDir.toPath ().resolve ( "test/late/" + RdfMapperProcessor.FACTORY_NAME + "2.java" ) );
+		
+		assertTrue ( "Early bean not in the first factory!", factory.contains ( "EarlyBeanRdfMapper" ) );
+		assertFalse ( "Late bean in the first factory!", factory.contains ( "LateBeanRdfMapper" ) );
+		assertTrue ( "Late bean not in the second factory!", factory2.contains ( "LateBeanRdfMapper" ) );
+		assertFalse ( "Early bean in the second factory!", factory2.contains ( "EarlyBeanRdfMapper" ) );
+	}
+	
+	private static String createBeanSource ( String className )
+	{
+		return "package test.late;\n\n"
+			+ "@uk.ac.ebi.fg.java2rdf.annotations.RdfClass ( \"ex:" + className + "\" )\n"
+			+ "public class " + className + " {\n"
+			+ "\t@uk.ac.ebi.fg.java2rdf.annotations.RdfUri ( \"http://www.example.com/ex/late/\" )\n"
+			+ "\tpublic String getId () { return \"1\"; }\n"
+			+ "}\n";
+	}
+	
+	@Test
+	public void testGettersAreCompiled ()
+	{
+		BookRdfMapper mapper = new BookRdfMapper ();
+		assertTrue ( "No property mappers in the generated mapper!", !mapper.getMappers ().isEmpty () );
+		for ( ObjRdfMapper<Book> propMapper: mapper.getMappers () )
+			assertNotNull ( "Generated property mapper without getter!", ( (BeanPropRdfMapper<?, ?, ?>) propMapper ).getGetter () );
+	}
+}
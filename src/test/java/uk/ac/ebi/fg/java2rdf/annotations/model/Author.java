@@ -0,0 +1,36 @@
+package uk.ac.ebi.fg.java2rdf.annotations.model;
+
+import uk.ac.ebi.fg.java2rdf.annotations.RdfClass;
+import uk.ac.ebi.fg.java2rdf.annotations.RdfLiteral;
+import uk.ac.ebi.fg.java2rdf.annotations.RdfUri;
+
+/**
+ * An annotated bean, to test {@link uk.ac.ebi.fg.java2rdf.annotations.processor.RdfMapperProcessor}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@RdfClass ( "foaf:Person" )
+public class Author
+{
+	private String id, name;
+
+	public Author ( String id, String name )
+	{
+		super ();
+		this.id = id;
+		this.name = name;
+	}
+
+	/** A full URI prefix, not expanded via namespaces */
+	@RdfUri ( "http://www.example.com/ex/author/" )
+	public String getId () {
+		return id;
+	}
+
+	@RdfLiteral ( "foaf:name" )
+	public String getName () {
+		return name;
+	}
+}
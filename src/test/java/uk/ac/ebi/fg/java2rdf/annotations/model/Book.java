@@ -0,0 +1,74 @@
+package uk.ac.ebi.fg.java2rdf.annotations.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import uk.ac.ebi.fg.java2rdf.annotations.RdfClass;
+import uk.ac.ebi.fg.java2rdf.annotations.RdfLink;
+import uk.ac.ebi.fg.java2rdf.annotations.RdfLiteral;
+import uk.ac.ebi.fg.java2rdf.annotations.RdfUri;
+
+/**
+ * An annotated bean, to test {@link uk.ac.ebi.fg.java2rdf.annotations.processor.RdfMapperProcessor}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+@RdfClass ( "ex:Book" )
+public class Book
+{
+	private String isbn, title;
+	private int pages;
+	private Author editor;
+	private Set<Author> authors = new HashSet<> ();
+	private List<String> keywords = new ArrayList<> ();
+	
+	public Book ( String isbn, String title, int pages )
+	{
+		super ();
+		this.isbn = isbn;
+		this.title = title;
+		this.pages = pages;
+	}
+
+	@RdfUri ( "ex:book/" )
+	public String getIsbn () {
+		return isbn;
+	}
+
+	/** Multiple properties for the same getter */
+	@RdfLiteral ( { "dcterms:title", "rdfs:label" } )
+	public String getTitle () {
+		return title;
+	}
+
+	/** A primitive type */
+	@RdfLiteral ( "ex:pages" )
+	public int getPages () {
+		return pages;
+	}
+
+	@RdfLink ( "dcterms:publisher" )
+	public Author getEditor () {
+		return editor;
+	}
+
+	public void setEditor ( Author editor ) {
+		this.editor = editor;
+	}
+
+	/** A collection of links */
+	@RdfLink ( "dcterms:creator" )
+	public Set<Author> getAuthors () {
+		return authors;
+	}
+
+	/** A collection of literals */
+	@RdfLiteral ( "ex:keyword" )
+	public List<String> getKeywords () {
+		return keywords;
+	}
+}
@@ -2,15 +2,20 @@ package uk.ac.ebi.fg.java2rdf.mapping;
 
 import static info.marcobrandizi.rdfutils.namespaces.NamespaceUtils.iri;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils.RDF_GRAPH_UTILS;
 
+import java.lang.ref.WeakReference;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
@@ -231,6 +236,106 @@ public class MappersTest
 	
 	}
 	
+	/** Tests that the mapper lookup for subclasses is updated when the mappers change */
+	@Test
+	public void testMapperResolutionCache ()
+	{
+		RdfMapperFactory mapFactory = new RdfMapperFactory ( graphModel );
+		FooMapper<Foo> fooMapper = new FooMapper<> ();
+		mapFactory.setMapper ( Foo.class, fooMapper );
+		
+		assertEquals ( "Wrong mapper for the subclass!", fooMapper, mapFactory.getMapper ( FooChild.class ) );
+		assertEquals ( "Wrong mapper for the subclass (2nd call)!", fooMapper, mapFactory.getMapper ( FooChild.class ) );
+		
+		FooMapper<FooChild> childMapper = new FooMapper<> ();
+		mapFactory.setMapper ( FooChild.class, childMapper );
+		assertEquals ( "Mapper lookup not updated!", childMapper, mapFactory.getMapper ( FooChild.class ) );
+		assertEquals ( "Wrong URI generator!", 
+			childMapper.getRdfUriGenerator (), mapFactory.getRdfUriGenerator ( FooChild.class ) 
+		);
+		assertNull ( "Unmapped class has a mapper!", mapFactory.getMapper ( String.class ) );
+	}
+	
+	/** Tests that the mapper resolution cache doesn't keep a discarded factory alive */
+	@Test
+	public void testDiscardedFactoryCollected () throws InterruptedException
+	{
+		WeakReference<RdfMapperFactory> factoryRef = createAndUseFactory ();
+		for ( int i = 0; i < 50 && factoryRef.get () != null; i++ ) {
+			System.gc ();
+			Thread.sleep ( 20 );
+		}
+		assertNull ( "Discarded factory not garbage-collected!", factoryRef.get () );
+	}
+	
+	/**
+	 * A separated method, so that no reference to the factory is left in the test's stack frame.
+	 */
+	private WeakReference<RdfMapperFactory> createAndUseFactory ()
+	{
+		RdfMapperFactory mapFactory = new RdfMapperFactory ( ModelFactory.createDefaultModel () );
+		mapFactory.setMapper ( Foo.class, new FooMapper<Foo> () );
+		mapFactory.map ( foo );
+		mapFactory.getMapper ( FooChild.class );
+		mapFactory.clearMapperCache ();
+		mapFactory.getMapper ( FooChild.class );
+		return new WeakReference<> ( mapFactory );
+	}
+	
+	/** Tests that the bean URI is computed once and shared with the property mappers */
+	@Test
+	public void testSubjectUriComputedOnce ()
+	{
+		final int[] uriCalls = new int[] { 0 };
+		
+		RdfMapperFactory mapFactory = new RdfMapperFactory ( graphModel ) {{
+			this.setMapper ( Foo.class, new FooMapper<Foo> () {{
+				this.setRdfUriGenerator ( new RdfUriGenerator<Foo> () {
+					@Override
+					public String getUri ( Foo source, Map<String, Object> params ) {
+						uriCalls [ 0 ]++;
+						return FOONS + source.getName ().toLowerCase ().replace ( ' ', '_' );
+					}
+				});
+				this.addPropertyMapper ( "price", new LiteralPropRdfMapper<Foo, String> ( FOONS + "hasPrice" ) );
+			}});
+		}};
+		
+		mapFactory.map ( foo );
+		assertEquals ( "URI generator called more than once!", 1, uriCalls [ 0 ] );
+		assertNull ( "Bean context not cleaned!", mapFactory.getCurrentBeanContext () );
+
+		tester ().ask ( "No name mapped!", "ASK { foo:a_test_object foo:name 'A Test Object' }" );
+	}
+
+	/** Tests that the mappers keep their predicate and class nodes in sync with the URIs */
+	@Test
+	public void testPreboundNodes ()
+	{
+		FooMapper<Foo> fooMapper = new FooMapper<> ();
+		assertEquals ( "Wrong class node!", FOONS + "Foo", fooMapper.getTargetRdfClassNode ().getURI () );
+		fooMapper.setRdfClassUri ( FOONS + "Foo1" );
+		assertEquals ( "Class node not updated!", FOONS + "Foo1", fooMapper.getTargetRdfClassNode ().getURI () );
+		
+		LiteralPropRdfMapper<Foo, String> propMapper = new LiteralPropRdfMapper<> ( FOONS + "name" );
+		assertEquals ( "Wrong property node!", FOONS + "name", propMapper.getTargetPropertyNode ().getURI () );
+		propMapper.setTargetPropertyUri ( null );
+		assertNull ( "Property node not reset!", propMapper.getTargetPropertyNode () );
+
+		LiteralPropRdfMapper<Foo, String> overridingMapper = new LiteralPropRdfMapper<> ( FOONS + "name" ) {
+			@Override
+			public String getTargetPropertyUri () {
+				return FOONS + "label";
+			}
+		};
+		assertEquals ( "Overridden property URI ignored!", FOONS + "label", overridingMapper.getTargetPropertyNode ().getURI () );
+		
+		RdfMapperFactory mapFactory = new RdfMapperFactory ( graphModel );
+		mapFactory.setMapper ( Foo.class, fooMapper );
+		mapFactory.map ( foo );
+		tester ().ask ( "No rdf:type with the updated class!", "ASK { foo:a_test_object a foo:Foo1 }" );
+	}
+	
 	/** Tests the mapping of a single-value JavaBean property to an OWL object property */ 
 	@Test
 	public void testOneOneRelation ()
@@ -323,6 +428,95 @@ public class MappersTest
 	
 	}
 	
+	/** 
+	 * Tests the non-recursive {@link TraversalMode traversal modes} with a long chain of parents, which 
+	 * would be too deep for recursive calls.
+	 */
+	@Test
+	public void testTraversalModes ()
+	{
+		int chainSize = 50000;
+		FooChild chainHead = new FooChild ();
+		chainHead.setName ( "Chain Item 0" );
+		FooChild child = chainHead;
+		for ( int i = 1; i < chainSize; i++ )
+		{
+			FooChild parent = new FooChild ();
+			parent.setName ( "Chain Item " + i );
+			child.setParent ( parent );
+			child = parent;
+		}
+		
+		for ( TraversalMode mode: new TraversalMode[] { TraversalMode.BREADTH_FIRST, TraversalMode.DEPTH_FIRST } )
+		{
+			Model model = ModelFactory.createDefaultModel ();
+			RdfMapperFactory mapFactory = new RdfMapperFactory ( model ) {{
+				this.setMapper ( FooChild.class, new FooMapper<FooChild> () {{
+					this.addPropertyMapper ( "parent", new ResourcePropRdfMapper<FooChild, Foo> ( FOONS + "has-parent" ));
+				}});
+			}};
+			mapFactory.setTraversalMode ( mode );
+			
+			assertTrue ( "Chain head not mapped with " + mode + "!", mapFactory.map ( chainHead ) );
+			
+			// type, name, has-parent for all but the last
+			assertEquals ( "Wrong no. of triples with " + mode + "!", 3 * chainSize - 1, model.size () );
+			assertEquals ( "Wrong no. of visited objects with " + mode + "!", 
+				chainSize, mapFactory.getVisitedTracker ().size () 
+			);
+			
+			SparqlBasedTester tester = new SparqlBasedTester ( model, NamespaceUtils.asSPARQLProlog () );
+			tester.ask ( "Chain end not mapped with " + mode + "!", 
+				"ASK { foo:chain_item_" + ( chainSize - 2 ) + " foo:has-parent foo:chain_item_" + ( chainSize - 1 ) + "}" 
+			);
+		}
+	}
+	
+	/**
+	 * Objects without a mapper are reported when they're reached, in all the traversal modes, and they're not 
+	 * marked as visited.
+	 */
+	@Test
+	public void testNoMapper ()
+	{
+		for ( TraversalMode mode: TraversalMode.values () )
+		{
+			FooChild child = new FooChild ();
+			child.setName ( "A Test Child" );
+			// Foo has no mapper below
+			Foo parent = new Foo ();
+			parent.setName ( "A Test Parent" );
+			child.setParent ( parent );
+			
+			RdfMapperFactory mapFactory = new RdfMapperFactory ( ModelFactory.createDefaultModel () ) {{
+				this.setMapper ( FooChild.class, new FooMapper<FooChild> () {{
+					// With its own URI generator, so that the target is reached without needing its mapper
+					ResourcePropRdfMapper<FooChild, Foo> parentMapper = new ResourcePropRdfMapper<> ( FOONS + "has-parent" );
+					parentMapper.setUriGenerator ( new RdfUriGenerator<Foo> () {
+						@Override
+						public String getUri ( Foo source, Map<String, Object> params ) {
+							return FOONS + "parent";
+						}
+					});
+					this.addPropertyMapper ( "parent", parentMapper );
+				}});
+			}};
+			mapFactory.setTraversalMode ( mode );
+			
+			try {
+				mapFactory.map ( child );
+				fail ( "No error for an object without mapper with " + mode + "!" );
+			}
+			catch ( RuntimeException ex ) {
+				assertTrue ( "Wrong error with " + mode + "!", ExceptionUtils.getStackTrace ( ex ).contains ( "Cannot find a mapper" ) );
+			}
+			assertFalse ( "Object without mapper marked as visited with " + mode + "!", 
+				mapFactory.getVisitedTracker ().isVisited ( parent ) 
+			);
+			assertEquals ( "Wrong no. of visited objects with " + mode + "!", 1, mapFactory.getVisitedTracker ().size () );
+		}
+	}
+	
 	/**
 	 * A complete mapping example, written to show main mapping declarations in one place.
 	 * 
@@ -446,6 +640,10 @@ public class MappersTest
 	}
 	
 	
+	private SparqlBasedTester tester () {
+		return new SparqlBasedTester ( graphModel, NamespaceUtils.asSPARQLProlog () );
+	}
+	
 	private void outputRdf ()
 	{
 		graphModel.setNsPrefixes ( NamespaceUtils.getNamespaces () );
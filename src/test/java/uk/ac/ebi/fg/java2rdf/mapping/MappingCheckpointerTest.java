@@ -0,0 +1,222 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.NTriplesFileTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.visited.EqualsVisitedTracker;
+import uk.ac.ebi.fg.java2rdf.mapping.visited.FingerprintVisitedTracker;
+
+/**
+ * Tests {@link MappingCheckpointer}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class MappingCheckpointerTest
+{
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder ();
+
+	/**
+	 * Sets up a factory for a checkpointed job, as explained in {@link MappingCheckpointer}.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	private static FoafMapperFactory createFactory ( Path outFile, Path checkpointFile )
+	{
+		FoafMapperFactory result = new FoafMapperFactory ( ModelFactory.createDefaultModel () );
+
+		// Persons without email have no URI, see testResumeWithoutUris()
+		BeanRdfMapper<Person> personMapper = (BeanRdfMapper<Person>) result.getMapper ( Person.class );
+		RdfUriGenerator<Person> personUriGen = personMapper.getRdfUriGenerator ();
+		personMapper.setRdfUriGenerator ( new RdfUriGenerator<Person> () {
+			@Override
+			public String getUri ( Person source, Map<String, Object> params ) {
+				return source.getEmail () == null ? null : personUriGen.getUri ( source, params );
+			}
+		});
+
+		result.setTripleSink ( new NTriplesFileTripleSink ( outFile, null, true ) );
+		result.setVisitedTracker ( FingerprintVisitedTracker.forUris ( result ) );
+		if ( checkpointFile != null ) result.setCheckpointer ( new MappingCheckpointer ( checkpointFile, 50 ) );
+		return result;
+	}
+
+	@Test
+	public void testResume () throws IOException
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 200, 30 );
+		checkResume ( articles, articles.size () );
+	}
+
+	/**
+	 * Objects without a URI are tracked by identity, they aren't saved with the checkpoints and they don't break 
+	 * the resumed job.
+	 */
+	@Test
+	public void testResumeWithoutUris () throws IOException
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 200, 30 );
+
+		// Some roots without URI, one of them is met both before and after the checkpoints
+		Person anonymous = new Person ( null, "Anonymous", "Author" );
+		List<Object> roots = new ArrayList<> ();
+		for ( int i = 0; i < articles.size (); i++ )
+		{
+			roots.add ( articles.get ( i ) );
+			if ( i % 10 == 0 ) roots.add ( new Person ( null, "Anonymous", "No. " + i ) );
+			if ( i % 40 == 0 ) roots.add ( anonymous );
+		}
+		checkResume ( roots, articles.size () );
+
+		// Only the fingerprints of the objects with URI are saved
+		FoafMapperFactory mf = createFactory ( tmpFolder.newFile ().toPath (), null );
+		mf.mapAll ( roots, 1 );
+		FingerprintVisitedTracker tracker = (FingerprintVisitedTracker) mf.getVisitedTracker ();
+		ByteArrayOutputStream out = new ByteArrayOutputStream ();
+		tracker.saveState ( new DataOutputStream ( out ) );
+
+		FingerprintVisitedTracker restoredTracker = FingerprintVisitedTracker.forUris ( mf );
+		restoredTracker.loadState ( new DataInputStream ( new ByteArrayInputStream ( out.toByteArray () ) ) );
+		assertEquals ( "Wrong no. of restored objects!", tracker.size () - 20 - 1, restoredTracker.size () );
+		assertFalse ( "An object without URI was restored!", restoredTracker.isVisited ( anonymous ) );
+		assertTrue ( "An object with URI wasn't restored!", restoredTracker.isVisited ( articles.get ( 0 ) ) );
+	}
+
+	/**
+	 * Maps the roots without interruptions, then with a crash after a checkpoint and a resume, and compares the 
+	 * outputs. 
+	 */
+	private void checkResume ( List<?> roots, int expectedMappedRoots ) throws IOException
+	{
+		Path workDir = tmpFolder.newFolder ().toPath ();
+
+		// The uninterrupted job
+		Path refFile = workDir.resolve ( "ref.nt" );
+		FoafMapperFactory refMf = createFactory ( refFile, null );
+		assertEquals ( "Wrong no. of mapped roots!", expectedMappedRoots, refMf.mapAll ( roots, 1 ) );
+		refMf.getTripleSink ().close ();
+
+		// This one crashes while fetching the 131st root, after the checkpoint at 100
+		Path outFile = workDir.resolve ( "out.nt" );
+		Path checkpointFile = workDir.resolve ( "checkpoint.bin" );
+		FoafMapperFactory mf = createFactory ( outFile, checkpointFile );
+		Iterable<Object> crashingRoots = () -> new Iterator<Object> ()
+		{
+			private final Iterator<?> base = roots.iterator ();
+			private int n = 0;
+
+			@Override
+			public boolean hasNext () {
+				return base.hasNext ();
+			}
+
+			@Override
+			public Object next ()
+			{
+				if ( ++n == 131 ) throw new IllegalStateException ( "Simulated crash" );
+				return base.next ();
+			}
+		};
+		try {
+			mf.mapAll ( crashingRoots, 1 );
+			fail ( "Simulated crash didn't happen!" );
+		}
+		catch ( IllegalStateException ex ) {
+			// Expected
+		}
+		// Sends what it has to the file, which is beyond the checkpoint
+		mf.getTripleSink ().close ();
+
+		// A new process resumes the job
+		FoafMapperFactory resumedMf = createFactory ( outFile, checkpointFile );
+		assertEquals ( "Wrong no. of mapped roots!", expectedMappedRoots, resumedMf.mapAll ( roots, 1 ) );
+		resumedMf.getTripleSink ().close ();
+
+		List<String> refLines = Files.readAllLines ( refFile );
+		List<String> lines = Files.readAllLines ( outFile );
+		assertEquals ( "Duplicated or missing triples in the resumed output!", refLines.size (), lines.size () );
+
+		Model refModel = ModelFactory.createDefaultModel ();
+		try ( InputStream in = Files.newInputStream ( refFile ) ) {
+			RDFDataMgr.read ( refModel, in, Lang.NTRIPLES );
+		}
+		Model model = ModelFactory.createDefaultModel ();
+		try ( InputStream in = Files.newInputStream ( outFile ) ) {
+			RDFDataMgr.read ( model, in, Lang.NTRIPLES );
+		}
+		assertTrue ( "Resumed output differs from the uninterrupted one!", refModel.isIsomorphicWith ( model ) );
+
+		// A finished job does nothing when re-run
+		FoafMapperFactory rerunMf = createFactory ( outFile, checkpointFile );
+		assertEquals ( "Wrong no. of mapped roots in the re-run!", expectedMappedRoots, rerunMf.mapAll ( roots, 1 ) );
+		rerunMf.getTripleSink ().close ();
+		assertEquals ( "The re-run changed the output!", lines, Files.readAllLines ( outFile ) );
+	}
+
+	/**
+	 * Objects that produce triples, but aren't saved with the checkpoints, would be mapped twice across a resume, 
+	 * so they stop the job.
+	 */
+	@Test ( expected = RdfMappingException.class )
+	public void testTriplesWithoutUri () throws IOException
+	{
+		Path workDir = tmpFolder.newFolder ().toPath ();
+		FoafMapperFactory mf = createFactory ( workDir.resolve ( "out.nt" ), workDir.resolve ( "checkpoint.bin" ) );
+		mf.setMapper ( String.class, new ObjRdfMapper<String> () 
+		{
+			@Override
+			public boolean map ( String source, Map<String, Object> params ) 
+			{
+				getMapperFactory ().getTripleSink ().add ( 
+					NodeFactory.createURI ( "http://www.example.com/notes#" + source.hashCode () ), 
+					NodeFactory.createURI ( "http://www.example.com/notes#text" ),
+					NodeFactory.createURI ( "http://www.example.com/notes#value" )
+				);
+				return true;
+			}
+		});
+		
+		List<Object> roots = new ArrayList<> ( ParallelMappingTest.createTestArticles ( 10, 3 ) );
+		roots.add ( "A note" );
+		mf.mapAll ( roots, 1 );
+	}
+
+	@Test ( expected = IllegalArgumentException.class )
+	public void testNonCheckpointableTracker () throws IOException
+	{
+		Path workDir = tmpFolder.newFolder ().toPath ();
+		FoafMapperFactory mf = createFactory ( workDir.resolve ( "out.nt" ), workDir.resolve ( "checkpoint.bin" ) );
+		mf.setVisitedTracker ( new EqualsVisitedTracker () );
+		mf.mapAll ( ParallelMappingTest.createTestArticles ( 10, 3 ), 1 );
+	}
+}
@@ -0,0 +1,143 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.MappingContext.Key;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.TripleSinksTest;
+import uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils;
+
+/**
+ * Tests {@link MappingContext}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class MappingContextTest
+{
+	private static final Key<String> LANG_KEY = Key.of ( "test.lang", String.class );
+	private static final Key<Integer> LIMIT_KEY = Key.of ( "test.limit", Integer.class );
+
+	@Test
+	public void testBasics ()
+	{
+		MappingContext ctx = MappingContext.EMPTY.with ( LANG_KEY, "en" );
+		MappingContext ctx1 = ctx.with ( LIMIT_KEY, 10 );
+
+		assertEquals ( "Wrong typed value!", "en", ctx1.get ( LANG_KEY ) );
+		assertEquals ( "Wrong typed value!", (Integer) 10, ctx1.get ( LIMIT_KEY ) );
+		assertNull ( "The original context was changed!", ctx.get ( LIMIT_KEY ) );
+		assertSame ( "Key not reused!", LANG_KEY, Key.of ( "test.lang", String.class ) );
+
+		// The map view
+		assertEquals ( "Wrong value via the Map interface!", "en", ctx1.get ( "test.lang" ) );
+		assertEquals ( "Wrong value via getParam()!", (Integer) 10, Java2RdfUtils.getParam ( ctx1, "test.limit" ) );
+		assertEquals ( "Wrong default from getParam()!", "x", Java2RdfUtils.getParam ( ctx1, "test.foo", "x" ) );
+		assertEquals ( "Wrong map size!", 2, ctx1.size () );
+		assertFalse ( "Removed parameter still there!", ctx1.with ( LANG_KEY, null ).containsKey ( "test.lang" ) );
+
+		// From old-style params
+		Map<String, Object> params = new HashMap<> ();
+		params.put ( "test.lang", "it" );
+		params.put ( "test.other", 2.5 );
+		MappingContext ctx2 = MappingContext.of ( params );
+		assertEquals ( "Wrong converted value!", "it", ctx2.get ( LANG_KEY ) );
+		assertEquals ( "Wrong converted value!", 2.5, ctx2.get ( "test.other" ) );
+		assertEquals ( "Wrong value via the static getter!", "it", MappingContext.get ( params, LANG_KEY ) );
+	}
+
+	/**
+	 * Converting old-style params doesn't create global keys for them.
+	 */
+	@Test
+	public void testAdHocParams ()
+	{
+		Map<String, Object> params = new HashMap<> ();
+		params.put ( "test.lang", "it" );
+		params.put ( "test.adHoc", 3 );
+		MappingContext ctx = MappingContext.of ( params );
+
+		assertNull ( "A key was created for an ad-hoc param!", Key.forName ( "test.adHoc" ) );
+		assertEquals ( "Wrong ad-hoc value!", 3, ctx.get ( "test.adHoc" ) );
+		assertEquals ( "Wrong map size!", 2, ctx.size () );
+		assertEquals ( "Ad-hoc value not passed to the scopes!", 3, ctx.forSubject ( new BeanMappingContext ( "x", null, null, null ) ).get ( "test.adHoc" ) );
+		assertEquals ( "Ad-hoc value not kept by with()!", 3, ctx.with ( LIMIT_KEY, 10 ).get ( "test.adHoc" ) );
+
+		// A key created later sees the value
+		Key<Integer> key = Key.of ( "test.adHoc", Integer.class );
+		assertEquals ( "Ad-hoc value not available via its new key!", (Integer) 3, ctx.get ( key ) );
+		assertNull ( "Ad-hoc value not replaced by with()!", ctx.with ( key, null ).get ( key ) );
+
+		assertSame ( "Empty params not converted to EMPTY!", MappingContext.EMPTY, MappingContext.of ( new HashMap<> () ) );
+	}
+
+	@Test ( expected = IllegalArgumentException.class )
+	public void testWrongKeyType () {
+		Key.of ( "test.lang", Integer.class );
+	}
+
+	@Test ( expected = UnsupportedOperationException.class )
+	public void testImmutability () {
+		MappingContext.EMPTY.with ( LANG_KEY, "en" ).put ( "test.lang", "it" );
+	}
+
+	@Test
+	@SuppressWarnings ( "unchecked" )
+	public void testMapping ()
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+
+		// Records the contexts that reach the person mapper
+		List<MappingContext> personContexts = new ArrayList<> ();
+		( (BeanRdfMapper<Person>) mf.getMapper ( Person.class ) ).addMapper ( new ObjRdfMapper<Person> ()
+		{
+			@Override
+			public boolean map ( Person source, Map<String, Object> params ) {
+				personContexts.add ( (MappingContext) params );
+				return true;
+			}
+		});
+
+		Article article = TripleSinksTest.createTestArticle ();
+		MappingContext ctx = MappingContext.EMPTY.with ( LANG_KEY, "en" );
+		mf.map ( article, ctx );
+
+		assertTrue ( "Output differs from the one without context!",
+			TripleSinksTest.createReferenceModel ().isIsomorphicWith ( model )
+		);
+
+		assertFalse ( "Person mapper not reached!", personContexts.isEmpty () );
+		for ( MappingContext personCtx: personContexts )
+		{
+			assertTrue ( "Wrong scope source!", personCtx.getSource () instanceof Person );
+			assertEquals ( "Wrong scope URI!", mf.getUri ( personCtx.getSource () ), personCtx.getSubjectUri () );
+			assertSame ( "Wrong scope sink!", mf.getTripleSink (), personCtx.getTripleSink () );
+			assertEquals ( "Parameter not passed down!", "en", personCtx.get ( LANG_KEY ) );
+
+			// The scope doesn't have its own copy of the bean data
+			BeanMappingContext personBeanCtx = personCtx.getBeanContext ();
+			assertSame ( "Wrong scope source!", personBeanCtx.getSource (), personCtx.getSource () );
+
+			BeanMappingContext articleBeanCtx = personBeanCtx.getParent ();
+			assertSame ( "Wrong parent bean!", article, articleBeanCtx.getSource () );
+			assertNull ( "Wrong root bean!", articleBeanCtx.getParent () );
+		}
+	}
+}
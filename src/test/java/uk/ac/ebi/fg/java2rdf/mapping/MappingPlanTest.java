@@ -0,0 +1,207 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.InMemoryMappingMetrics;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics.CallType;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.PropertyRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.NTriplesTripleSink;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.TripleSinksTest;
+
+/**
+ * Tests for {@link MappingPlan} and {@link RdfMapperFactory#setPlanCompilationEnabled(boolean)}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class MappingPlanTest
+{
+	private static List<Article> createArticles ()
+	{
+		List<Article> result = new ArrayList<> ();
+		result.add ( TripleSinksTest.createTestArticle () );
+
+		Person editor = new Person ( "jdoe@example.com", "John", "Doe" );
+		for ( int i = 1; i <= 10; i++ )
+		{
+			// Some empty properties too
+			Article article = new Article ( 1000 + i, "Article " + i, i % 2 == 0 ? null : "Abstract " + i );
+			if ( i % 3 != 0 ) article.setEditor ( editor );
+			for ( int j = 0; j < i % 4; j++ )
+				article.getAuthors ().add ( new Person ( "author" + j + "@example.com", "Author", "No. " + j ) );
+			result.add ( article );
+		}
+		return result;
+	}
+
+	private static String mapToNTriples ( boolean isPlanCompilationEnabled )
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream ();
+		RdfMapperFactory mf = new FoafMapperFactory ( null );
+		mf.setPlanCompilationEnabled ( isPlanCompilationEnabled );
+		mf.setTripleSink ( new NTriplesTripleSink ( out ) );
+
+		for ( Article article: createArticles () )
+			mf.map ( article );
+		mf.getTripleSink ().close ();
+
+		return new String ( out.toByteArray (), StandardCharsets.UTF_8 );
+	}
+
+	@Test
+	public void testSameOutput ()
+	{
+		String interpreted = mapToNTriples ( false );
+		String compiled = mapToNTriples ( true );
+
+		assertTrue ( "No output from the mapping!", interpreted.length () > 0 );
+		// Not only the same graph, but the same triples in the same order
+		assertEquals ( "The mapping plans changed the output!", interpreted, compiled );
+	}
+
+	/**
+	 * The property mapper figures are the same in both modes.
+	 */
+	@Test
+	public void testSameMetrics ()
+	{
+		List<String> interpreted = mapWithMetrics ( false );
+		List<String> compiled = mapWithMetrics ( true );
+
+		assertTrue ( "No property mapper metrics!", !interpreted.isEmpty () );
+		assertEquals ( "The mapping plans changed the metrics!", interpreted, compiled );
+	}
+
+	private static List<String> mapWithMetrics ( boolean isPlanCompilationEnabled )
+	{
+		RdfMapperFactory mf = new FoafMapperFactory ( ModelFactory.createDefaultModel () );
+		mf.setPlanCompilationEnabled ( isPlanCompilationEnabled );
+		InMemoryMappingMetrics metrics = new InMemoryMappingMetrics ();
+		mf.setMetrics ( metrics );
+
+		for ( Article article: createArticles () )
+			mf.map ( article );
+
+		return metrics.getMapperStats ()
+			.stream ()
+			.filter ( s -> s.getType () == CallType.PROPERTY_MAPPER )
+			.map ( s -> s.getName () + ": " + s.getCalls () + " calls, " + s.getTriples () + " triples" )
+			.sorted ()
+			.collect ( Collectors.toList () );
+	}
+
+	@Test
+	public void testSameModel ()
+	{
+		Model compiled = ModelFactory.createDefaultModel ();
+		RdfMapperFactory mf = new FoafMapperFactory ( compiled );
+		mf.setPlanCompilationEnabled ( true );
+		mf.map ( TripleSinksTest.createTestArticle () );
+
+		assertTrue (
+			"The mapping plans output differs from the interpreted one!",
+			TripleSinksTest.createReferenceModel ().isIsomorphicWith ( compiled )
+		);
+	}
+
+	@Test
+	public void testPlanSteps ()
+	{
+		RdfMapperFactory mf = new FoafMapperFactory ( ModelFactory.createDefaultModel () );
+
+		MappingPlan<Article> plan = mf.getMappingPlan ( Article.class );
+		assertNotNull ( "No plan for Article!", plan );
+
+		// title: get + literal, editor: get + resource, authors: get + resource, abstract: get + 2 literals
+		assertEquals ( "Wrong no. of steps!", 9, plan.getStepsCount () );
+		assertEquals ( "Unexpected delegate steps!", 0, plan.getDelegateStepsCount () );
+	}
+
+	@Test
+	public void testNotCompilable ()
+	{
+		RdfMapperFactory mf = new FoafMapperFactory ( ModelFactory.createDefaultModel () );
+		mf.setMapper ( Person.class, new BeanRdfMapper<Person> ( "http://www.example.com/ex/Person" )
+		{
+			{
+				this.setRdfUriGenerator ( new RdfUriGenerator<Person> () {
+					@Override
+					public String getUri ( Person source, Map<String, Object> params ) {
+						return "http://www.example.com/ex/person/" + source.getEmail ();
+					}
+				});
+			}
+
+			@Override
+			public boolean map ( Person source, Map<String, Object> params ) {
+				return super.map ( source, params );
+			}
+		});
+
+		assertNull ( "A mapper overriding map() was compiled!", mf.getMappingPlan ( Person.class ) );
+
+		// And the mapping still works
+		mf.setPlanCompilationEnabled ( true );
+		mf.map ( TripleSinksTest.createTestArticle () );
+		assertTrue ( "No output for the non-compiled mapper!", mf.getGraphModel ().size () > 0 );
+	}
+
+	/**
+	 * Errors from the bean property mappers a plan delegates to are reported once, as in the interpreted mode.
+	 */
+	@Test
+	public void testDelegatedPropertyErrors ()
+	{
+		RdfMapperFactory mf = new FoafMapperFactory ( ModelFactory.createDefaultModel () );
+		BeanRdfMapper<Person> personMapper = new BeanRdfMapper<> ( "http://www.example.com/ex/Person" );
+		personMapper.setRdfUriGenerator ( new RdfUriGenerator<Person> () {
+			@Override
+			public String getUri ( Person source, Map<String, Object> params ) {
+				return "http://www.example.com/ex/person/" + source.getEmail ();
+			}
+		});
+		personMapper.addPropertyMapper ( "email", new PropertyRdfMapper<Person, String, String> () {
+			@Override
+			public boolean map ( Person source, String propValue, Map<String, Object> params ) {
+				throw new IllegalStateException ( "Test property error" );
+			}
+		});
+		mf.setMapper ( Person.class, personMapper );
+		mf.setPlanCompilationEnabled ( true );
+		assertEquals ( "The property wasn't delegated!", 1, mf.getMappingPlan ( Person.class ).getDelegateStepsCount () );
+
+		try {
+			mf.map ( new Person ( "jdoe@example.com", "John", "Doe" ) );
+			fail ( "The property error wasn't reported!" );
+		}
+		catch ( RdfMappingException ex )
+		{
+			long propErrors = ExceptionUtils.getThrowableList ( ex )
+				.stream ()
+				.filter ( t -> t instanceof BeanPropertyMappingException )
+				.count ();
+			assertEquals ( "The property error was wrapped more than once!", 1, propErrors );
+		}
+	}
+}
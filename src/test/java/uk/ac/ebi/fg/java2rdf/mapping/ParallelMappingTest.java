@@ -0,0 +1,174 @@
+package uk.ac.ebi.fg.java2rdf.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+import uk.ac.ebi.fg.java2rdf.mapping.visited.IdentityVisitedTracker;
+
+/**
+ * Tests {@link RdfMapperFactory#mapAll(Iterable, int)}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class ParallelMappingTest
+{
+	/**
+	 * Many articles, which share a few editors and authors.
+	 */
+	public static List<Article> createTestArticles ( int nArticles, int nPersons )
+	{
+		List<Person> persons = new ArrayList<> ();
+		for ( int i = 0; i < nPersons; i++ )
+			persons.add ( new Person ( "person" + i + "@somewhere.net", "Name " + i, "Surname " + i ) );
+		
+		List<Article> articles = new ArrayList<> ();
+		for ( int i = 0; i < nArticles; i++ )
+		{
+			Article article = new Article ( i, "Article " + i, "Abstract for the article " + i );
+			article.setEditor ( persons.get ( i % nPersons ) );
+			for ( int j = 1; j <= 3; j++ )
+				article.getAuthors ().add ( persons.get ( ( i + j * 7 ) % nPersons ) );
+			articles.add ( article );
+		}
+		return articles;
+	}
+	
+	@Test
+	public void testMapAll ()
+	{
+		List<Article> articles = createTestArticles ( 2000, 50 );
+		
+		Model refModel = ModelFactory.createDefaultModel ();
+		FoafMapperFactory refMf = new FoafMapperFactory ( refModel );
+		for ( Article article: articles ) refMf.map ( article );
+		
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		IdentityVisitedTracker tracker = new IdentityVisitedTracker ();
+		mf.setVisitedTracker ( tracker );
+		mf.setWorkerBufferSize ( 100 );
+		
+		long nmapped = mf.mapAll ( articles, 4 );
+		
+		assertEquals ( "Wrong no. of mapped roots!", articles.size (), nmapped );
+		assertEquals ( "Wrong no. of visited objects!", articles.size () + 50, tracker.size () );
+		assertEquals ( "Wrong no. of triples!", refModel.size (), model.size () );
+		assertTrue ( "Parallel output differs from the sequential one!", refModel.isIsomorphicWith ( model ) );
+	}
+	
+	/**
+	 * Uses a URI generator that simulates an identifier service with some latency.
+	 */
+	@Test
+	@SuppressWarnings ( "unchecked" )
+	public void testVirtualThreads ()
+	{
+		List<Article> articles = createTestArticles ( 200, 20 );
+		
+		Model refModel = ModelFactory.createDefaultModel ();
+		FoafMapperFactory refMf = new FoafMapperFactory ( refModel );
+		for ( Article article: articles ) refMf.map ( article );
+		
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		mf.setVirtualThreadsEnabled ( true );
+		
+		AtomicInteger runningCalls = new AtomicInteger ( 0 ), maxRunningCalls = new AtomicInteger ( 0 );
+		BeanRdfMapper<Article> articleMapper = (BeanRdfMapper<Article>) mf.getMapper ( Article.class );
+		RdfUriGenerator<Article> baseGenerator = articleMapper.getRdfUriGenerator ();
+		articleMapper.setRdfUriGenerator ( new RdfUriGenerator<Article> () 
+		{
+			@Override
+			public String getUri ( Article source, Map<String, Object> params ) 
+			{
+				maxRunningCalls.accumulateAndGet ( runningCalls.incrementAndGet (), Math::max );
+				try {
+					Thread.sleep ( 5 );
+					return baseGenerator.getUri ( source, params );
+				}
+				catch ( InterruptedException ex ) {
+					throw new IllegalStateException ( "Stub URI service interrupted", ex );
+				}
+				finally {
+					runningCalls.decrementAndGet ();
+				}
+			}
+		});
+		
+		long nmapped = mf.mapAll ( articles, 50 );
+		
+		assertEquals ( "Wrong no. of mapped roots!", articles.size (), nmapped );
+		assertEquals ( "Wrong no. of triples!", refModel.size (), model.size () );
+		assertTrue ( "Virtual thread output differs from the sequential one!", refModel.isIsomorphicWith ( model ) );
+		assertTrue ( "Concurrency limit not honoured!", maxRunningCalls.get () <= 50 );
+		assertTrue ( "URI generator calls didn't overlap!", maxRunningCalls.get () > 1 );
+	}
+	
+	@Test ( expected = RdfMappingException.class )
+	public void testErrorPropagation ()
+	{
+		List<Article> articles = createTestArticles ( 100, 10 );
+		articles.get ( 50 ).setEditor ( new Person ( "bad@somewhere.net", "Bad", "Person" ) {
+			@Override
+			public String getName () {
+				throw new IllegalStateException ( "Test exception for a failing getter" );
+			}
+		});
+		
+		new FoafMapperFactory ( ModelFactory.createDefaultModel () ).mapAll ( articles, 4 );
+	}
+	
+	/**
+	 * When a root fails in the virtual thread mode, the output of the roots mapped before it isn't lost.
+	 */
+	@Test
+	public void testVirtualThreadsErrorOutput ()
+	{
+		List<Article> articles = createTestArticles ( 100, 10 );
+		
+		// The failing root doesn't link anything else, so it can't take the objects it shares with the roots still 
+		// running (they'd be visited and then discarded with its output)
+		List<Object> roots = new ArrayList<> ( articles );
+		roots.add ( 50, new Person ( "bad@somewhere.net", "Bad", "Person" ) {
+			@Override
+			public String getName () {
+				throw new IllegalStateException ( "Test exception for a failing getter" );
+			}
+		});
+		
+		Model refModel = ModelFactory.createDefaultModel ();
+		FoafMapperFactory refMf = new FoafMapperFactory ( refModel );
+		for ( Article article: articles.subList ( 0, 50 ) ) refMf.map ( article );
+
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		mf.setVirtualThreadsEnabled ( true );
+		try {
+			mf.mapAll ( roots, 4 );
+			fail ( "Root error not reported!" );
+		}
+		catch ( RdfMappingException ex ) {
+			// Expected
+		}
+		
+		// The roots before the failing one were submitted before it, some of them might have been still running when 
+		// it failed, but mapAll() waits for the running tasks before reporting the error
+		assertTrue ( "Output of the successful roots lost!", model.containsAll ( refModel ) );
+	}
+}
@@ -0,0 +1,157 @@
+package uk.ac.ebi.fg.java2rdf.mapping.errors;
+
+import static info.marcobrandizi.rdfutils.namespaces.NamespaceUtils.iri;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.ParallelMappingTest;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.properties.LiteralPropRdfMapper;
+
+/**
+ * Tests the fail-soft mode of {@link uk.ac.ebi.fg.java2rdf.mapping.RdfMapperFactory}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class FailSoftMappingTest
+{
+	/**
+	 * Adds a property to the article mapper that fails for the articles with an id multiple of 10. It's the last
+	 * property, so the failing articles emit all their triples but rdf:type.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	private static FoafMapperFactory createFailingFactory ( Model model )
+	{
+		FoafMapperFactory result = new FoafMapperFactory ( model );
+		( (BeanRdfMapper<Article>) result.getMapper ( Article.class ) ).addPropertyMapper (
+			"failingProp",
+			a -> {
+				if ( a.getId () % 10 == 0 ) throw new IllegalStateException ( "Test failure for the article " + a.getId () );
+				return null;
+			},
+			new LiteralPropRdfMapper<Article, String> ( iri ( "ex:failingProp" ) )
+		);
+		return result;
+	}
+
+	private static Model createReferenceModel ( List<Article> articles )
+	{
+		Model result = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( result );
+		for ( Article article: articles ) mf.map ( article );
+		return result;
+	}
+
+	@Test
+	public void testFailFast ()
+	{
+		FoafMapperFactory mf = createFailingFactory ( ModelFactory.createDefaultModel () );
+		try {
+			mf.mapAll ( ParallelMappingTest.createTestArticles ( 100, 10 ), 1 );
+			fail ( "Mapping error not reported!" );
+		}
+		catch ( RdfMappingException ex ) {
+			assertTrue ( "Wrong root cause!", ExceptionUtils.getRootCause ( ex ) instanceof IllegalStateException );
+		}
+	}
+
+	@Test
+	public void testKeep ()
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 200, 10 );
+		Model refModel = createReferenceModel ( articles );
+
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = createFailingFactory ( model );
+		List<MappingError> errors = Collections.synchronizedList ( new ArrayList<> () );
+		mf.setErrorSink ( errors::add );
+
+		assertEquals ( "Wrong no. of mapped roots!", 180, mf.mapAll ( articles, 1 ) );
+		assertEquals ( "Wrong error count!", 20, mf.getErrorCount () );
+		assertEquals ( "Wrong no. of reported errors!", 20, errors.size () );
+
+		for ( MappingError error: errors )
+		{
+			assertSame ( "Wrong failed bean class!", Article.class, error.getBeanClass () );
+			assertEquals ( "Wrong failed property!", "failingProp", error.getPropertyName () );
+			assertTrue ( "Wrong root cause!", error.getRootCause () instanceof IllegalStateException );
+			assertEquals ( "Wrong failed bean!", 0, ( (Article) error.getSource () ).getId () % 10 );
+		}
+
+		// Only the rdf:type statements of the failed articles are missing
+		assertEquals ( "Wrong no. of triples!", refModel.size () - 20, model.size () );
+		assertTrue ( "Partial triples not kept!", refModel.containsAll ( model ) );
+	}
+
+	@Test
+	public void testRollback ()
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 200, 10 );
+		Model refModel = createReferenceModel ( articles );
+
+		// The expected output is the reference without the failed articles, but with all their persons
+		FoafMapperFactory refMf = new FoafMapperFactory ( refModel );
+		Model expectedModel = ModelFactory.createDefaultModel ().add ( refModel );
+		for ( Article article: articles )
+		{
+			if ( article.getId () % 10 != 0 ) continue;
+			Resource subject = refModel.createResource ( refMf.getUri ( article ) );
+			expectedModel.removeAll ( subject, null, null );
+		}
+
+		for ( boolean isPlanCompilationEnabled: new boolean[] { false, true } )
+			for ( int parallelism: new int[] { 1, 4 } )
+			{
+				Model model = ModelFactory.createDefaultModel ();
+				FoafMapperFactory mf = createFailingFactory ( model );
+				mf.setPlanCompilationEnabled ( isPlanCompilationEnabled );
+				mf.setErrorSink ( MappingErrorSink.LOGGING );
+				mf.setPartialOutputPolicy ( PartialOutputPolicy.ROLLBACK );
+
+				String caseLabel = "(plan: " + isPlanCompilationEnabled + ", parallelism: " + parallelism + ")";
+				assertEquals ( "Wrong no. of mapped roots " + caseLabel + "!", 180, mf.mapAll ( articles, parallelism ) );
+				assertEquals ( "Wrong error count " + caseLabel + "!", 20, mf.getErrorCount () );
+				assertTrue ( "Partial triples not rolled back " + caseLabel + "!", expectedModel.isIsomorphicWith ( model ) );
+			}
+	}
+
+	@Test
+	public void testErrorBudget ()
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = createFailingFactory ( model );
+		List<MappingError> errors = Collections.synchronizedList ( new ArrayList<> () );
+		mf.setErrorSink ( errors::add );
+		mf.setErrorBudget ( 5 );
+
+		try {
+			mf.mapAll ( ParallelMappingTest.createTestArticles ( 200, 10 ), 1 );
+			fail ( "Error budget not enforced!" );
+		}
+		catch ( ErrorBudgetExceededException ex ) {
+			assertEquals ( "Wrong no. of reported errors!", 6, errors.size () );
+			assertFalse ( "No message for the budget error!", ex.getMessage ().isEmpty () );
+		}
+
+		mf.reset ();
+		assertEquals ( "Error count not reset!", 0, mf.getErrorCount () );
+	}
+}
@@ -2,8 +2,6 @@ package uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping;
 
 import static info.marcobrandizi.rdfutils.namespaces.NamespaceUtils.iri;
 
-import java.util.Map;
-
 import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
 import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
 import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
@@ -11,7 +9,7 @@ import uk.ac.ebi.fg.java2rdf.mapping.properties.CollectionPropRdfMapper;
 import uk.ac.ebi.fg.java2rdf.mapping.properties.CompositePropRdfMapper;
 import uk.ac.ebi.fg.java2rdf.mapping.properties.LiteralPropRdfMapper;
 import uk.ac.ebi.fg.java2rdf.mapping.properties.ResourcePropRdfMapper;
-import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.UriTemplateGenerator;
 
 
 /**
@@ -25,13 +23,9 @@ import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
 public class ArticleMapper extends BeanRdfMapper<Article>
 {
 	{
-		// How beans of Article type generates URI identifiers
-		this.setRdfUriGenerator ( new RdfUriGenerator<Article> () {
-			@Override
-			public String getUri ( Article source, Map<String, Object> params ) {
-				return iri ( "ex:article/" + source.getId () );
-			}
-		});
+		// How beans of Article type generates URI identifiers. A template is the simplest and fastest way, you can 
+		// also define your own RdfUriGenerator, as in PersonMapper
+		this.setRdfUriGenerator ( new UriTemplateGenerator<> ( "ex:article/{id}" ) );
 		
 		// How they are mapped to a RDFS/OWL class
 		this.setRdfClassUri ( iri ( "foaf", "Document" ) );
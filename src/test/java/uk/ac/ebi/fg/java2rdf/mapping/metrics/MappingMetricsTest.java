@@ -0,0 +1,102 @@
+package uk.ac.ebi.fg.java2rdf.mapping.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.ArticleMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.metrics.MappingMetrics.CallType;
+import uk.ac.ebi.fg.java2rdf.mapping.sink.TripleSinksTest;
+
+/**
+ * Tests for the {@link MappingMetrics} implementations.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class MappingMetricsTest
+{
+	@Test
+	public void testInMemoryMetrics ()
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		InMemoryMappingMetrics metrics = new InMemoryMappingMetrics ();
+		mf.setMetrics ( metrics );
+		
+		Article article = TripleSinksTest.createTestArticle ();
+		mf.map ( article );
+		mf.map ( article );
+		
+		// The article and 4 persons are new, the second article mapping is a hit
+		assertEquals ( "Wrong visited misses!", 5, metrics.getVisitedMisses () );
+		assertEquals ( "Wrong visited hits!", 1, metrics.getVisitedHits () );
+		assertEquals ( "Wrong no. of triples!", model.size (), metrics.getTotalTriples () );
+		
+		MapperStats articleStats = metrics.getMapperStats ()
+			.stream ()
+			.filter ( s -> s.getType () == CallType.OBJECT_MAPPER && s.getName ().startsWith ( ArticleMapper.class.getSimpleName () ) )
+			.findFirst ()
+			.orElseThrow ( () -> new AssertionError ( "No stats for the article mapper!" ) );
+		
+		assertEquals ( "Wrong no. of article mapper calls!", 1, articleStats.getCalls () );
+		assertEquals ( "Wrong no. of article mapper triples!", 1, articleStats.getTriples () );
+		assertTrue ( "Article mapper time not recorded!", articleStats.getTotalNanos () > 0 );
+		
+		assertTrue ( "No property mapper stats!", 
+			metrics.getMapperStats ().stream ().anyMatch ( s -> s.getType () == CallType.PROPERTY_MAPPER && s.getCalls () > 0 ) 
+		);
+		assertTrue ( "No value generator stats!", 
+			metrics.getMapperStats ().stream ().anyMatch ( s -> s.getType () == CallType.VALUE_GENERATOR && s.getCalls () > 0 ) 
+		);
+		
+		metrics.reset ();
+		assertTrue ( "Metrics not reset!", metrics.getMapperStats ().isEmpty () );
+	}
+	
+	@Test
+	public void testPercentiles ()
+	{
+		MapperStats stats = new MapperStats ( CallType.OBJECT_MAPPER, new ArticleMapper () );
+		for ( int i = 0; i < 90; i++ ) stats.recordCall ( 100 );
+		for ( int i = 0; i < 10; i++ ) stats.recordCall ( 10000 );
+		
+		// 100 is in [64, 128), 10000 is in [8192, 16384)
+		assertEquals ( "Wrong p50!", 128, stats.getP50Nanos () );
+		assertEquals ( "Wrong p95!", 16384, stats.getP95Nanos () );
+		assertEquals ( "Wrong mean!", ( 90 * 100 + 10 * 10000 ) / 100, stats.getMeanNanos () );
+	}
+	
+	@Test
+	public void testJmx () throws Exception
+	{
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer ();
+		try ( JmxMappingMetrics metrics = new JmxMappingMetrics ( "test" ) )
+		{
+			FoafMapperFactory mf = new FoafMapperFactory ( ModelFactory.createDefaultModel () );
+			mf.setMetrics ( metrics );
+			mf.map ( TripleSinksTest.createTestArticle () );
+			
+			assertTrue ( "Metrics bean not registered!", mbs.isRegistered ( metrics.getObjectName () ) );
+			assertEquals ( "Wrong triples attribute!", 
+				metrics.getTotalTriples (), mbs.getAttribute ( metrics.getObjectName (), "TotalTriples" ) 
+			);
+			// Checks the conversion to open types works
+			mbs.getAttribute ( metrics.getObjectName (), "MapperStats" );
+			
+			metrics.close ();
+			assertFalse ( "Metrics bean not unregistered!", mbs.isRegistered ( metrics.getObjectName () ) );
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package uk.ac.ebi.fg.java2rdf.mapping.rdfgen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.MappingContext;
+import uk.ac.ebi.fg.java2rdf.mapping.MappingContext.Key;
+import uk.ac.ebi.fg.java2rdf.mapping.ParallelMappingTest;
+import uk.ac.ebi.fg.java2rdf.mapping.RdfMappingException;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
+
+/**
+ * Tests {@link AsyncRdfUriGenerator} and {@link BatchingRdfUriGenerator}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class AsyncRdfUriGeneratorTest
+{
+	/**
+	 * Wraps the person URI generator of the FOAF example into a batching one, which simulates a lookup service.
+	 */
+	private static class PersonBatchGenerator extends BatchingRdfUriGenerator<Person>
+	{
+		private final RdfUriGenerator<Person> baseGenerator;
+		private final boolean isFailing;
+
+		final AtomicInteger batches = new AtomicInteger ( 0 );
+		final AtomicInteger sources = new AtomicInteger ( 0 );
+		final AtomicInteger maxBatchSize = new AtomicInteger ( 0 );
+
+		PersonBatchGenerator ( RdfUriGenerator<Person> baseGenerator, int batchSize, ExecutorService executor, boolean isFailing )
+		{
+			super ( batchSize, executor );
+			this.baseGenerator = baseGenerator;
+			this.isFailing = isFailing;
+		}
+
+		@Override
+		protected List<String> getUris ( List<Person> sources, Map<String, Object> params )
+		{
+			if ( isFailing ) throw new IllegalStateException ( "Test exception for a failing URI service" );
+
+			batches.incrementAndGet ();
+			this.sources.addAndGet ( sources.size () );
+			maxBatchSize.accumulateAndGet ( sources.size (), Math::max );
+			return sources.stream ()
+				.map ( p -> baseGenerator.getUri ( p, params ) )
+				.collect ( Collectors.toList () );
+		}
+	}
+
+	private static PersonBatchGenerator setupGenerator (
+		FoafMapperFactory mf, int batchSize, ExecutorService executor, boolean isFailing
+	)
+	{
+		@SuppressWarnings ( "unchecked" )
+		BeanRdfMapper<Person> personMapper = (BeanRdfMapper<Person>) mf.getMapper ( Person.class );
+		PersonBatchGenerator result = new PersonBatchGenerator (
+			personMapper.getRdfUriGenerator (), batchSize, executor, isFailing
+		);
+		personMapper.setRdfUriGenerator ( result );
+		return result;
+	}
+
+	private static Model createReferenceModel ( List<Article> articles )
+	{
+		Model result = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( result );
+		for ( Article article: articles ) mf.map ( article );
+		return result;
+	}
+
+	@Test
+	public void testBatching ()
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 200, 50 );
+		Model refModel = createReferenceModel ( articles );
+
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		PersonBatchGenerator generator = setupGenerator ( mf, 16, null, false );
+
+		assertEquals ( "Wrong no. of mapped roots!", articles.size (), mf.mapAll ( articles, 1 ) );
+		assertEquals ( "Wrong no. of triples!", refModel.size (), model.size () );
+		assertTrue ( "Async output differs from the sync one!", refModel.isIsomorphicWith ( model ) );
+
+		assertTrue ( "Batch size exceeded!", generator.maxBatchSize.get () <= 16 );
+		assertTrue ( "URIs weren't batched!", generator.maxBatchSize.get () > 1 );
+		assertTrue ( "Too many batches!", generator.batches.get () * 8 <= generator.sources.get () );
+	}
+
+	/**
+	 * The per-bean scopes of a {@link MappingContext} don't split the batches.
+	 */
+	@Test
+	public void testBatchingWithContext ()
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 200, 50 );
+		Model refModel = createReferenceModel ( articles );
+
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		PersonBatchGenerator generator = setupGenerator ( mf, 16, null, false );
+
+		MappingContext ctx = MappingContext.EMPTY.with ( Key.of ( "test.batching.lang", String.class ), "en" );
+		assertEquals ( "Wrong no. of mapped roots!", articles.size (), mf.mapAll ( articles, 1, ctx ) );
+		assertTrue ( "Async output differs from the sync one!", refModel.isIsomorphicWith ( model ) );
+
+		assertTrue ( "Batch size exceeded!", generator.maxBatchSize.get () <= 16 );
+		assertTrue ( "Too many batches, the context scopes split them!", generator.batches.get () * 8 <= generator.sources.get () );
+	}
+
+	/**
+	 * A source requested many times in the same batch is looked up once.
+	 */
+	@Test
+	public void testBatchDeduplication ()
+	{
+		FoafMapperFactory mf = new FoafMapperFactory ( ModelFactory.createDefaultModel () );
+		PersonBatchGenerator generator = setupGenerator ( mf, 16, null, false );
+
+		Person person = new Person ( "jdoe@example.com", "John", "Doe" );
+		Map<String, Object> params = new HashMap<> ();
+		List<CompletableFuture<String>> futures = new ArrayList<> ();
+		for ( int i = 0; i < 100; i++ )
+			futures.add ( generator.getUriAsync ( person, params ) );
+		generator.flush ();
+
+		assertEquals ( "Wrong no. of batches!", 1, generator.batches.get () );
+		assertEquals ( "The same source was looked up more than once!", 1, generator.sources.get () );
+		for ( CompletableFuture<String> future: futures )
+			assertSame ( "Wrong future for a repeated source!", futures.get ( 0 ), future );
+		assertEquals ( "Wrong URI!", generator.baseGenerator.getUri ( person, params ), futures.get ( 0 ).join () );
+	}
+
+	@Test
+	public void testSingleRoot ()
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 1, 10 );
+		Model refModel = createReferenceModel ( articles );
+
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		setupGenerator ( mf, 100, null, false );
+
+		// The pending triples must be there when map() returns
+		mf.map ( articles.get ( 0 ) );
+		assertTrue ( "Async output differs from the sync one!", refModel.isIsomorphicWith ( model ) );
+	}
+
+	@Test
+	public void testParallelWithExecutor ()
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 500, 50 );
+		Model refModel = createReferenceModel ( articles );
+
+		ExecutorService executor = Executors.newFixedThreadPool ( 2 );
+		try
+		{
+			Model model = ModelFactory.createDefaultModel ();
+			FoafMapperFactory mf = new FoafMapperFactory ( model );
+			mf.setPlanCompilationEnabled ( true );
+			mf.setAsyncWindowSize ( 50 );
+			setupGenerator ( mf, 32, executor, false );
+
+			assertEquals ( "Wrong no. of mapped roots!", articles.size (), mf.mapAll ( articles, 4 ) );
+			assertTrue ( "Async output differs from the sync one!", refModel.isIsomorphicWith ( model ) );
+		}
+		finally {
+			executor.shutdown ();
+		}
+	}
+
+	@Test ( expected = RdfMappingException.class )
+	public void testErrorPropagation ()
+	{
+		FoafMapperFactory mf = new FoafMapperFactory ( ModelFactory.createDefaultModel () );
+		setupGenerator ( mf, 16, null, true );
+		mf.mapAll ( ParallelMappingTest.createTestArticles ( 100, 10 ), 1 );
+	}
+}
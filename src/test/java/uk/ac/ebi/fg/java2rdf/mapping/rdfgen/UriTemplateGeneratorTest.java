@@ -0,0 +1,103 @@
+package uk.ac.ebi.fg.java2rdf.mapping.rdfgen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.FoafMappingTest;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
+import uk.ac.ebi.utils.ids.IdUtils;
+
+/**
+ * Tests {@link UriTemplateGenerator}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class UriTemplateGeneratorTest
+{
+	static {
+		// Registers the namespaces
+		new FoafMapperFactory ( null );
+	}
+
+	@Test
+	public void testBasics ()
+	{
+		UriTemplateGenerator<Article> gen = new UriTemplateGenerator<> ( "ex:article/{id}" );
+		assertEquals ( "Wrong URI!", FoafMappingTest.EXNS + "article/12", gen.getUri ( new Article ( 12, "Title", "Abstract" ) ) );
+		assertEquals ( "Wrong URI (2nd call)!", FoafMappingTest.EXNS + "article/13", gen.getUri ( new Article ( 13, "Title", "Abstract" ) ) );
+
+		UriTemplateGenerator<Article> gen2 = new UriTemplateGenerator<> ( "http://www.example.com/{id}/{title}/x" );
+		assertEquals ( "Wrong URI with multiple placeholders!",
+			"http://www.example.com/1/Foo/x", gen2.getUri ( new Article ( 1, "Foo", "Abstract" ) )
+		);
+		assertNull ( "null value doesn't yield a null URI!", gen2.getUri ( new Article ( 1, null, "Abstract" ) ) );
+	}
+
+	@Test
+	public void testSteps ()
+	{
+		Person person = new Person ( "john.smith@somewhere.net", "John", "Smith" );
+		UriTemplateGenerator<Person> gen = new UriTemplateGenerator<> ( "ex:person/{email:hash}" );
+		assertEquals ( "Wrong hashed URI!",
+			FoafMappingTest.EXNS + "person/" + IdUtils.hashUriSignature ( person.getEmail () ), gen.getUri ( person )
+		);
+
+		UriTemplateGenerator<Article> encGen = new UriTemplateGenerator<> ( "ex:article/{title:encode}" );
+		assertEquals ( "Wrong encoded URI!",
+			FoafMappingTest.EXNS + "article/A%20b%2Fc_%C3%A8", encGen.getUri ( new Article ( 1, "A b/c_\u00e8", "Abstract" ) )
+		);
+	}
+
+	/**
+	 * A bean pointing to another one, which is used in the URI via its toString().
+	 */
+	public static class Link
+	{
+		private final Object target;
+
+		public Link ( Object target ) {
+			this.target = target;
+		}
+
+		public Object getTarget () {
+			return target;
+		}
+	}
+
+	/**
+	 * A placeholder value that uses another generator in the same thread doesn't spoil the outer URI.
+	 */
+	@Test
+	public void testReentrancy ()
+	{
+		UriTemplateGenerator<Article> articleGen = new UriTemplateGenerator<> ( "ex:article/{id}" );
+		Article article = new Article ( 12, "Title", "Abstract" );
+		Object target = new Object () {
+			@Override
+			public String toString () {
+				return articleGen.getUri ( article );
+			}
+		};
+
+		UriTemplateGenerator<Link> linkGen = new UriTemplateGenerator<> ( "http://www.example.com/link/{target}/x" );
+		assertEquals ( "Wrong URI from nested generators!",
+			"http://www.example.com/link/" + FoafMappingTest.EXNS + "article/12/x", linkGen.getUri ( new Link ( target ) )
+		);
+	}
+
+	@Test ( expected = IllegalArgumentException.class )
+	public void testUnclosedPlaceholder () {
+		new UriTemplateGenerator<> ( "ex:article/{id" );
+	}
+
+	@Test ( expected = IllegalArgumentException.class )
+	public void testUnknownStep () {
+		new UriTemplateGenerator<> ( "ex:article/{id:foo}" );
+	}
+}
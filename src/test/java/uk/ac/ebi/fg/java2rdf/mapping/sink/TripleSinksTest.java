@@ -0,0 +1,265 @@
+package uk.ac.ebi.fg.java2rdf.mapping.sink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.apache.jena.tdb2.TDB2Factory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
+
+/**
+ * Tests for the {@link TripleSink} implementations.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class TripleSinksTest
+{
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder ();
+
+	/**
+	 * A small FOAF graph, the same used in {@link uk.ac.ebi.fg.java2rdf.mapping.foaf_example.FoafMappingTest}.
+	 */
+	public static Article createTestArticle ()
+	{
+		Article article = new Article ( 
+			123, "The semantic web", "A new form of Web content that is meaningful to computers" 
+		);
+		
+		article.getAuthors ().add ( new Person ( "tbl@w3cc.com", "Tim", "Berners Lee" ) );
+		article.getAuthors ().add ( new Person ( "heendlr@cs.rpi.edu", "James", "Hendler" ) );
+		article.getAuthors ().add ( new Person ( "oral@w3.com", "Ora", "Lassila" ) );
+		article.setEditor ( new Person ( "ed@scienceamerican.com", "John", "Smith" ) );
+		
+		return article;
+	}
+	
+	/**
+	 * The output of the mapping of {@link #createTestArticle()}, made with the default model-based sink.
+	 */
+	public static Model createReferenceModel ()
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		new FoafMapperFactory ( model ).map ( createTestArticle () );
+		return model;
+	}
+	
+	@Test
+	public void testNTriples ()
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream ();
+		try ( NTriplesTripleSink sink = new NTriplesTripleSink ( out ) )
+		{
+			FoafMapperFactory mf = new FoafMapperFactory ( null );
+			mf.setTripleSink ( sink );
+			assertNull ( "Graph model isn't null for a streaming sink!", mf.getGraphModel () );
+			
+			mf.map ( createTestArticle () );
+		}
+		
+		Model model = ModelFactory.createDefaultModel ();
+		RDFDataMgr.read ( model, new ByteArrayInputStream ( out.toByteArray () ), Lang.NTRIPLES );
+
+		Model refModel = createReferenceModel ();
+		assertEquals ( "Wrong no. of triples!", refModel.size (), model.size () );
+		assertTrue ( "Streamed output differs from the model-based one!", refModel.isIsomorphicWith ( model ) );
+	}
+	
+	@Test
+	public void testNQuads ()
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream ();
+		String graphUri = "http://www.example.com/graphs/test";
+		
+		try ( NTriplesTripleSink sink = new NTriplesTripleSink ( out, graphUri ) ) {
+			new FoafMapperFactory ( null ) {{ 
+				this.setTripleSink ( sink ); 
+			}}.map ( createTestArticle () );
+		}
+
+		String nquads = new String ( out.toByteArray (), StandardCharsets.UTF_8 );
+		String[] lines = nquads.split ( "\n" );
+		assertEquals ( "Wrong no. of quads!", createReferenceModel ().size (), lines.length );
+		for ( String line: lines )
+			assertTrue ( "Graph URI not in the quad '" + line + "'!", line.endsWith ( "<" + graphUri + "> ." ) );
+	}
+	
+	@Test
+	public void testBinary ()
+	{
+		Model refModel = createReferenceModel ();
+		for ( BinaryRdfTripleSink.Encoding encoding: BinaryRdfTripleSink.Encoding.values () )
+			for ( boolean isCompressed: new boolean[] { false, true } )
+			{
+				ByteArrayOutputStream out = new ByteArrayOutputStream ();
+				try ( BinaryRdfTripleSink sink = new BinaryRdfTripleSink ( out, encoding, isCompressed ) ) {
+					new FoafMapperFactory ( null ) {{ 
+						this.setTripleSink ( sink ); 
+					}}.map ( createTestArticle () );
+				}
+				
+				Model model = ModelFactory.createDefaultModel ();
+				BinaryRdfTripleSink.read ( 
+					StreamRDFLib.graph ( model.getGraph () ), new ByteArrayInputStream ( out.toByteArray () ), encoding, isCompressed 
+				);
+				
+				String msgTail = " (" + encoding + ( isCompressed ? ", compressed" : "" ) + ")!";
+				assertEquals ( "Wrong no. of triples" + msgTail, refModel.size (), model.size () );
+				assertTrue ( "Binary output differs from the model-based one" + msgTail, refModel.isIsomorphicWith ( model ) );
+			}
+	}
+
+	@Test
+	public void testDedup ()
+	{
+		Model refModel = createReferenceModel ();
+		for ( DedupTripleSink.Mode mode: DedupTripleSink.Mode.values () )
+		{
+			ByteArrayOutputStream out = new ByteArrayOutputStream ();
+			DedupTripleSink dedupSink = new DedupTripleSink ( new NTriplesTripleSink ( out ), mode, 1000, 0.001 );
+			try ( dedupSink )
+			{
+				// Two factories, so that the second doesn't know the article was already mapped
+				for ( int i = 0; i < 2; i++ )
+					new FoafMapperFactory ( null ) {{
+						this.setTripleSink ( dedupSink );
+					}}.map ( createTestArticle () );
+			}
+
+			String nt = new String ( out.toByteArray (), StandardCharsets.UTF_8 );
+			String msgTail = " (" + mode + ")!";
+			assertEquals ( "Wrong no. of output triples" + msgTail, refModel.size (), nt.split ( "\n" ).length );
+			assertEquals ( "Wrong no. of received triples" + msgTail, 2 * refModel.size (), dedupSink.getReceivedTriples () );
+			assertEquals ( "Wrong no. of duplicates" + msgTail, refModel.size (), dedupSink.getDuplicates () );
+			assertTrue ( "No memory reported" + msgTail, dedupSink.getMemoryBytes () > 0 );
+
+			Model model = ModelFactory.createDefaultModel ();
+			RDFDataMgr.read ( model, new ByteArrayInputStream ( out.toByteArray () ), Lang.NTRIPLES );
+			assertTrue ( "Deduplicated output differs from the model-based one" + msgTail, refModel.isIsomorphicWith ( model ) );
+		}
+	}
+
+	@Test
+	public void testRdfPatch () throws IOException
+	{
+		Path storeDir = tmpFolder.newFolder ().toPath ();
+		long nrefTriples = createReferenceModel ().size ();
+		
+		// First export, everything is new
+		Article article = createTestArticle ();
+		ByteArrayOutputStream out = new ByteArrayOutputStream ();
+		RdfPatchTripleSink sink = new RdfPatchTripleSink ( storeDir, out );
+		String patch = exportPatch ( sink, out, article );
+		assertEquals ( "Wrong no. of added triples in the first patch!", nrefTriples, sink.getAddedTriples () );
+		assertEquals ( "Wrong no. of deleted triples in the first patch!", 0, sink.getDeletedTriples () );
+		assertEquals ( "Wrong no. of new subjects!", 5, sink.getNewSubjects () );
+		assertEquals ( "Wrong no. of A lines!", nrefTriples, patch.lines ().filter ( l -> l.startsWith ( "A " ) ).count () );
+		String firstPatchId = sink.getPatchId ();
+		
+		// Same data, nothing to patch
+		out = new ByteArrayOutputStream ();
+		sink = new RdfPatchTripleSink ( storeDir, out );
+		patch = exportPatch ( sink, out, createTestArticle () );
+		assertEquals ( "Wrong no. of unchanged subjects!", 5, sink.getUnchangedSubjects () );
+		assertEquals ( "Unexpected added triples!", 0, sink.getAddedTriples () );
+		assertFalse ( "Unexpected transaction in an empty patch!", patch.contains ( "TX ." ) );
+		assertTrue ( "No link to the previous patch!", patch.contains ( "H prev <" + firstPatchId + "> ." ) );
+
+		// Change the title and drop the editor, only the article and the editor should be affected 
+		article = createTestArticle ();
+		article.setTitle ( "The Semantic Web, revised" );
+		article.setEditor ( null );
+		out = new ByteArrayOutputStream ();
+		sink = new RdfPatchTripleSink ( storeDir, out );
+		patch = exportPatch ( sink, out, article );
+
+		assertEquals ( "Wrong no. of changed subjects!", 1, sink.getChangedSubjects () );
+		assertEquals ( "Wrong no. of removed subjects!", 1, sink.getRemovedSubjects () );
+		assertEquals ( "Wrong no. of unchanged subjects!", 3, sink.getUnchangedSubjects () );
+		assertTrue ( "Old title not deleted!", patch.contains ( "The semantic web\"" ) );
+		assertTrue ( "New title not added!", patch.contains ( "The Semantic Web, revised\"" ) );
+		assertTrue ( "Editor not deleted!", patch.lines ().anyMatch ( l -> l.startsWith ( "D " ) && l.contains ( "Smith" ) ) );
+		assertFalse ( "Unchanged author in the patch!", patch.contains ( "Lassila" ) );
+	}
+	
+	private static String exportPatch ( RdfPatchTripleSink sink, ByteArrayOutputStream out, Article article )
+	{
+		try ( sink ) {
+			new FoafMapperFactory ( null ) {{ 
+				this.setTripleSink ( sink ); 
+			}}.map ( article );
+		}
+		return new String ( out.toByteArray (), StandardCharsets.UTF_8 );
+	}
+	
+	@Test
+	public void testTdb2 () throws IOException 
+	{
+		testTdb2 ( false, null );
+	}
+
+	@Test
+	public void testTdb2BulkLoader () throws IOException 
+	{
+		testTdb2 ( true, "http://www.example.com/graphs/test" );
+	}
+	
+	private void testTdb2 ( boolean isBulkLoaderMode, String graphUri ) throws IOException
+	{
+		Path tdbDir = tmpFolder.newFolder ().toPath ();
+		Dataset dataset = TDB2Factory.connectDataset ( tdbDir.toString () );
+		try
+		{
+			Model refModel = createReferenceModel ();
+			int batchSize = 5;
+
+			List<Tdb2TripleSink.BatchStats> batches = new ArrayList<> ();
+			try ( Tdb2TripleSink sink = new Tdb2TripleSink ( dataset, batchSize, graphUri ) ) 
+			{
+				sink.setBulkLoaderMode ( isBulkLoaderMode );
+				sink.setBatchListener ( batches::add );
+				new FoafMapperFactory ( null ) {{ 
+					this.setTripleSink ( sink ); 
+				}}.map ( createTestArticle () );
+			}
+			
+			assertEquals ( "Wrong no. of batches!", ( refModel.size () + batchSize - 1 ) / batchSize, batches.size () );
+			assertEquals ( "Wrong total in the batch stats!", 
+				refModel.size (), batches.get ( batches.size () - 1 ).getTotalTriples () 
+			);
+			
+			dataset.executeRead ( () -> 
+			{
+				Model model = graphUri == null ? dataset.getDefaultModel () : dataset.getNamedModel ( graphUri );
+				assertEquals ( "Wrong no. of triples in TDB2!", refModel.size (), model.size () );
+				assertTrue ( "TDB2 output differs from the model-based one!", refModel.isIsomorphicWith ( model ) );
+			});
+		}
+		finally {
+			dataset.close ();
+		}
+	}
+}
@@ -0,0 +1,312 @@
+package uk.ac.ebi.fg.java2rdf.mapping.visited;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.MappingContext;
+import uk.ac.ebi.fg.java2rdf.mapping.MappingContext.Key;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
+import uk.ac.ebi.fg.java2rdf.mapping.rdfgen.RdfUriGenerator;
+import uk.ac.ebi.fg.java2rdf.utils.IdentityUriCache;
+import uk.ac.ebi.fg.java2rdf.utils.Java2RdfUtils;
+
+/**
+ * Tests for the {@link VisitedTracker} implementations.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class VisitedTrackersTest
+{
+	private static final Key<String> PREFIX_KEY = Key.of ( "test.visited.prefix", String.class );
+
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder ();
+
+	/**
+	 * A bean where all the instances are equal, to check that the identity tracker doesn't use equals(). 
+	 */
+	private static class AllEqual
+	{
+		@Override
+		public boolean equals ( Object obj ) {
+			return obj instanceof AllEqual;
+		}
+
+		@Override
+		public int hashCode () {
+			return 1;
+		}
+	}
+	
+	@Test
+	public void testEquals ()
+	{
+		VisitedTracker tracker = new EqualsVisitedTracker ();
+		assertTrue ( "First visit not reported!", tracker.visit ( new AllEqual () ) );
+		assertFalse ( "Equal object not tracked!", tracker.visit ( new AllEqual () ) );
+		assertEquals ( "Wrong size!", 1, tracker.size () );
+	}
+	
+	@Test
+	public void testIdentity ()
+	{
+		VisitedTracker tracker = new IdentityVisitedTracker ();
+		AllEqual o1 = new AllEqual (), o2 = new AllEqual ();
+		
+		assertTrue ( "First visit not reported!", tracker.visit ( o1 ) );
+		assertTrue ( "Identity not used!", tracker.visit ( o2 ) );
+		assertFalse ( "Second visit not tracked!", tracker.visit ( o1 ) );
+		assertTrue ( "isVisited() doesn't work!", tracker.isVisited ( o2 ) );
+		assertEquals ( "Wrong size!", 2, tracker.size () );
+		
+		tracker.clear ();
+		assertFalse ( "clear() doesn't work!", tracker.isVisited ( o1 ) );
+	}
+	
+	@Test
+	public void testIdentityWeakReferences () throws InterruptedException
+	{
+		IdentityVisitedTracker tracker = new IdentityVisitedTracker ();
+		Object o = new Object ();
+		WeakReference<Object> ref = new WeakReference<> ( o );
+		tracker.visit ( o );
+		
+		// Enough objects to trigger compactions, all of them must be reported as new, even with identity hash clashes 
+		List<Object> live = new ArrayList<> ();
+		for ( int i = 0; i < 200000; i++ )
+		{
+			Object oi = new Object ();
+			if ( i % 2 == 0 ) live.add ( oi );
+			assertTrue ( "Visit not reported for the object #" + i + "!", tracker.visit ( oi ) );
+		}
+		for ( Object oi: live )
+			assertFalse ( "Visit not tracked!", tracker.visit ( oi ) );
+		
+		// Collecting it can't be forced (eg, System.gc() is a no-op with -XX:+DisableExplicitGC), so the check is 
+		// skipped when it doesn't happen. That's also why it's the last one: the tracking above doesn't depend on it.
+		o = null;
+		for ( int i = 0; i < 50 && ref.get () != null; i++ ) {
+			System.gc ();
+			Thread.sleep ( 20 );
+		}
+		assumeTrue ( "The JVM didn't collect the test object, can't check the weak references", ref.get () == null );
+		
+		// Now it can be compacted away, without affecting the live objects
+		for ( int i = 0; i < 100000; i++ ) tracker.visit ( new Object () );
+		for ( Object oi: live )
+			assertTrue ( "Visit lost after compactions!", tracker.isVisited ( oi ) );
+	}
+	
+	/**
+	 * Multiple threads visiting the same objects, only one of them must get true for each object, including 
+	 * while the tables are being replaced.
+	 */
+	@Test
+	public void testIdentityConcurrency () throws Exception
+	{
+		IdentityVisitedTracker tracker = new IdentityVisitedTracker ();
+		Object[] objects = new Object [ 100000 ];
+		for ( int i = 0; i < objects.length; i++ ) objects [ i ] = new Object ();
+		
+		int nthreads = 4;
+		AtomicInteger newVisits = new AtomicInteger ( 0 );
+		ExecutorService executor = Executors.newFixedThreadPool ( nthreads );
+		try 
+		{
+			List<Future<?>> results = new ArrayList<> ();
+			for ( int t = 0; t < nthreads; t++ )
+				results.add ( executor.submit ( () -> {
+					for ( Object o: objects )
+						if ( tracker.visit ( o ) ) newVisits.incrementAndGet ();
+				}));
+			for ( Future<?> result: results ) result.get ();
+		}
+		finally {
+			executor.shutdownNow ();
+		}
+		
+		assertEquals ( "Wrong no. of new visits!", objects.length, newVisits.get () );
+		assertEquals ( "Wrong size!", objects.length, tracker.size () );
+		for ( Object o: objects )
+			assertTrue ( "Visit not tracked!", tracker.isVisited ( o ) );
+	}
+	
+	@Test
+	public void testFingerprints ()
+	{
+		FingerprintVisitedTracker tracker = new FingerprintVisitedTracker ( o -> ( (Integer) o ).longValue () );
+		for ( int i = 0; i < 100000; i++ )
+			assertTrue ( "Visit not reported for " + i + "!", tracker.visit ( i ) );
+		for ( int i = 0; i < 100000; i++ )
+			assertFalse ( "Visit not tracked for " + i + "!", tracker.visit ( i ) );
+		
+		assertEquals ( "Wrong size!", 100000, tracker.size () );
+		assertFalse ( "Wrong isVisited() result!", tracker.isVisited ( -1 ) );
+	}
+	
+	@Test
+	public void testSpilling () throws IOException
+	{
+		Path workDir = tmpFolder.newFolder ().toPath ();
+		// 2 keys per segment in memory, so that almost everything is spilled
+		try ( SpillingVisitedTracker tracker = new SpillingVisitedTracker ( 
+			o -> o instanceof Integer ? "http://www.example.com/ex/item/" + o : null, workDir, 128 ) 
+		)
+		{
+			int n = 100000;
+			for ( int i = 0; i < n; i++ )
+				assertTrue ( "Visit not reported for " + i + "!", tracker.visit ( i ) );
+			for ( int i = 0; i < n; i++ )
+				assertFalse ( "Visit not tracked for " + i + "!", tracker.visit ( i ) );
+
+			assertEquals ( "Wrong size!", n, tracker.size () );
+			assertTrue ( "Nothing spilled!", tracker.getSpilledSize () > n - 200 );
+			assertTrue ( "Too many hot keys!", tracker.getHotSize () <= 3 * 64 );
+			assertTrue ( "No disk usage reported!", tracker.getDiskBytes () > 0 );
+			
+			// No false positives
+			for ( int i = n; i < 2 * n; i++ )
+				assertFalse ( "Wrong isVisited() result for " + i + "!", tracker.isVisited ( i ) );
+			
+			// Objects without a key
+			AllEqual o1 = new AllEqual (), o2 = new AllEqual ();
+			assertTrue ( "First visit of keyless object not reported!", tracker.visit ( o1 ) );
+			assertTrue ( "Identity not used for keyless objects!", tracker.visit ( o2 ) );
+			assertFalse ( "Keyless object not tracked!", tracker.visit ( o1 ) );
+			
+			tracker.clear ();
+			assertEquals ( "clear() doesn't work!", 0, tracker.size () );
+			assertTrue ( "Visit after clear() not reported!", tracker.visit ( 1 ) );
+		}
+	}
+	
+	@Test
+	public void testUriFingerprintsInMapping ()
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		FingerprintVisitedTracker tracker = FingerprintVisitedTracker.forUris ( mf ); 
+		mf.setVisitedTracker ( tracker );
+		
+		Article article = new Article ( 1, "Test Article", "Test Abstract" );
+		Person author = new Person ( "jdoe@somewhere.net", "John", "Doe" );
+		article.getAuthors ().add ( author );
+		article.setEditor ( author );
+
+		mf.map ( article );
+		
+		assertEquals ( "Wrong no. of visited objects!", 2, tracker.size () );
+		assertTrue ( "Same-URI object not tracked!", 
+			tracker.isVisited ( new Person ( "jdoe@somewhere.net", "Johnny", "D." ) ) 
+		);
+	}
+	
+	/**
+	 * The URIs are computed with the mapping params, as the mappers do, and only once if there is a URI cache.
+	 */
+	@Test
+	public void testUriFingerprintsWithParams ()
+	{
+		Model model = ModelFactory.createDefaultModel ();
+		AtomicInteger calls = new AtomicInteger ( 0 );
+		FoafMapperFactory mf = createParamsFactory ( model, calls );
+		FingerprintVisitedTracker tracker = FingerprintVisitedTracker.forUris ( mf ); 
+		mf.setVisitedTracker ( tracker );
+		mf.setUriCache ( new IdentityUriCache () );
+		
+		Article article = new Article ( 1, "Test Article", "Test Abstract" );
+		article.getAuthors ().add ( new Person ( "jdoe@somewhere.net", "John", "Doe" ) );
+
+		mf.map ( article, MappingContext.EMPTY.with ( PREFIX_KEY, "people" ) );
+		
+		String personUri = "http://www.example.com/people/John";
+		assertTrue ( "Person URI not in the output!", model.containsResource ( model.createResource ( personUri ) ) );
+		assertTrue ( "The fingerprint isn't based on the emitted URI!", 
+			tracker.isFingerprintVisited ( Java2RdfUtils.hash64 ( personUri ) & ~1L ) 
+		);
+		assertEquals ( "The URI was computed more than once!", 1, calls.get () );
+	}
+	
+	@Test
+	public void testSpillingUrisWithParams () throws IOException
+	{
+		FoafMapperFactory mf = createParamsFactory ( ModelFactory.createDefaultModel (), new AtomicInteger ( 0 ) );
+		try ( SpillingVisitedTracker tracker = SpillingVisitedTracker.forUris ( mf, tmpFolder.newFolder ().toPath (), 128 ) )
+		{
+			mf.setVisitedTracker ( tracker );
+			
+			Article article = new Article ( 1, "Test Article", "Test Abstract" );
+			article.getAuthors ().add ( new Person ( "jdoe@somewhere.net", "John", "Doe" ) );
+			MappingContext ctx = MappingContext.EMPTY.with ( PREFIX_KEY, "people" );
+			mf.map ( article, ctx );
+			
+			assertFalse ( "The key isn't based on the emitted URI!", 
+				tracker.visit ( new Person ( "john@elsewhere.net", "John", "D." ), ctx ) 
+			);
+		}
+	}
+	
+	/**
+	 * A FOAF factory where the person URIs depend on {@link #PREFIX_KEY}, calls counts the URI generator calls.
+	 */
+	@SuppressWarnings ( "unchecked" )
+	private static FoafMapperFactory createParamsFactory ( Model model, AtomicInteger calls )
+	{
+		FoafMapperFactory result = new FoafMapperFactory ( model );
+		( (BeanRdfMapper<Person>) result.getMapper ( Person.class ) ).setRdfUriGenerator ( new RdfUriGenerator<Person> () {
+			@Override
+			public String getUri ( Person source, Map<String, Object> params ) 
+			{
+				calls.incrementAndGet ();
+				return "http://www.example.com/" + MappingContext.get ( params, PREFIX_KEY ) + "/" + source.getName ();
+			}
+		});
+		return result;
+	}
+	
+	/**
+	 * Objects without URI are tracked exactly, even when their identity hashes clash.
+	 */
+	@Test
+	public void testUriFingerprintsWithoutUri ()
+	{
+		FoafMapperFactory mf = new FoafMapperFactory ( ModelFactory.createDefaultModel () );
+		FingerprintVisitedTracker tracker = FingerprintVisitedTracker.forUris ( mf );
+		
+		// No mapper for them, 100k objects means a few clashes of the 31-bit identity hashes, on average
+		List<Object> objects = new ArrayList<> ();
+		for ( int i = 0; i < 100000; i++ )
+		{
+			Object o = new Object ();
+			objects.add ( o );
+			assertTrue ( "Visit not reported for the object #" + i + "!", tracker.visit ( o ) );
+		}
+		for ( Object o: objects )
+			assertTrue ( "Visit not tracked!", tracker.isVisited ( o ) );
+		assertEquals ( "Wrong size!", objects.size (), tracker.size () );
+	}
+}
@@ -0,0 +1,157 @@
+package uk.ac.ebi.fg.java2rdf.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.BeanRdfMapper;
+import uk.ac.ebi.fg.java2rdf.mapping.MappingContext;
+import uk.ac.ebi.fg.java2rdf.mapping.MappingContext.Key;
+import uk.ac.ebi.fg.java2rdf.mapping.ParallelMappingTest;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Person;
+
+/**
+ * Tests for {@link IdentityUriCache}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class IdentityUriCacheTest
+{
+	private static final Key<String> LANG_KEY = Key.of ( "test.uriCache.lang", String.class );
+
+	@Test
+	public void testBasics ()
+	{
+		IdentityUriCache cache = new IdentityUriCache ( 1600 );
+		AtomicInteger calls = new AtomicInteger ( 0 );
+
+		// Equal, but not the same object
+		String key1 = new String ( "key" ), key2 = new String ( "key" );
+		String uri1 = cache.getUri ( key1, k -> "http://www.example.com/test/" + calls.incrementAndGet () );
+		assertEquals ( "Cached URI not reused!", uri1, cache.getUri ( key1, k -> "http://www.example.com/test/bad" ) );
+		assertEquals ( "Wrong URI for a new object!",
+			"http://www.example.com/test/2", cache.getUri ( key2, k -> "http://www.example.com/test/" + calls.incrementAndGet () )
+		);
+		assertEquals ( "Wrong hits!", 1, cache.getHits () );
+		assertEquals ( "Wrong misses!", 2, cache.getMisses () );
+
+		// Scopes are separated
+		Object scope = new Object ();
+		assertEquals ( "Wrong URI for a new scope!",
+			"http://www.example.com/test/scoped", cache.getUri ( key1, scope, k -> "http://www.example.com/test/scoped" )
+		);
+		assertEquals ( "Scoped URI not reused!",
+			"http://www.example.com/test/scoped", cache.getUri ( key1, scope, k -> "http://www.example.com/test/bad" )
+		);
+		assertEquals ( "Unscoped URI changed!", uri1, cache.getUri ( key1, k -> "http://www.example.com/test/bad" ) );
+
+		// nulls are cached too
+		cache.getUri ( 1L, k -> null );
+		cache.getUri ( 1L, k -> { throw new IllegalStateException ( "Cached null URI not reused!" ); } );
+
+		for ( int i = 0; i < 10000; i++ )
+			cache.getUri ( new Object (), k -> "http://www.example.com/test/x" );
+		assertTrue ( "Capacity not respected!", cache.size () <= cache.getCapacity () );
+
+		cache.clear ();
+		assertEquals ( "Cache not cleared!", 0, cache.size () );
+		assertEquals ( "Stats not cleared!", 0, cache.getHits () + cache.getMisses () );
+	}
+
+	/**
+	 * An object that keeps being used isn't evicted, no matter how many other objects go through the cache.
+	 */
+	@Test
+	public void testLruEviction ()
+	{
+		IdentityUriCache cache = new IdentityUriCache ( 64 );
+		Object hot = new Object ();
+		cache.getUri ( hot, k -> "http://www.example.com/test/hot" );
+		
+		for ( int i = 0; i < 10000; i++ )
+		{
+			cache.getUri ( new Object (), k -> "http://www.example.com/test/cold" );
+			assertEquals ( "Recently used object evicted!", 
+				"http://www.example.com/test/hot", 
+				cache.getUri ( hot, k -> "http://www.example.com/test/bad" ) 
+			);
+		}
+		assertTrue ( "Capacity not respected!", cache.size () <= cache.getCapacity () );
+		assertEquals ( "Wrong hits!", 10000, cache.getHits () );
+	}
+
+	@Test
+	public void testMapping ()
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 200, 10 );
+
+		Model refModel = ModelFactory.createDefaultModel ();
+		FoafMapperFactory refMf = new FoafMapperFactory ( refModel );
+		for ( Article article: articles ) refMf.map ( article );
+
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		IdentityUriCache cache = new IdentityUriCache ( 1000 );
+		mf.setUriCache ( cache );
+		for ( Article article: articles ) mf.map ( article );
+
+		assertTrue ( "Cached output differs from the non-cached one!", refModel.isIsomorphicWith ( model ) );
+
+		// One generation per article and per person, the 4 links per article to persons are all hits
+		assertEquals ( "Wrong misses!", 200 + 10, cache.getMisses () );
+		assertEquals ( "Wrong hits!", 200 * 4, cache.getHits () );
+	}
+
+	/**
+	 * The cache works with mapping contexts too, including their per-bean scopes.
+	 */
+	@Test
+	public void testMappingContext ()
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 200, 10 );
+
+		Model refModel = ModelFactory.createDefaultModel ();
+		FoafMapperFactory refMf = new FoafMapperFactory ( refModel );
+		for ( Article article: articles ) refMf.map ( article );
+
+		for ( MappingContext ctx: new MappingContext[] { MappingContext.EMPTY, MappingContext.EMPTY.with ( LANG_KEY, "en" ) } )
+		{
+			Model model = ModelFactory.createDefaultModel ();
+			FoafMapperFactory mf = new FoafMapperFactory ( model );
+			IdentityUriCache cache = new IdentityUriCache ( 1000 );
+			mf.setUriCache ( cache );
+			for ( Article article: articles ) mf.map ( article, ctx );
+
+			assertTrue ( "Cached output differs from the non-cached one!", refModel.isIsomorphicWith ( model ) );
+			assertEquals ( "Wrong misses with " + ctx + "!", 200 + 10, cache.getMisses () );
+			assertEquals ( "Wrong hits with " + ctx + "!", 200 * 4, cache.getHits () );
+		}
+	}
+
+	@Test
+	@SuppressWarnings ( "unchecked" )
+	public void testOptOut ()
+	{
+		List<Article> articles = ParallelMappingTest.createTestArticles ( 200, 10 );
+
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		( (BeanRdfMapper<Person>) mf.getMapper ( Person.class ) ).setUriCacheable ( false );
+		IdentityUriCache cache = new IdentityUriCache ( 1000 );
+		mf.setUriCache ( cache );
+		for ( Article article: articles ) mf.map ( article );
+
+		assertEquals ( "Wrong misses!", 200, cache.getMisses () );
+		assertEquals ( "Persons were cached!", 0, cache.getHits () );
+	}
+}
@@ -0,0 +1,69 @@
+package uk.ac.ebi.fg.java2rdf.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.MappersTest.Foo;
+import uk.ac.ebi.fg.java2rdf.mapping.MappersTest.FooChild;
+
+/**
+ * Tests for {@link PropertyAccessors}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class PropertyAccessorsTest
+{
+	private final PropertyAccessors accessors = new PropertyAccessors ();
+	
+	/** Not public, so access can't be compiled in the usual way */
+	static class HiddenBean 
+	{
+		public String getValue () {
+			return "hidden value";
+		}
+	}
+	
+	@Test
+	public void testBasics ()
+	{
+		FooChild child = new FooChild ();
+		child.setName ( "Test Child" );
+		child.setPrice ( 2.5 );
+		child.setExpired ( true );
+		Foo parent = new Foo ();
+		child.setParent ( parent );
+		
+		assertEquals ( "Wrong string property!", "Test Child", accessors.getProperty ( child, "name" ) );
+		assertEquals ( "Wrong double property!", 2.5, accessors.getProperty ( child, "price" ) );
+		assertEquals ( "Wrong boolean property!", true, accessors.getProperty ( child, "expired" ) );
+		assertSame ( "Wrong object property!", parent, accessors.getProperty ( child, "parent" ) );
+		
+		assertSame ( "Accessor not cached!", 
+			accessors.getAccessor ( FooChild.class, "name" ), accessors.getAccessor ( FooChild.class, "name" ) 
+		);
+		
+		// The cache is per instance
+		PropertyAccessors otherAccessors = new PropertyAccessors ();
+		assertNotSame ( "Accessor cached globally!", 
+			accessors.getAccessor ( FooChild.class, "name" ), otherAccessors.getAccessor ( FooChild.class, "name" ) 
+		);
+		assertEquals ( "Wrong property from another instance!", "Test Child", otherAccessors.getProperty ( child, "name" ) );
+	}
+	
+	@Test
+	public void testNonPublicClass ()
+	{
+		assertEquals ( "Wrong property value!", "hidden value", accessors.getProperty ( new HiddenBean (), "value" ) );
+	}
+	
+	@Test ( expected = IllegalArgumentException.class )
+	public void testNonExistingProperty ()
+	{
+		accessors.getProperty ( new Foo (), "foo" );
+	}
+}
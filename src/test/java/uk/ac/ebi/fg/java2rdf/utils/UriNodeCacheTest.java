@@ -0,0 +1,65 @@
+package uk.ac.ebi.fg.java2rdf.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.Test;
+
+import uk.ac.ebi.fg.java2rdf.mapping.ParallelMappingTest;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.mapping.FoafMapperFactory;
+import uk.ac.ebi.fg.java2rdf.mapping.foaf_example.model.Article;
+
+/**
+ * Tests for {@link UriNodeCache}.
+ *
+ * @author brandizi
+ * <dl><dt>Date:</dt><dd>17 Oct 2026</dd></dl>
+ *
+ */
+public class UriNodeCacheTest
+{
+	@Test
+	public void testBasics ()
+	{
+		UriNodeCache cache = new UriNodeCache ( 1600 );
+		Node n1 = cache.getNode ( "http://www.example.com/test/1" );
+		Node n2 = cache.getNode ( "http://www.example.com/test/" + 1 );
+		
+		assertSame ( "Cached node not reused!", n1, n2 );
+		assertEquals ( "Wrong URI!", "http://www.example.com/test/1", n1.getURI () );
+		assertEquals ( "Wrong hits!", 1, cache.getHits () );
+		assertEquals ( "Wrong misses!", 1, cache.getMisses () );
+		
+		for ( int i = 0; i < 10000; i++ ) 
+			cache.getNode ( "http://www.example.com/test/" + i );
+		assertTrue ( "Capacity not respected!", cache.size () <= cache.getCapacity () );
+		
+		cache.clear ();
+		assertEquals ( "Cache not cleared!", 0, cache.size () );
+		assertEquals ( "Stats not cleared!", 0, cache.getHits () + cache.getMisses () );
+	}
+	
+	@Test
+	public void testMapping ()
+	{
+		Iterable<Article> articles = ParallelMappingTest.createTestArticles ( 200, 10 );
+		
+		Model refModel = ModelFactory.createDefaultModel ();
+		FoafMapperFactory refMf = new FoafMapperFactory ( refModel );
+		for ( Article article: articles ) refMf.map ( article );
+		
+		Model model = ModelFactory.createDefaultModel ();
+		FoafMapperFactory mf = new FoafMapperFactory ( model );
+		UriNodeCache cache = new UriNodeCache ( 1000 );
+		mf.setUriNodeCache ( cache );
+		for ( Article article: articles ) mf.map ( article );
+
+		assertTrue ( "Cached output differs from the non-cached one!", refModel.isIsomorphicWith ( model ) );
+		// Persons are shared by the articles 
+		assertTrue ( "No cache hits!", cache.getHits () > cache.getMisses () );
+	}
+}